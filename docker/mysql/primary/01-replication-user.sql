@@ -0,0 +1,5 @@
+-- Replication account for the local replica; kept out of the binlog so the replica does not replay it
+SET SQL_LOG_BIN = 0;
+CREATE USER 'repl'@'%' IDENTIFIED BY 'repl';
+GRANT REPLICATION SLAVE ON *.* TO 'repl'@'%';
+SET SQL_LOG_BIN = 1;
@@ -0,0 +1,15 @@
+-- Schema the primary creates is replayed here; created locally too (outside the binlog) in case the
+-- primary's CREATE DATABASE predates the binlog, which the IF NOT EXISTS replay then tolerates
+SET SQL_LOG_BIN = 0;
+CREATE DATABASE IF NOT EXISTS organlink_db;
+SET SQL_LOG_BIN = 1;
+
+-- Follow the primary by GTID; the replication threads keep retrying until the primary accepts connections
+CHANGE REPLICATION SOURCE TO
+    SOURCE_HOST = 'mysql-primary',
+    SOURCE_PORT = 3306,
+    SOURCE_USER = 'repl',
+    SOURCE_PASSWORD = 'repl',
+    SOURCE_AUTO_POSITION = 1,
+    GET_SOURCE_PUBLIC_KEY = 1;
+START REPLICA;
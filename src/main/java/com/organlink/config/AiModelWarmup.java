@@ -0,0 +1,74 @@
+package com.organlink.config;
+
+import com.organlink.service.AIMatchingService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI model warm-up at startup
+ * Loads the matching model and pre-warms the JIT before the node reports readiness,
+ * so /actuator/health/readiness only goes UP once matching requests are fast.
+ */
+@Component("aiModel")
+public class AiModelWarmup implements HealthIndicator {
+
+    private static final Logger logger = LoggerFactory.getLogger(AiModelWarmup.class);
+
+    @Autowired
+    private AIMatchingService aiMatchingService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${ai.warmup.enabled:true}")
+    private boolean warmupEnabled;
+
+    @Value("${ai.warmup.iterations:2000}")
+    private int warmupIterations;
+
+    private volatile String warmupError;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpOnStartup() {
+        if (!warmupEnabled) {
+            return;
+        }
+
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        try {
+            logger.info("🔥 Warming up AI matching model ({} synthetic scores)...", warmupIterations);
+            aiMatchingService.warmUp(warmupIterations);
+        } catch (Exception e) {
+            // Don't keep the node out of rotation forever; matching falls back to lazy loading
+            warmupError = e.getMessage();
+            logger.error("❌ AI model warm-up failed: {}", e.getMessage(), e);
+        } finally {
+            AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+        }
+    }
+
+    @Override
+    public Health health() {
+        if (aiMatchingService.isModelReady()) {
+            return Health.up().withDetail("warmupIterations", warmupIterations).build();
+        }
+        if (!warmupEnabled) {
+            return Health.unknown().withDetail("warmup", "disabled").build();
+        }
+        Health.Builder builder = Health.outOfService();
+        if (warmupError != null) {
+            builder.withDetail("error", warmupError);
+        }
+        return builder.build();
+    }
+}
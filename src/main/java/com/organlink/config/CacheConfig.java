@@ -0,0 +1,46 @@
+package com.organlink.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Cache configuration for OrganLink
+ * Dashboard and stats responses are cached in-process (Caffeine), bounded by
+ * organlink.cache.max-entries and expired after organlink.cache.ttl seconds.
+ * Evictions issued inside a transaction are deferred until it commits.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String HOSPITAL_DASHBOARD = "hospitalDashboardStats";
+    public static final String ORGANIZATION_DASHBOARD = "organizationDashboardStats";
+    public static final String ADMIN_STATS = "adminSystemStats";
+
+    @Value("${organlink.cache.ttl:3600}")
+    private long ttlSeconds;
+
+    @Value("${organlink.cache.max-entries:1000}")
+    private long maxEntries;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()); // exposed as cache.gets{result=hit|miss} via /actuator/metrics
+        cacheManager.setCacheNames(List.of(HOSPITAL_DASHBOARD, ORGANIZATION_DASHBOARD, ADMIN_STATS));
+        cacheManager.setAllowNullValues(false);
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
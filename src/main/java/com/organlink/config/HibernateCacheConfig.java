@@ -0,0 +1,97 @@
+package com.organlink.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.organlink.entity.Hospital;
+import com.organlink.entity.Organization;
+import com.organlink.entity.Policy;
+import com.organlink.entity.User;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hibernate second-level cache regions
+ * Hospital, Organization, User and Policy rows plus cached lookup queries live in size-bounded,
+ * per-node Caffeine regions. Writes through Hibernate update or invalidate them on commit; the TTL
+ * bounds how long another node (or a write made outside Hibernate) can leave an entry stale.
+ * Hit/miss counts are published by Hibernate statistics as hibernate.second.level.cache.requests
+ * and hibernate.cache.query.requests via /actuator/metrics.
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    @Value("${organlink.entity-cache.ttl:600}")
+    private long ttlSeconds;
+
+    @Value("${organlink.entity-cache.hospitals:2000}")
+    private long hospitalEntries;
+
+    @Value("${organlink.entity-cache.organizations:1000}")
+    private long organizationEntries;
+
+    @Value("${organlink.entity-cache.users:10000}")
+    private long userEntries;
+
+    @Value("${organlink.entity-cache.policies:2000}")
+    private long policyEntries;
+
+    @Value("${organlink.entity-cache.query-results:5000}")
+    private long queryResultEntries;
+
+    @Value("${organlink.entity-cache.query-ttl:60}")
+    private long queryTtlSeconds;
+
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        // Own manager URI per application context, so test contexts and restarts never share regions
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("organlink-hibernate-" + System.identityHashCode(this)), provider.getDefaultClassLoader());
+        cacheManager.createCache(Hospital.class.getName(), region(hospitalEntries, ttlSeconds));
+        cacheManager.createCache(Organization.class.getName(), region(organizationEntries, ttlSeconds));
+        cacheManager.createCache(User.class.getName(), region(userEntries, ttlSeconds));
+        cacheManager.createCache(Policy.class.getName(), region(policyEntries, ttlSeconds));
+        // Shorter: a result read from a lagging replica just after a write is cached as if it were current
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                region(queryResultEntries, queryTtlSeconds));
+        // One entry per table; must never be evicted, or cached query results would look up to date
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, region(0, 0));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            // Every cached entity or query must use one of the bounded regions above
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private CaffeineConfiguration<Object, Object> region(long maximumSize, long expireAfterWriteSeconds) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false); // Hibernate already stores disassembled state
+        if (maximumSize > 0) {
+            configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        }
+        if (expireAfterWriteSeconds > 0) {
+            configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(expireAfterWriteSeconds)));
+        }
+        return configuration;
+    }
+}
@@ -0,0 +1,126 @@
+package com.organlink.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-replica configuration (organlink.datasource.replica.enabled=true)
+ * Replaces the auto-configured DataSource with a lazy proxy over ReplicaRoutingDataSource:
+ * {@code @Transactional(readOnly = true)} work is served by the replicas, writes and
+ * non-transactional access stay on the primary pool from spring.datasource.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "organlink.datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaDataSourceConfig.class);
+
+    @Value("${organlink.datasource.replica.urls}")
+    private List<String> replicaUrls;
+
+    @Value("${organlink.datasource.replica.username:${spring.datasource.username}}")
+    private String replicaUsername;
+
+    @Value("${organlink.datasource.replica.password:${spring.datasource.password}}")
+    private String replicaPassword;
+
+    @Value("${organlink.datasource.replica.pool-size:10}")
+    private int replicaPoolSize;
+
+    @Value("${organlink.datasource.replica.connection-timeout:2000}")
+    private long replicaConnectionTimeout;
+
+    @Value("${organlink.datasource.replica.max-lag:5}")
+    private long maxLagSeconds;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             DataSourceProperties properties,
+                                                             ObjectProvider<MeterRegistry> meterRegistry) {
+        List<HikariDataSource> pools = new ArrayList<>();
+        for (String url : replicaUrls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("replica-" + (pools.size() + 1));
+            pool.setJdbcUrl(url.trim());
+            pool.setUsername(replicaUsername);
+            pool.setPassword(replicaPassword);
+            pool.setDriverClassName(properties.determineDriverClassName());
+            pool.setMaximumPoolSize(replicaPoolSize);
+            // Fail fast so a dead replica costs a read at most this long before it falls back to the primary
+            pool.setConnectionTimeout(replicaConnectionTimeout);
+            // Open lazily: an unreachable replica must not stop the application from starting
+            pool.setInitializationFailTimeout(-1);
+            pool.setReadOnly(true);
+            // Not a bean, so Boot's hikaricp.* pool metrics are registered here (the primary gets them automatically)
+            meterRegistry.ifAvailable(pool::setMetricRegistry);
+            pools.add(pool);
+        }
+        logger.info("📚 Read replicas configured: {} (max lag {}s)", pools.size(), maxLagSeconds);
+        return new ReplicaRoutingDataSource(primaryDataSource, pools, maxLagSeconds);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean("replicas")
+    public HealthIndicator replicaHealthIndicator(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        // Reads still work through the primary, so missing replicas degrade rather than fail the node
+        return () -> (replicaRoutingDataSource.hasHealthyReplica() ? Health.up() : Health.unknown())
+                .withDetails(replicaRoutingDataSource.getReplicaStatus())
+                .build();
+    }
+
+    @Bean
+    public ReplicaLagCheck replicaLagCheck(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new ReplicaLagCheck(replicaRoutingDataSource);
+    }
+
+    /**
+     * Periodic replica lag check; the first run happens right after startup
+     */
+    public static class ReplicaLagCheck {
+
+        private final ReplicaRoutingDataSource routingDataSource;
+
+        ReplicaLagCheck(ReplicaRoutingDataSource routingDataSource) {
+            this.routingDataSource = routingDataSource;
+        }
+
+        @Scheduled(fixedDelayString = "${organlink.datasource.replica.check-interval:5000}")
+        public void check() {
+            routingDataSource.checkReplicas();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.organlink.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Read/write splitting DataSource
+ * Connections requested inside a read-only transaction go to a healthy replica (round robin), everything
+ * else to the primary. A replica is healthy while its last lag check succeeded within the configured lag;
+ * with none healthy, or when a replica refuses a connection, reads fall back to the primary.
+ * Must sit behind a LazyConnectionDataSourceProxy so the connection is fetched after the transaction's
+ * read-only flag is known.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private final DataSource primary;
+
+    private final List<Replica> replicas = new ArrayList<>();
+
+    private final long maxLagSeconds;
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<HikariDataSource> replicaPools, long maxLagSeconds) {
+        this.primary = primary;
+        this.maxLagSeconds = maxLagSeconds;
+        for (HikariDataSource pool : replicaPools) {
+            replicas.add(new Replica(pool));
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Replica replica = TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? chooseReplica() : null;
+        if (replica == null) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.pool.getConnection();
+        } catch (SQLException e) {
+            replica.markDown("connection failed: " + e.getMessage());
+            logger.warn("⚠️ Replica {} unavailable, reading from primary: {}", replica.pool.getPoolName(), e.getMessage());
+            return primary.getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * Refresh replica health from SHOW REPLICA STATUS (MySQL 8.0.22+, needs REPLICATION CLIENT)
+     */
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.pool.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+                if (!rs.next()) {
+                    replica.markDown("not configured as a replica");
+                    continue;
+                }
+                long lag = rs.getLong("Seconds_Behind_Source");
+                if (rs.wasNull()) {
+                    replica.markDown("replication threads not running");
+                } else if (lag > maxLagSeconds) {
+                    replica.markDown("lag " + lag + "s exceeds " + maxLagSeconds + "s");
+                } else {
+                    replica.markUp(lag);
+                }
+            } catch (SQLException e) {
+                replica.markDown("lag check failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Per-replica state for the health endpoint
+     */
+    public Map<String, Object> getReplicaStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        for (Replica replica : replicas) {
+            Map<String, Object> details = new LinkedHashMap<>();
+            details.put("healthy", replica.healthy);
+            details.put("lagSeconds", replica.lagSeconds);
+            if (replica.reason != null) {
+                details.put("reason", replica.reason);
+            }
+            status.put(replica.pool.getPoolName(), details);
+        }
+        return status;
+    }
+
+    public boolean hasHealthyReplica() {
+        return replicas.stream().anyMatch(replica -> replica.healthy);
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(replica -> replica.pool.close());
+    }
+
+    private Replica chooseReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private static final class Replica {
+        private final HikariDataSource pool;
+        // Unhealthy until the first lag check passes, so nothing is read from an unknown replica
+        private volatile boolean healthy;
+        private volatile Long lagSeconds;
+        private volatile String reason = "not checked yet";
+
+        Replica(HikariDataSource pool) {
+            this.pool = pool;
+        }
+
+        void markUp(long lag) {
+            if (!healthy) {
+                logger.info("✅ Replica {} is serving reads (lag {}s)", pool.getPoolName(), lag);
+            }
+            healthy = true;
+            lagSeconds = lag;
+            reason = null;
+        }
+
+        void markDown(String why) {
+            if (healthy) {
+                logger.warn("⚠️ Replica {} taken out of read rotation: {}", pool.getPoolName(), why);
+            }
+            healthy = false;
+            lagSeconds = null;
+            reason = why;
+        }
+    }
+}
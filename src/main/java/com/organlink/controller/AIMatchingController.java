@@ -1,9 +1,14 @@
 package com.organlink.controller;
 
 import com.organlink.dto.ApiResponse;
-import com.organlink.entity.Match;
+import com.organlink.dto.CursorPage;
+import com.organlink.dto.MatchSummary;
+import com.organlink.dto.MatchingJobStatus;
+import com.organlink.entity.MatchStatus;
 import com.organlink.service.AIMatchingService;
+import com.organlink.service.MatchingJobService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -23,16 +28,21 @@ import java.util.Optional;
 @PreAuthorize("hasRole('HOSPITAL')")
 public class AIMatchingController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     @Autowired
     private AIMatchingService aiMatchingService;
 
+    @Autowired
+    private MatchingJobService matchingJobService;
+
     /**
      * Find matches for a patient using AI algorithms
      */
     @PostMapping("/find-matches/{patientId}")
-    public ResponseEntity<ApiResponse<List<Match>>> findMatchesForPatient(@PathVariable Long patientId) {
+    public ResponseEntity<ApiResponse<List<MatchSummary>>> findMatchesForPatient(@PathVariable Long patientId) {
         try {
-            List<Match> matches = aiMatchingService.findMatchesForPatient(patientId);
+            List<MatchSummary> matches = aiMatchingService.findMatchesForPatient(patientId);
             return ResponseEntity.ok(ApiResponse.success("AI matches found for patient", matches));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -44,9 +54,9 @@ public class AIMatchingController {
      * Get match details by match ID
      */
     @GetMapping("/matches/{matchId}")
-    public ResponseEntity<ApiResponse<Match>> getMatchById(@PathVariable String matchId) {
+    public ResponseEntity<ApiResponse<MatchSummary>> getMatchById(@PathVariable String matchId) {
         try {
-            Optional<Match> match = aiMatchingService.getMatchById(matchId);
+            Optional<MatchSummary> match = aiMatchingService.getMatchById(matchId);
             if (match.isPresent()) {
                 return ResponseEntity.ok(ApiResponse.success("Match details retrieved", match.get()));
             } else {
@@ -62,9 +72,9 @@ public class AIMatchingController {
      * Accept a match
      */
     @PostMapping("/matches/{matchId}/accept")
-    public ResponseEntity<ApiResponse<Match>> acceptMatch(@PathVariable String matchId) {
+    public ResponseEntity<ApiResponse<MatchSummary>> acceptMatch(@PathVariable String matchId) {
         try {
-            Match acceptedMatch = aiMatchingService.acceptMatch(matchId);
+            MatchSummary acceptedMatch = aiMatchingService.acceptMatch(matchId);
             return ResponseEntity.ok(ApiResponse.success("Match accepted successfully", acceptedMatch));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -76,12 +86,12 @@ public class AIMatchingController {
      * Reject a match
      */
     @PostMapping("/matches/{matchId}/reject")
-    public ResponseEntity<ApiResponse<Match>> rejectMatch(
+    public ResponseEntity<ApiResponse<MatchSummary>> rejectMatch(
             @PathVariable String matchId,
             @RequestBody Map<String, String> rejectionRequest) {
         try {
             String reason = rejectionRequest.getOrDefault("reason", "No reason provided");
-            Match rejectedMatch = aiMatchingService.rejectMatch(matchId, reason);
+            MatchSummary rejectedMatch = aiMatchingService.rejectMatch(matchId, reason);
             return ResponseEntity.ok(ApiResponse.success("Match rejected", rejectedMatch));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -90,14 +100,22 @@ public class AIMatchingController {
     }
 
     /**
-     * Get all matches for a hospital (including cross-hospital matches)
+     * Get matches for a hospital (including cross-hospital matches), newest first.
+     * Cursor-paginated: pass the previous page's nextCursor to continue.
      */
     @GetMapping("/hospital-matches")
-    public ResponseEntity<ApiResponse<List<Match>>> getHospitalMatches(
+    public ResponseEntity<ApiResponse<CursorPage<MatchSummary>>> getHospitalMatches(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) MatchStatus status,
+            @RequestParam(required = false) String organ,
+            @RequestParam(required = false) Double minScore,
             Authentication authentication) {
         try {
             String hospitalId = getHospitalIdFromAuth(authentication);
-            List<Match> matches = aiMatchingService.getMatchesForHospital(hospitalId);
+            int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+            CursorPage<MatchSummary> matches = aiMatchingService.getMatchPageForHospital(
+                    hospitalId, status, organ, minScore, cursor, pageSize);
             return ResponseEntity.ok(ApiResponse.success("Hospital matches retrieved", matches));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -123,6 +141,64 @@ public class AIMatchingController {
         }
     }
 
+    /**
+     * Submit AI matching for all waiting patients in a hospital as a background job
+     */
+    @PostMapping("/matching-jobs")
+    public ResponseEntity<ApiResponse<MatchingJobStatus>> submitMatchingJob(
+            Authentication authentication) {
+        try {
+            String hospitalId = getHospitalIdFromAuth(authentication);
+            MatchingJobStatus job = matchingJobService.submitHospitalMatching(hospitalId);
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(ApiResponse.success("AI matching job submitted", job));
+        } catch (MatchingJobService.MatchingJobRejectedException e) {
+            // 409 while the hospital's own job runs, 429 when the shared queue is full
+            return ResponseEntity.status(e.isAlreadyRunning() ? HttpStatus.CONFLICT : HttpStatus.TOO_MANY_REQUESTS)
+                    .body(ApiResponse.error("AI matching job not accepted", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to submit AI matching job", e.getMessage()));
+        }
+    }
+
+    /**
+     * Get progress or results of a matching job
+     */
+    @GetMapping("/matching-jobs/{jobId}")
+    public ResponseEntity<ApiResponse<MatchingJobStatus>> getMatchingJob(
+            @PathVariable String jobId,
+            Authentication authentication) {
+        try {
+            String hospitalId = getHospitalIdFromAuth(authentication);
+            Optional<MatchingJobStatus> job = matchingJobService.getJob(jobId, hospitalId);
+            if (job.isPresent()) {
+                return ResponseEntity.ok(ApiResponse.success("Matching job retrieved", job.get()));
+            } else {
+                return ResponseEntity.notFound().build();
+            }
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to retrieve matching job", e.getMessage()));
+        }
+    }
+
+    /**
+     * List retained matching jobs for the hospital
+     */
+    @GetMapping("/matching-jobs")
+    public ResponseEntity<ApiResponse<List<MatchingJobStatus>>> getMatchingJobs(
+            Authentication authentication) {
+        try {
+            String hospitalId = getHospitalIdFromAuth(authentication);
+            List<MatchingJobStatus> jobs = matchingJobService.getJobsForHospital(hospitalId);
+            return ResponseEntity.ok(ApiResponse.success("Matching jobs retrieved", jobs));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to retrieve matching jobs", e.getMessage()));
+        }
+    }
+
     // Helper method to extract hospital ID from authentication
     private String getHospitalIdFromAuth(Authentication authentication) {
         com.organlink.security.CustomUserDetailsService.CustomUserPrincipal principal = 
@@ -1,17 +1,38 @@
 package com.organlink.controller;
 
+import com.organlink.dto.AnalyticsQuery;
+import com.organlink.dto.AnalyticsResult;
 import com.organlink.dto.ApiResponse;
+import com.organlink.dto.CursorPage;
+import com.organlink.dto.HospitalDetail;
+import com.organlink.dto.HospitalSummary;
+import com.organlink.dto.KpiReportRunStatus;
+import com.organlink.dto.OrganizationDetail;
+import com.organlink.dto.QueryPlanFinding;
+import com.organlink.dto.TrendPoint;
 import com.organlink.entity.*;
 import com.organlink.service.AdminService;
+import com.organlink.service.AnalyticsSnapshotService;
+import com.organlink.service.DashboardEventService;
+import com.organlink.service.KpiReportService;
+import com.organlink.service.QueryPlanCheckService;
+import com.organlink.service.RegistryRollupService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -25,9 +46,26 @@ import java.util.Optional;
 @PreAuthorize("hasRole('ADMIN')")
 public class AdminController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     @Autowired
     private AdminService adminService;
 
+    @Autowired
+    private RegistryRollupService registryRollupService;
+
+    @Autowired
+    private AnalyticsSnapshotService analyticsSnapshotService;
+
+    @Autowired
+    private DashboardEventService dashboardEventService;
+
+    @Autowired
+    private KpiReportService kpiReportService;
+
+    @Autowired
+    private QueryPlanCheckService queryPlanCheckService;
+
     /**
      * Get system statistics for admin dashboard
      */
@@ -42,18 +80,196 @@ public class AdminController {
         }
     }
 
+    /**
+     * Live system statistics stream: one "snapshot" event, then "delta" events
+     */
+    @GetMapping(value = "/stats/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<?> streamSystemStats() {
+        try {
+            SseEmitter emitter = dashboardEventService.subscribe(DashboardEventService.ADMIN_CHANNEL,
+                    adminService::getSystemStatsSnapshot);
+            return ResponseEntity.ok(emitter);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(ApiResponse.error("Failed to open system statistics stream", e.getMessage()));
+        }
+    }
+
+    /**
+     * Get a registry trend series (daily or weekly) from the rollup tables
+     */
+    @GetMapping("/trends")
+    public ResponseEntity<ApiResponse<List<TrendPoint>>> getTrend(
+            @RequestParam RollupMetric metric,
+            @RequestParam(defaultValue = "DAY") RollupGranularity granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            LocalDate end = to != null ? to : LocalDate.now();
+            LocalDate start = from != null ? from : end.minusDays(30);
+            List<TrendPoint> series = registryRollupService.getTrend(metric, granularity, start, end);
+            return ResponseEntity.ok(ApiResponse.success("Trend retrieved", series));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to retrieve trend", e.getMessage()));
+        }
+    }
+
+    /**
+     * Run the trend rollup now instead of waiting for the nightly schedule
+     */
+    @PostMapping("/trends/rollup")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> runTrendRollup() {
+        try {
+            int days = registryRollupService.runRollup();
+            if (days < 0) {
+                return ResponseEntity.badRequest()
+                        .body(ApiResponse.error("Rollup already running", "Try again later"));
+            }
+            return ResponseEntity.ok(ApiResponse.success("Trend rollup completed", Map.of("daysRolledUp", days)));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to run trend rollup", e.getMessage()));
+        }
+    }
+
+    /**
+     * Describe the analytics snapshot (datasets, dimensions, measures)
+     */
+    @GetMapping("/analytics")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> describeAnalytics() {
+        try {
+            return ResponseEntity.ok(ApiResponse.success("Analytics datasets retrieved", analyticsSnapshotService.describe()));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to describe analytics datasets", e.getMessage()));
+        }
+    }
+
+    /**
+     * Run an ad-hoc filter/group-by query against the in-memory analytics snapshot
+     */
+    @PostMapping("/analytics/query")
+    public ResponseEntity<ApiResponse<AnalyticsResult>> queryAnalytics(@RequestBody AnalyticsQuery query) {
+        try {
+            AnalyticsResult result = analyticsSnapshotService.query(query);
+            return ResponseEntity.ok(ApiResponse.success("Analytics query completed", result));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Analytics query failed", e.getMessage()));
+        }
+    }
+
+    // KPI Report Endpoints
+
+    /**
+     * Start a background KPI report run for every hospital (defaults to the previous calendar month)
+     */
+    @PostMapping("/reports/kpi")
+    public ResponseEntity<ApiResponse<KpiReportRunStatus>> generateKpiReports(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            LocalDate start = from != null ? from : LocalDate.now().minusMonths(1).withDayOfMonth(1);
+            LocalDate end = to != null ? to : start.withDayOfMonth(start.lengthOfMonth());
+            KpiReportRunStatus run = kpiReportService.submit(start, end);
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(ApiResponse.success("KPI report run submitted", run));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to submit KPI report run", e.getMessage()));
+        }
+    }
+
+    /**
+     * List retained KPI report runs, newest first
+     */
+    @GetMapping("/reports/kpi/runs")
+    public ResponseEntity<ApiResponse<List<KpiReportRunStatus>>> getKpiReportRuns() {
+        return ResponseEntity.ok(ApiResponse.success("KPI report runs retrieved", kpiReportService.getRuns()));
+    }
+
+    /**
+     * Get progress of a KPI report run
+     */
+    @GetMapping("/reports/kpi/runs/{batchId}")
+    public ResponseEntity<ApiResponse<KpiReportRunStatus>> getKpiReportRun(@PathVariable String batchId) {
+        Optional<KpiReportRunStatus> run = kpiReportService.getRun(batchId);
+        if (run.isPresent()) {
+            return ResponseEntity.ok(ApiResponse.success("KPI report run retrieved", run.get()));
+        } else {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Get all hospital reports written by a run
+     */
+    @GetMapping("/reports/kpi/runs/{batchId}/reports")
+    public ResponseEntity<ApiResponse<List<KpiReport>>> getKpiReportsForRun(@PathVariable String batchId) {
+        try {
+            List<KpiReport> reports = kpiReportService.getReportsForBatch(batchId);
+            return ResponseEntity.ok(ApiResponse.success("KPI reports retrieved", reports));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to retrieve KPI reports", e.getMessage()));
+        }
+    }
+
+    /**
+     * Get a single KPI report by report ID
+     */
+    @GetMapping("/reports/kpi/{reportId}")
+    public ResponseEntity<ApiResponse<KpiReport>> getKpiReport(@PathVariable String reportId) {
+        Optional<KpiReport> report = kpiReportService.getReport(reportId);
+        if (report.isPresent()) {
+            return ResponseEntity.ok(ApiResponse.success("KPI report retrieved", report.get()));
+        } else {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    // Diagnostics Endpoints
+
+    /**
+     * EXPLAIN the statements recorded by performance_schema and list those that fall back to full scans
+     */
+    @GetMapping("/diagnostics/query-plans")
+    public ResponseEntity<ApiResponse<List<QueryPlanFinding>>> checkQueryPlans() {
+        try {
+            List<QueryPlanFinding> findings = queryPlanCheckService.check();
+            return ResponseEntity.ok(ApiResponse.success("Query plan check completed", findings));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Query plan check failed", e.getMessage()));
+        }
+    }
+
     // Hospital Management Endpoints
 
     /**
-     * Get all hospitals with pagination
+     * Get all hospitals with pagination; count=false skips the total count.
+     * Passing cursor (or mode=keyset) switches to newest-first keyset pages; pass the previous page's
+     * nextCursor to continue.
      */
     @GetMapping("/hospitals")
-    public ResponseEntity<ApiResponse<Page<Hospital>>> getHospitals(
+    public ResponseEntity<ApiResponse<?>> getHospitals(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "true") boolean count,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String mode) {
         try {
-            Pageable pageable = PageRequest.of(page, size);
-            Page<Hospital> hospitals = adminService.getHospitals(pageable);
+            int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+            if (cursor != null || "keyset".equalsIgnoreCase(mode)) {
+                CursorPage<HospitalSummary> hospitals = adminService.getHospitalPage(cursor, pageSize);
+                return ResponseEntity.ok(ApiResponse.success("Hospitals retrieved", hospitals));
+            }
+            Pageable pageable = PageRequest.of(page, pageSize);
+            Slice<HospitalSummary> hospitals = count
+                    ? adminService.getHospitals(pageable)
+                    : adminService.getHospitalSlice(pageable);
             return ResponseEntity.ok(ApiResponse.success("Hospitals retrieved", hospitals));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -65,9 +281,9 @@ public class AdminController {
      * Get hospital by ID
      */
     @GetMapping("/hospitals/{id}")
-    public ResponseEntity<ApiResponse<Hospital>> getHospitalById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<HospitalDetail>> getHospitalById(@PathVariable Long id) {
         try {
-            Optional<Hospital> hospital = adminService.getHospitalById(id);
+            Optional<HospitalDetail> hospital = adminService.getHospitalById(id);
             if (hospital.isPresent()) {
                 return ResponseEntity.ok(ApiResponse.success("Hospital retrieved", hospital.get()));
             } else {
@@ -83,7 +299,7 @@ public class AdminController {
      * Create new hospital
      */
     @PostMapping("/hospitals")
-    public ResponseEntity<ApiResponse<Hospital>> createHospital(@Valid @RequestBody Hospital hospital) {
+    public ResponseEntity<ApiResponse<HospitalDetail>> createHospital(@Valid @RequestBody Hospital hospital) {
         try {
             System.out.println("🏥 Hospital creation request received:");
             System.out.println("Hospital Name: " + hospital.getHospitalName());
@@ -91,7 +307,7 @@ public class AdminController {
             System.out.println("City: " + hospital.getCity());
             System.out.println("State: " + hospital.getState());
 
-            Hospital createdHospital = adminService.createHospital(hospital);
+            HospitalDetail createdHospital = adminService.createHospital(hospital);
 
             System.out.println("✅ Hospital created successfully with ID: " + createdHospital.getHospitalId());
 
@@ -108,11 +324,11 @@ public class AdminController {
      * Update hospital
      */
     @PutMapping("/hospitals/{id}")
-    public ResponseEntity<ApiResponse<Hospital>> updateHospital(
+    public ResponseEntity<ApiResponse<HospitalDetail>> updateHospital(
             @PathVariable Long id, 
             @Valid @RequestBody Hospital hospital) {
         try {
-            Hospital updatedHospital = adminService.updateHospital(id, hospital);
+            HospitalDetail updatedHospital = adminService.updateHospital(id, hospital);
             return ResponseEntity.ok(ApiResponse.success("Hospital updated successfully", updatedHospital));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -138,9 +354,9 @@ public class AdminController {
      * Get hospital by hospital ID (for viewing details)
      */
     @GetMapping("/hospitals/view/{hospitalId}")
-    public ResponseEntity<ApiResponse<Hospital>> getHospitalByHospitalId(@PathVariable String hospitalId) {
+    public ResponseEntity<ApiResponse<HospitalDetail>> getHospitalByHospitalId(@PathVariable String hospitalId) {
         try {
-            Optional<Hospital> hospital = adminService.getHospitalByHospitalId(hospitalId);
+            Optional<HospitalDetail> hospital = adminService.getHospitalByHospitalId(hospitalId);
             if (hospital.isPresent()) {
                 return ResponseEntity.ok(ApiResponse.success("Hospital details retrieved", hospital.get()));
             } else {
@@ -156,12 +372,12 @@ public class AdminController {
      * Update hospital status
      */
     @PatchMapping("/hospitals/{id}/status")
-    public ResponseEntity<ApiResponse<Hospital>> updateHospitalStatus(
+    public ResponseEntity<ApiResponse<HospitalDetail>> updateHospitalStatus(
             @PathVariable Long id,
             @RequestBody Map<String, String> statusUpdate) {
         try {
             HospitalStatus status = HospitalStatus.valueOf(statusUpdate.get("status"));
-            Hospital updatedHospital = adminService.updateHospitalStatus(id, status);
+            HospitalDetail updatedHospital = adminService.updateHospitalStatus(id, status);
             return ResponseEntity.ok(ApiResponse.success("Hospital status updated", updatedHospital));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -173,13 +389,13 @@ public class AdminController {
      * Search hospitals
      */
     @GetMapping("/hospitals/search")
-    public ResponseEntity<ApiResponse<Page<Hospital>>> searchHospitals(
+    public ResponseEntity<ApiResponse<Page<HospitalSummary>>> searchHospitals(
             @RequestParam(required = false) String q,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
         try {
             Pageable pageable = PageRequest.of(page, size);
-            Page<Hospital> hospitals = adminService.searchHospitals(q, pageable);
+            Page<HospitalSummary> hospitals = adminService.searchHospitals(q, pageable);
             return ResponseEntity.ok(ApiResponse.success("Hospital search results", hospitals));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -193,12 +409,12 @@ public class AdminController {
      * Get all organizations with pagination
      */
     @GetMapping("/organizations")
-    public ResponseEntity<ApiResponse<Page<Organization>>> getOrganizations(
+    public ResponseEntity<ApiResponse<Page<OrganizationDetail>>> getOrganizations(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
         try {
             Pageable pageable = PageRequest.of(page, size);
-            Page<Organization> organizations = adminService.getOrganizations(pageable);
+            Page<OrganizationDetail> organizations = adminService.getOrganizations(pageable);
             return ResponseEntity.ok(ApiResponse.success("Organizations retrieved", organizations));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -210,9 +426,9 @@ public class AdminController {
      * Get organization by ID
      */
     @GetMapping("/organizations/{id}")
-    public ResponseEntity<ApiResponse<Organization>> getOrganizationById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<OrganizationDetail>> getOrganizationById(@PathVariable Long id) {
         try {
-            Optional<Organization> organization = adminService.getOrganizationById(id);
+            Optional<OrganizationDetail> organization = adminService.getOrganizationById(id);
             if (organization.isPresent()) {
                 return ResponseEntity.ok(ApiResponse.success("Organization retrieved", organization.get()));
             } else {
@@ -228,9 +444,9 @@ public class AdminController {
      * Create new organization
      */
     @PostMapping("/organizations")
-    public ResponseEntity<ApiResponse<Organization>> createOrganization(@Valid @RequestBody Organization organization) {
+    public ResponseEntity<ApiResponse<OrganizationDetail>> createOrganization(@Valid @RequestBody Organization organization) {
         try {
-            Organization createdOrganization = adminService.createOrganization(organization);
+            OrganizationDetail createdOrganization = adminService.createOrganization(organization);
             return ResponseEntity.ok(ApiResponse.success("Organization created successfully", createdOrganization));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -242,11 +458,11 @@ public class AdminController {
      * Update organization
      */
     @PutMapping("/organizations/{id}")
-    public ResponseEntity<ApiResponse<Organization>> updateOrganization(
+    public ResponseEntity<ApiResponse<OrganizationDetail>> updateOrganization(
             @PathVariable Long id, 
             @Valid @RequestBody Organization organization) {
         try {
-            Organization updatedOrganization = adminService.updateOrganization(id, organization);
+            OrganizationDetail updatedOrganization = adminService.updateOrganization(id, organization);
             return ResponseEntity.ok(ApiResponse.success("Organization updated successfully", updatedOrganization));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -272,9 +488,9 @@ public class AdminController {
      * Get organization by organization ID (for viewing details)
      */
     @GetMapping("/organizations/view/{organizationId}")
-    public ResponseEntity<ApiResponse<Organization>> getOrganizationByOrganizationId(@PathVariable String organizationId) {
+    public ResponseEntity<ApiResponse<OrganizationDetail>> getOrganizationByOrganizationId(@PathVariable String organizationId) {
         try {
-            Optional<Organization> organization = adminService.getOrganizationByOrganizationId(organizationId);
+            Optional<OrganizationDetail> organization = adminService.getOrganizationByOrganizationId(organizationId);
             if (organization.isPresent()) {
                 return ResponseEntity.ok(ApiResponse.success("Organization details retrieved", organization.get()));
             } else {
@@ -290,12 +506,12 @@ public class AdminController {
      * Update organization status
      */
     @PatchMapping("/organizations/{id}/status")
-    public ResponseEntity<ApiResponse<Organization>> updateOrganizationStatus(
+    public ResponseEntity<ApiResponse<OrganizationDetail>> updateOrganizationStatus(
             @PathVariable Long id,
             @RequestBody Map<String, String> statusUpdate) {
         try {
             OrganizationStatus status = OrganizationStatus.valueOf(statusUpdate.get("status"));
-            Organization updatedOrganization = adminService.updateOrganizationStatus(id, status);
+            OrganizationDetail updatedOrganization = adminService.updateOrganizationStatus(id, status);
             return ResponseEntity.ok(ApiResponse.success("Organization status updated", updatedOrganization));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -307,13 +523,13 @@ public class AdminController {
      * Search organizations
      */
     @GetMapping("/organizations/search")
-    public ResponseEntity<ApiResponse<Page<Organization>>> searchOrganizations(
+    public ResponseEntity<ApiResponse<Page<OrganizationDetail>>> searchOrganizations(
             @RequestParam(required = false) String q,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
         try {
             Pageable pageable = PageRequest.of(page, size);
-            Page<Organization> organizations = adminService.searchOrganizations(q, pageable);
+            Page<OrganizationDetail> organizations = adminService.searchOrganizations(q, pageable);
             return ResponseEntity.ok(ApiResponse.success("Organization search results", organizations));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -1,7 +1,7 @@
 package com.organlink.controller;
 
 import com.organlink.dto.ApiResponse;
-import com.organlink.entity.Match;
+import com.organlink.dto.MatchSummary;
 import com.organlink.service.AIMatchingService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -43,9 +43,9 @@ public class AiController {
      */
     @GetMapping("/matches/{patientId}")
     @PreAuthorize("hasRole('HOSPITAL')")
-    public ResponseEntity<ApiResponse<List<Match>>> findMatches(@PathVariable Long patientId) {
+    public ResponseEntity<ApiResponse<List<MatchSummary>>> findMatches(@PathVariable Long patientId) {
         try {
-            List<Match> matches = aiMatchingService.findBestMatchesForPatient(patientId);
+            List<MatchSummary> matches = aiMatchingService.findBestMatchesForPatient(patientId);
             return ResponseEntity.ok(ApiResponse.success("Successfully retrieved potential matches.", matches));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
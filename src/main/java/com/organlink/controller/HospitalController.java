@@ -2,26 +2,45 @@ package com.organlink.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.organlink.dto.ApiResponse;
+import com.organlink.dto.CursorPage;
+import com.organlink.dto.DonorDetail;
 import com.organlink.dto.DonorRegistrationRequest;
+import com.organlink.dto.DonorSummary;
+import com.organlink.dto.ImportResult;
+import com.organlink.dto.PatientDetail;
+import com.organlink.dto.PatientSummary;
 import com.organlink.entity.Donor;
 import com.organlink.entity.Gender;
+import com.organlink.entity.KpiReport;
 import com.organlink.entity.Patient;
 import com.organlink.security.CustomUserDetailsService;
+import com.organlink.service.DashboardEventService;
 import com.organlink.service.HospitalService;
+import com.organlink.service.KpiReportService;
+import com.organlink.service.RegistryExportService;
+import com.organlink.service.RegistryImportService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.zip.GZIPInputStream;
 
 /**
  * Hospital controller for donor and patient management
@@ -33,9 +52,23 @@ import java.util.Optional;
 @PreAuthorize("hasRole('HOSPITAL')")
 public class HospitalController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     @Autowired
     private HospitalService hospitalService;
 
+    @Autowired
+    private RegistryExportService registryExportService;
+
+    @Autowired
+    private RegistryImportService registryImportService;
+
+    @Autowired
+    private DashboardEventService dashboardEventService;
+
+    @Autowired
+    private KpiReportService kpiReportService;
+
     /**
      * Get hospital dashboard statistics
      */
@@ -51,13 +84,69 @@ public class HospitalController {
         }
     }
 
+    /**
+     * Live dashboard stream: one "snapshot" event, then "delta" events as counters change
+     */
+    @GetMapping(value = "/hospital/dashboard/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<?> streamDashboard(Authentication authentication) {
+        try {
+            String hospitalId = getHospitalIdFromAuth(authentication);
+            SseEmitter emitter = dashboardEventService.subscribe(DashboardEventService.hospitalChannel(hospitalId),
+                    () -> hospitalService.getDashboardSnapshot(hospitalId));
+            return ResponseEntity.ok(emitter);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(ApiResponse.error("Failed to open dashboard stream", e.getMessage()));
+        }
+    }
+
+    // KPI Report Endpoints
+
+    /**
+     * List this hospital's KPI reports, newest first
+     */
+    @GetMapping("/hospital/reports/kpi")
+    public ResponseEntity<ApiResponse<List<KpiReport>>> getKpiReports(
+            Authentication authentication,
+            @RequestParam(defaultValue = "12") int limit) {
+        try {
+            String hospitalId = getHospitalIdFromAuth(authentication);
+            List<KpiReport> reports = kpiReportService.getReportsForHospital(hospitalId, Math.min(Math.max(limit, 1), 100));
+            return ResponseEntity.ok(ApiResponse.success("KPI reports retrieved", reports));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to retrieve KPI reports", e.getMessage()));
+        }
+    }
+
+    /**
+     * Get one of this hospital's KPI reports by report ID
+     */
+    @GetMapping("/hospital/reports/kpi/{reportId}")
+    public ResponseEntity<ApiResponse<KpiReport>> getKpiReport(@PathVariable String reportId, Authentication authentication) {
+        try {
+            String hospitalId = getHospitalIdFromAuth(authentication);
+            Optional<KpiReport> report = kpiReportService.getReport(reportId)
+                    .filter(r -> r.getHospitalId().equals(hospitalId));
+            if (report.isPresent()) {
+                return ResponseEntity.ok(ApiResponse.success("KPI report retrieved", report.get()));
+            } else {
+                return ResponseEntity.notFound().build();
+            }
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to retrieve KPI report", e.getMessage()));
+        }
+    }
+
     // Donor Management Endpoints
 
     /**
      * Alternative JSON-based donor registration to match frontend (file uploaded via /signatures first)
      */
     @PostMapping(value = "/donors", consumes = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<ApiResponse<Donor>> registerDonorJson(
+    public ResponseEntity<ApiResponse<DonorDetail>> registerDonorJson(
             @RequestBody Map<String, Object> donorPayload,
             Authentication authentication) {
         try {
@@ -117,7 +206,7 @@ public class HospitalController {
             com.organlink.entity.Hospital hospital = hospitalOpt.get();
 
             donor.setDonorId(donor.getDonorId() == null || donor.getDonorId().isEmpty() ?
-                    hId + "-DON-" + String.format("%04d", hospitalService.getDonorRepository().count() + 1) : donor.getDonorId());
+                    hospitalService.generateDonorId(hId) : donor.getDonorId());
             donor.setHospital(hospital);
             donor.setStatus(com.organlink.entity.DonorStatus.REGISTERED);
             donor.setAvailabilityStatus(com.organlink.entity.AvailabilityStatus.AVAILABLE);
@@ -135,7 +224,7 @@ public class HospitalController {
             // Register on blockchain asynchronously
             hospitalService.registerDonorOnBlockchainPublic(saved, donor.getSignatureIpfsHash());
 
-            return ResponseEntity.ok(ApiResponse.success("Donor registered successfully", saved));
+            return ResponseEntity.ok(ApiResponse.success("Donor registered successfully", DonorDetail.from(saved)));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(ApiResponse.error("Failed to register donor (JSON)", e.getMessage()));
         }
@@ -145,7 +234,7 @@ public class HospitalController {
      * Alternative JSON-based patient registration to match frontend (file uploaded via /signatures first)
      */
     @PostMapping(value = "/patients", consumes = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<ApiResponse<Patient>> registerPatientJson(
+    public ResponseEntity<ApiResponse<PatientDetail>> registerPatientJson(
             @RequestBody Map<String, Object> patientPayload,
             Authentication authentication) {
         try {
@@ -203,7 +292,7 @@ public class HospitalController {
             com.organlink.entity.Hospital hospital = hospitalOpt.get();
 
             patient.setPatientId(patient.getPatientId() == null || patient.getPatientId().isEmpty() ?
-                    hospitalId + "-PAT-" + String.format("%04d", hospitalService.getPatientRepository().count() + 1) : patient.getPatientId());
+                    hospitalService.generatePatientId(hospitalId) : patient.getPatientId());
             patient.setHospital(hospital);
             patient.setStatus(com.organlink.entity.PatientStatus.REGISTERED);
             patient.setWaitingListDate(java.time.LocalDate.now());
@@ -218,7 +307,7 @@ public class HospitalController {
             hospitalService.createSignatureRecordPublic(patient.getSignatureIpfsHash(), "PATIENT_CONSENT", saved.getId(), "PATIENT", hospital);
             hospitalService.registerPatientOnBlockchainPublic(saved, patient.getSignatureIpfsHash());
 
-            return ResponseEntity.ok(ApiResponse.success("Patient registered successfully", saved));
+            return ResponseEntity.ok(ApiResponse.success("Patient registered successfully", PatientDetail.from(saved)));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(ApiResponse.error("Failed to register patient (JSON)", e.getMessage()));
         }
@@ -228,7 +317,7 @@ public class HospitalController {
      * Register new donor with signature upload (matches frontend format)
      */
     @PostMapping(value = "/donors", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<ApiResponse<Donor>> registerDonor(
+    public ResponseEntity<ApiResponse<DonorDetail>> registerDonor(
             @RequestParam("donorData") String donorDataJson,
             @RequestPart("signatureFile") MultipartFile signatureFile,
             @RequestParam("signerName") String signerName,
@@ -246,7 +335,7 @@ public class HospitalController {
             
             Donor registeredDonor = hospitalService.registerDonor(donor, hospitalId, signatureFile, signerName);
             
-            return ResponseEntity.ok(ApiResponse.success("Donor registered successfully", registeredDonor));
+            return ResponseEntity.ok(ApiResponse.success("Donor registered successfully", DonorDetail.from(registeredDonor)));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
                     .body(ApiResponse.error("Failed to register donor", e.getMessage()));
@@ -254,17 +343,29 @@ public class HospitalController {
     }
 
     /**
-     * Get donors for hospital with pagination
+     * Get donors for hospital with pagination; count=false skips the total count.
+     * Passing cursor (or mode=keyset) switches to newest-first keyset pages; pass the previous page's
+     * nextCursor to continue.
      */
     @GetMapping("/donors")
-    public ResponseEntity<ApiResponse<Page<Donor>>> getDonors(
+    public ResponseEntity<ApiResponse<?>> getDonors(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "true") boolean count,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String mode,
             Authentication authentication) {
         try {
             String hospitalId = getHospitalIdFromAuth(authentication);
-            Pageable pageable = PageRequest.of(page, size);
-            Page<Donor> donors = hospitalService.getDonors(hospitalId, pageable);
+            int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+            if (cursor != null || "keyset".equalsIgnoreCase(mode)) {
+                CursorPage<DonorSummary> donors = hospitalService.getDonorPage(hospitalId, cursor, pageSize);
+                return ResponseEntity.ok(ApiResponse.success("Donors retrieved", donors));
+            }
+            Pageable pageable = PageRequest.of(page, pageSize);
+            Slice<DonorSummary> donors = count
+                    ? hospitalService.getDonors(hospitalId, pageable)
+                    : hospitalService.getDonorSlice(hospitalId, pageable);
             return ResponseEntity.ok(ApiResponse.success("Donors retrieved", donors));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -276,12 +377,12 @@ public class HospitalController {
      * Get donor by ID
      */
     @GetMapping("/donors/{id}")
-    public ResponseEntity<ApiResponse<Donor>> getDonorById(
+    public ResponseEntity<ApiResponse<DonorDetail>> getDonorById(
             @PathVariable Long id, 
             Authentication authentication) {
         try {
             String hospitalId = getHospitalIdFromAuth(authentication);
-            Optional<Donor> donor = hospitalService.getDonorById(id, hospitalId);
+            Optional<DonorDetail> donor = hospitalService.getDonorDetail(id, hospitalId);
             if (donor.isPresent()) {
                 return ResponseEntity.ok(ApiResponse.success("Donor retrieved", donor.get()));
             } else {
@@ -297,14 +398,14 @@ public class HospitalController {
      * Update donor
      */
     @PutMapping("/donors/{id}")
-    public ResponseEntity<ApiResponse<Donor>> updateDonor(
+    public ResponseEntity<ApiResponse<DonorDetail>> updateDonor(
             @PathVariable Long id,
             @Valid @RequestBody Donor donor,
             Authentication authentication) {
         try {
             String hospitalId = getHospitalIdFromAuth(authentication);
             Donor updatedDonor = hospitalService.updateDonor(id, donor, hospitalId);
-            return ResponseEntity.ok(ApiResponse.success("Donor updated successfully", updatedDonor));
+            return ResponseEntity.ok(ApiResponse.success("Donor updated successfully", DonorDetail.from(updatedDonor)));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
                     .body(ApiResponse.error("Failed to update donor", e.getMessage()));
@@ -317,7 +418,7 @@ public class HospitalController {
      * Register new patient with signature upload
      */
     @PostMapping(value = "/patients", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<ApiResponse<Patient>> registerPatient(
+    public ResponseEntity<ApiResponse<PatientDetail>> registerPatient(
             @RequestPart("patient") @Valid Patient patient,
             @RequestPart("signatureImage") MultipartFile signatureImage,
             @RequestParam("signatureName") String signatureName,
@@ -328,7 +429,7 @@ public class HospitalController {
             
             // Blockchain recording is now handled within HospitalService
             
-            return ResponseEntity.ok(ApiResponse.success("Patient registered successfully", registeredPatient));
+            return ResponseEntity.ok(ApiResponse.success("Patient registered successfully", PatientDetail.from(registeredPatient)));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
                     .body(ApiResponse.error("Failed to register patient", e.getMessage()));
@@ -336,17 +437,29 @@ public class HospitalController {
     }
 
     /**
-     * Get patients for hospital with pagination
+     * Get patients for hospital with pagination; count=false skips the total count.
+     * Passing cursor (or mode=keyset) switches to newest-first keyset pages; pass the previous page's
+     * nextCursor to continue.
      */
     @GetMapping("/patients")
-    public ResponseEntity<ApiResponse<Page<Patient>>> getPatients(
+    public ResponseEntity<ApiResponse<?>> getPatients(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "true") boolean count,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String mode,
             Authentication authentication) {
         try {
             String hospitalId = getHospitalIdFromAuth(authentication);
-            Pageable pageable = PageRequest.of(page, size);
-            Page<Patient> patients = hospitalService.getPatients(hospitalId, pageable);
+            int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+            if (cursor != null || "keyset".equalsIgnoreCase(mode)) {
+                CursorPage<PatientSummary> patients = hospitalService.getPatientPage(hospitalId, cursor, pageSize);
+                return ResponseEntity.ok(ApiResponse.success("Patients retrieved", patients));
+            }
+            Pageable pageable = PageRequest.of(page, pageSize);
+            Slice<PatientSummary> patients = count
+                    ? hospitalService.getPatients(hospitalId, pageable)
+                    : hospitalService.getPatientSlice(hospitalId, pageable);
             return ResponseEntity.ok(ApiResponse.success("Patients retrieved", patients));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -358,12 +471,12 @@ public class HospitalController {
      * Get patient by ID
      */
     @GetMapping("/patients/{id}")
-    public ResponseEntity<ApiResponse<Patient>> getPatientById(
+    public ResponseEntity<ApiResponse<PatientDetail>> getPatientById(
             @PathVariable Long id, 
             Authentication authentication) {
         try {
             String hospitalId = getHospitalIdFromAuth(authentication);
-            Optional<Patient> patient = hospitalService.getPatientById(id, hospitalId);
+            Optional<PatientDetail> patient = hospitalService.getPatientDetail(id, hospitalId);
             if (patient.isPresent()) {
                 return ResponseEntity.ok(ApiResponse.success("Patient retrieved", patient.get()));
             } else {
@@ -379,20 +492,116 @@ public class HospitalController {
      * Update patient
      */
     @PutMapping("/patients/{id}")
-    public ResponseEntity<ApiResponse<Patient>> updatePatient(
+    public ResponseEntity<ApiResponse<PatientDetail>> updatePatient(
             @PathVariable Long id,
             @Valid @RequestBody Patient patient,
             Authentication authentication) {
         try {
             String hospitalId = getHospitalIdFromAuth(authentication);
             Patient updatedPatient = hospitalService.updatePatient(id, patient, hospitalId);
-            return ResponseEntity.ok(ApiResponse.success("Patient updated successfully", updatedPatient));
+            return ResponseEntity.ok(ApiResponse.success("Patient updated successfully", PatientDetail.from(updatedPatient)));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
                     .body(ApiResponse.error("Failed to update patient", e.getMessage()));
         }
     }
 
+    // Export Endpoints
+
+    /**
+     * Stream all donors of this hospital as CSV or NDJSON (optionally gzipped)
+     */
+    @GetMapping("/donors/export")
+    public ResponseEntity<?> exportDonors(Authentication authentication,
+                                          @RequestParam(defaultValue = "csv") String format,
+                                          @RequestParam(defaultValue = "false") boolean gzip) {
+        return export(RegistryExportService.Dataset.DONORS, authentication, format, gzip);
+    }
+
+    /**
+     * Stream all patients of this hospital as CSV or NDJSON (optionally gzipped)
+     */
+    @GetMapping("/patients/export")
+    public ResponseEntity<?> exportPatients(Authentication authentication,
+                                            @RequestParam(defaultValue = "csv") String format,
+                                            @RequestParam(defaultValue = "false") boolean gzip) {
+        return export(RegistryExportService.Dataset.PATIENTS, authentication, format, gzip);
+    }
+
+    /**
+     * Stream all matches involving this hospital as CSV or NDJSON (optionally gzipped)
+     */
+    @GetMapping("/matches/export")
+    public ResponseEntity<?> exportMatches(Authentication authentication,
+                                           @RequestParam(defaultValue = "csv") String format,
+                                           @RequestParam(defaultValue = "false") boolean gzip) {
+        return export(RegistryExportService.Dataset.MATCHES, authentication, format, gzip);
+    }
+
+    private ResponseEntity<?> export(RegistryExportService.Dataset dataset, Authentication authentication,
+                                     String format, boolean gzip) {
+        try {
+            String hospitalId = getHospitalIdFromAuth(authentication);
+            RegistryExportService.Format exportFormat = RegistryExportService.Format.parse(format);
+            StreamingResponseBody body = registryExportService.export(dataset, hospitalId, exportFormat, gzip);
+
+            String fileName = dataset.fileName() + "-" + hospitalId + "-" + LocalDate.now() + "." + exportFormat.getExtension()
+                    + (gzip ? ".gz" : "");
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                    .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : exportFormat.getContentType()))
+                    .body(body);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to export " + dataset.fileName(), e.getMessage()));
+        }
+    }
+
+    // Import Endpoints
+
+    /**
+     * Bulk donor import: streams a CSV or NDJSON request body (optionally gzip Content-Encoding)
+     */
+    @PostMapping(value = "/donors/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<ApiResponse<ImportResult>> importDonors(Authentication authentication,
+                                                                 HttpServletRequest request,
+                                                                 @RequestParam(required = false) String format) {
+        return importRows(RegistryImportService.Dataset.DONORS, authentication, request, format);
+    }
+
+    /**
+     * Bulk patient import: streams a CSV or NDJSON request body (optionally gzip Content-Encoding)
+     */
+    @PostMapping(value = "/patients/import", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<ApiResponse<ImportResult>> importPatients(Authentication authentication,
+                                                                   HttpServletRequest request,
+                                                                   @RequestParam(required = false) String format) {
+        return importRows(RegistryImportService.Dataset.PATIENTS, authentication, request, format);
+    }
+
+    private ResponseEntity<ApiResponse<ImportResult>> importRows(RegistryImportService.Dataset dataset,
+                                                                 Authentication authentication,
+                                                                 HttpServletRequest request, String format) {
+        try {
+            String hospitalId = getHospitalIdFromAuth(authentication);
+            // Format follows the Content-Type unless given explicitly
+            RegistryExportService.Format importFormat = RegistryExportService.Format.parse(format != null ? format
+                    : request.getContentType().toLowerCase().startsWith("text/csv") ? "csv" : "ndjson");
+            InputStream body = request.getInputStream();
+            if ("gzip".equalsIgnoreCase(request.getHeader(HttpHeaders.CONTENT_ENCODING))) {
+                body = new GZIPInputStream(body, 64 * 1024);
+            }
+
+            ImportResult result = registryImportService.importRows(dataset, hospitalId, importFormat, body);
+            String message = String.format("Imported %d of %d %s", result.getImportedRows(), result.getTotalRows(),
+                    dataset.fileName());
+            return ResponseEntity.ok(ApiResponse.success(message, result));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("Failed to import " + dataset.fileName(), e.getMessage()));
+        }
+    }
+
     // Helper method to convert DonorRegistrationRequest to Donor entity
     private Donor convertDonorRequestToEntity(DonorRegistrationRequest request) {
         Donor donor = new Donor();
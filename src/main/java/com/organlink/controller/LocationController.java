@@ -1,7 +1,7 @@
 package com.organlink.controller;
 
 import com.organlink.dto.ApiResponse;
-import com.organlink.entity.Hospital;
+import com.organlink.dto.HospitalSummary;
 import com.organlink.service.LocationService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -73,10 +73,12 @@ public class LocationController {
      * List hospitals for a given city and state
      */
     @GetMapping("/hospitals")
-    public ResponseEntity<ApiResponse<List<Hospital>>> getHospitals(
+    public ResponseEntity<ApiResponse<List<HospitalSummary>>> getHospitals(
             @RequestParam("city") String city,
             @RequestParam("stateId") String stateId) {
-        List<Hospital> hospitals = locationService.getHospitalsByCity(city, stateId);
+        List<HospitalSummary> hospitals = locationService.getHospitalsByCity(city, stateId).stream()
+                .map(HospitalSummary::from)
+                .toList();
         return ResponseEntity.ok(ApiResponse.success("Hospitals retrieved", hospitals));
     }
 }
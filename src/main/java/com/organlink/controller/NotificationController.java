@@ -1,7 +1,7 @@
 package com.organlink.controller;
 
 import com.organlink.dto.ApiResponse;
-import com.organlink.entity.Notification;
+import com.organlink.dto.NotificationSummary;
 import com.organlink.security.CustomUserDetailsService;
 import com.organlink.service.NotificationService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,9 +20,12 @@ public class NotificationController {
     private NotificationService notificationService;
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<Notification>>> getMyNotifications(Authentication authentication) {
+    public ResponseEntity<ApiResponse<List<NotificationSummary>>> getMyNotifications(Authentication authentication) {
         CustomUserDetailsService.CustomUserPrincipal principal = (CustomUserDetailsService.CustomUserPrincipal) authentication.getPrincipal();
-        List<Notification> notifications = notificationService.getNotificationsForUser(principal.getUserId());
+        // Summaries: the lazy recipient User cannot be serialized once the session is closed
+        List<NotificationSummary> notifications = notificationService.getNotificationsForUser(principal.getUserId()).stream()
+                .map(NotificationSummary::from)
+                .toList();
         return ResponseEntity.ok(ApiResponse.success("Notifications retrieved", notifications));
     }
 
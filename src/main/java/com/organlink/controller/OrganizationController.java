@@ -1,20 +1,27 @@
 package com.organlink.controller;
 
 import com.organlink.dto.ApiResponse;
+import com.organlink.dto.CursorPage;
+import com.organlink.dto.PolicyDetail;
+import com.organlink.dto.PolicySummary;
+import com.organlink.dto.VoteSummary;
 import com.organlink.entity.Policy;
-import com.organlink.entity.Vote;
 import com.organlink.entity.VoteType;
 import com.organlink.security.CustomUserDetailsService;
+import com.organlink.service.DashboardEventService;
 import com.organlink.service.OrganizationService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Map;
@@ -30,9 +37,14 @@ import java.util.Optional;
 @PreAuthorize("hasRole('ORGANIZATION')")
 public class OrganizationController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     @Autowired
     private OrganizationService organizationService;
 
+    @Autowired
+    private DashboardEventService dashboardEventService;
+
     /**
      * Get organization dashboard statistics
      */
@@ -48,18 +60,47 @@ public class OrganizationController {
         }
     }
 
+    /**
+     * Live dashboard stream: one "snapshot" event, then "delta" events as votes and policies change
+     */
+    @GetMapping(value = "/organization/dashboard/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<?> streamDashboard(Authentication authentication) {
+        try {
+            String organizationId = getOrganizationIdFromAuth(authentication);
+            SseEmitter emitter = dashboardEventService.subscribe(DashboardEventService.organizationChannel(organizationId),
+                    () -> organizationService.getDashboardSnapshot(organizationId));
+            return ResponseEntity.ok(emitter);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(ApiResponse.error("Failed to open dashboard stream", e.getMessage()));
+        }
+    }
+
     // Policy Management Endpoints
 
     /**
-     * Get all policies with pagination
+     * Get all policies with pagination; count=false skips the total count.
+     * Passing cursor (or mode=keyset) switches to newest-first keyset pages; pass the previous page's
+     * nextCursor to continue.
      */
     @GetMapping("/policies")
-    public ResponseEntity<ApiResponse<Page<Policy>>> getPolicies(
+    public ResponseEntity<ApiResponse<?>> getPolicies(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "20") int size) {
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "true") boolean count,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String mode) {
         try {
-            Pageable pageable = PageRequest.of(page, size);
-            Page<Policy> policies = organizationService.getPolicies(pageable);
+            int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+            if (cursor != null || "keyset".equalsIgnoreCase(mode)) {
+                CursorPage<PolicySummary> policies = organizationService.getPolicyPage(cursor, pageSize);
+                return ResponseEntity.ok(ApiResponse.success("Policies retrieved", policies));
+            }
+            Pageable pageable = PageRequest.of(page, pageSize);
+            Slice<PolicySummary> policies = count
+                    ? organizationService.getPolicies(pageable)
+                    : organizationService.getPolicySlice(pageable);
             return ResponseEntity.ok(ApiResponse.success("Policies retrieved", policies));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -71,9 +112,9 @@ public class OrganizationController {
      * Get policy by ID
      */
     @GetMapping("/policies/{id}")
-    public ResponseEntity<ApiResponse<Policy>> getPolicyById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<PolicyDetail>> getPolicyById(@PathVariable Long id) {
         try {
-            Optional<Policy> policy = organizationService.getPolicyById(id);
+            Optional<PolicyDetail> policy = organizationService.getPolicyDetail(id);
             if (policy.isPresent()) {
                 return ResponseEntity.ok(ApiResponse.success("Policy retrieved", policy.get()));
             } else {
@@ -89,13 +130,13 @@ public class OrganizationController {
      * Create new policy proposal
      */
     @PostMapping("/policies")
-    public ResponseEntity<ApiResponse<Policy>> createPolicy(
+    public ResponseEntity<ApiResponse<PolicyDetail>> createPolicy(
             @Valid @RequestBody Policy policy, 
             Authentication authentication) {
         try {
             String organizationId = getOrganizationIdFromAuth(authentication);
             Policy createdPolicy = organizationService.createPolicy(policy, organizationId);
-            return ResponseEntity.ok(ApiResponse.success("Policy created successfully", createdPolicy));
+            return ResponseEntity.ok(ApiResponse.success("Policy created successfully", PolicyDetail.from(createdPolicy)));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
                     .body(ApiResponse.error("Failed to create policy", e.getMessage()));
@@ -106,14 +147,14 @@ public class OrganizationController {
      * Update policy
      */
     @PutMapping("/policies/{id}")
-    public ResponseEntity<ApiResponse<Policy>> updatePolicy(
+    public ResponseEntity<ApiResponse<PolicyDetail>> updatePolicy(
             @PathVariable Long id,
             @Valid @RequestBody Policy policy,
             Authentication authentication) {
         try {
             String organizationId = getOrganizationIdFromAuth(authentication);
             Policy updatedPolicy = organizationService.updatePolicy(id, policy, organizationId);
-            return ResponseEntity.ok(ApiResponse.success("Policy updated successfully", updatedPolicy));
+            return ResponseEntity.ok(ApiResponse.success("Policy updated successfully", PolicyDetail.from(updatedPolicy)));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
                     .body(ApiResponse.error("Failed to update policy", e.getMessage()));
@@ -124,7 +165,7 @@ public class OrganizationController {
      * Vote on policy
      */
     @PostMapping("/policies/{policyId}/vote")
-    public ResponseEntity<ApiResponse<Vote>> voteOnPolicy(
+    public ResponseEntity<ApiResponse<VoteSummary>> voteOnPolicy(
             @PathVariable String policyId,
             @RequestBody Map<String, String> voteRequest,
             Authentication authentication) {
@@ -146,7 +187,7 @@ public class OrganizationController {
                         .body(ApiResponse.error("Invalid vote type", "Vote must be YES, NO, or ABSTAIN"));
             }
             
-            Vote vote = organizationService.voteOnPolicy(policyId, voteType, comment, organizationId);
+            VoteSummary vote = organizationService.voteOnPolicy(policyId, voteType, comment, organizationId);
             return ResponseEntity.ok(ApiResponse.success("Vote recorded successfully", vote));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -158,12 +199,12 @@ public class OrganizationController {
      * Get policy history for organization
      */
     @GetMapping("/organization/policies/history")
-    public ResponseEntity<ApiResponse<List<Policy>>> getPolicyHistory(
+    public ResponseEntity<ApiResponse<List<PolicySummary>>> getPolicyHistory(
             @RequestParam(defaultValue = "10") int limit,
             Authentication authentication) {
         try {
             String organizationId = getOrganizationIdFromAuth(authentication);
-            List<Policy> policyHistory = organizationService.getPolicyHistory(organizationId, limit);
+            List<PolicySummary> policyHistory = organizationService.getPolicyHistory(organizationId, limit);
             return ResponseEntity.ok(ApiResponse.success("Policy history retrieved", policyHistory));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -175,10 +216,10 @@ public class OrganizationController {
      * Get votes by organization
      */
     @GetMapping("/organization/votes")
-    public ResponseEntity<ApiResponse<List<Vote>>> getVotesByOrganization(Authentication authentication) {
+    public ResponseEntity<ApiResponse<List<VoteSummary>>> getVotesByOrganization(Authentication authentication) {
         try {
             String organizationId = getOrganizationIdFromAuth(authentication);
-            List<Vote> votes = organizationService.getVotesByOrganization(organizationId);
+            List<VoteSummary> votes = organizationService.getVotesByOrganization(organizationId);
             return ResponseEntity.ok(ApiResponse.success("Organization votes retrieved", votes));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -190,9 +231,9 @@ public class OrganizationController {
      * Get active voting policies
      */
     @GetMapping("/policies/active-voting")
-    public ResponseEntity<ApiResponse<List<Policy>>> getActiveVotingPolicies() {
+    public ResponseEntity<ApiResponse<List<PolicySummary>>> getActiveVotingPolicies() {
         try {
-            List<Policy> activeVotingPolicies = organizationService.getActiveVotingPolicies();
+            List<PolicySummary> activeVotingPolicies = organizationService.getActiveVotingPolicies();
             return ResponseEntity.ok(ApiResponse.success("Active voting policies retrieved", activeVotingPolicies));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -204,13 +245,13 @@ public class OrganizationController {
      * Search policies
      */
     @GetMapping("/policies/search")
-    public ResponseEntity<ApiResponse<Page<Policy>>> searchPolicies(
+    public ResponseEntity<ApiResponse<Page<PolicySummary>>> searchPolicies(
             @RequestParam(required = false) String q,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
         try {
             Pageable pageable = PageRequest.of(page, size);
-            Page<Policy> policies = organizationService.searchPolicies(q, pageable);
+            Page<PolicySummary> policies = organizationService.searchPolicies(q, pageable);
             return ResponseEntity.ok(ApiResponse.success("Policy search results", policies));
         } catch (Exception e) {
             return ResponseEntity.badRequest()
@@ -0,0 +1,58 @@
+package com.organlink.dto;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ad-hoc analytics request against the in-memory snapshot
+ * Filters keep rows whose dimension value is in the given list and whose measures fall in the
+ * given ranges; rows are then grouped by up to four dimensions and counted (plus sum/avg/min/max
+ * of the optional measure).
+ */
+public class AnalyticsQuery {
+
+    private String dataset;
+    private Map<String, List<String>> filters = new HashMap<>();
+    private Map<String, Range> ranges = new HashMap<>();
+    private List<String> groupBy = new ArrayList<>();
+    private String measure;
+    private Integer limit;
+
+    // Constructors
+    public AnalyticsQuery() {}
+
+    // Getters and Setters
+    public String getDataset() { return dataset; }
+    public void setDataset(String dataset) { this.dataset = dataset; }
+
+    public Map<String, List<String>> getFilters() { return filters; }
+    public void setFilters(Map<String, List<String>> filters) { this.filters = filters; }
+
+    public Map<String, Range> getRanges() { return ranges; }
+    public void setRanges(Map<String, Range> ranges) { this.ranges = ranges; }
+
+    public List<String> getGroupBy() { return groupBy; }
+    public void setGroupBy(List<String> groupBy) { this.groupBy = groupBy; }
+
+    public String getMeasure() { return measure; }
+    public void setMeasure(String measure) { this.measure = measure; }
+
+    public Integer getLimit() { return limit; }
+    public void setLimit(Integer limit) { this.limit = limit; }
+
+    /**
+     * Inclusive numeric bounds; either side may be omitted
+     */
+    public static class Range {
+        private Double min;
+        private Double max;
+
+        public Double getMin() { return min; }
+        public void setMin(Double min) { this.min = min; }
+
+        public Double getMax() { return max; }
+        public void setMax(Double max) { this.max = max; }
+    }
+}
@@ -0,0 +1,71 @@
+package com.organlink.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of an analytics query: one row per group, largest groups first
+ */
+public class AnalyticsResult {
+
+    private String dataset;
+    private LocalDateTime snapshotAt;
+    private int rowsScanned;
+    private long rowsMatched;
+    private long elapsedMs;
+    private List<Group> groups = new ArrayList<>();
+
+    // Constructors
+    public AnalyticsResult() {}
+
+    // Getters and Setters
+    public String getDataset() { return dataset; }
+    public void setDataset(String dataset) { this.dataset = dataset; }
+
+    public LocalDateTime getSnapshotAt() { return snapshotAt; }
+    public void setSnapshotAt(LocalDateTime snapshotAt) { this.snapshotAt = snapshotAt; }
+
+    public int getRowsScanned() { return rowsScanned; }
+    public void setRowsScanned(int rowsScanned) { this.rowsScanned = rowsScanned; }
+
+    public long getRowsMatched() { return rowsMatched; }
+    public void setRowsMatched(long rowsMatched) { this.rowsMatched = rowsMatched; }
+
+    public long getElapsedMs() { return elapsedMs; }
+    public void setElapsedMs(long elapsedMs) { this.elapsedMs = elapsedMs; }
+
+    public List<Group> getGroups() { return groups; }
+    public void setGroups(List<Group> groups) { this.groups = groups; }
+
+    /**
+     * One group-by bucket; measure statistics are null when no measure was requested
+     */
+    public static class Group {
+        private Map<String, String> key;
+        private long count;
+        private Double sum;
+        private Double avg;
+        private Double min;
+        private Double max;
+
+        public Map<String, String> getKey() { return key; }
+        public void setKey(Map<String, String> key) { this.key = key; }
+
+        public long getCount() { return count; }
+        public void setCount(long count) { this.count = count; }
+
+        public Double getSum() { return sum; }
+        public void setSum(Double sum) { this.sum = sum; }
+
+        public Double getAvg() { return avg; }
+        public void setAvg(Double avg) { this.avg = avg; }
+
+        public Double getMin() { return min; }
+        public void setMin(Double min) { this.min = min; }
+
+        public Double getMax() { return max; }
+        public void setMax(Double max) { this.max = max; }
+    }
+}
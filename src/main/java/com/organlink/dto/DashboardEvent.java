@@ -0,0 +1,53 @@
+package com.organlink.dto;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Live dashboard update pushed over SSE
+ * "deltas" are added to the client's counters; "values" replace fields outright (e.g. rates).
+ */
+public class DashboardEvent {
+
+    private String source;
+    private Map<String, Long> deltas = new LinkedHashMap<>();
+    private Map<String, Object> values = new LinkedHashMap<>();
+    private LocalDateTime at = LocalDateTime.now();
+
+    // Constructors
+    public DashboardEvent() {}
+
+    public DashboardEvent(String source) {
+        this.source = source;
+    }
+
+    public DashboardEvent delta(String counter, long change) {
+        if (change != 0) {
+            deltas.merge(counter, change, Long::sum);
+        }
+        return this;
+    }
+
+    public DashboardEvent value(String field, Object value) {
+        values.put(field, value);
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return deltas.isEmpty() && values.isEmpty();
+    }
+
+    // Getters and Setters
+    public String getSource() { return source; }
+    public void setSource(String source) { this.source = source; }
+
+    public Map<String, Long> getDeltas() { return deltas; }
+    public void setDeltas(Map<String, Long> deltas) { this.deltas = deltas; }
+
+    public Map<String, Object> getValues() { return values; }
+    public void setValues(Map<String, Object> values) { this.values = values; }
+
+    public LocalDateTime getAt() { return at; }
+    public void setAt(LocalDateTime at) { this.at = at; }
+}
@@ -0,0 +1,152 @@
+package com.organlink.dto;
+
+import com.organlink.entity.AvailabilityStatus;
+import com.organlink.entity.Donor;
+import com.organlink.entity.DonorStatus;
+import com.organlink.entity.Gender;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Donor detail view
+ * Every donor column plus organ types and the owning hospital's code and name;
+ * the matches collection and the signature file path are never serialized.
+ */
+public class DonorDetail {
+
+    private final Long id;
+    private final String donorId;
+    private final String firstName;
+    private final String lastName;
+    private final LocalDate dateOfBirth;
+    private final Gender gender;
+    private final String bloodType;
+    private final String email;
+    private final String phone;
+    private final String alternatePhone;
+    private final String address;
+    private final String city;
+    private final String state;
+    private final String country;
+    private final String zipCode;
+    private final String emergencyContactName;
+    private final String emergencyContactPhone;
+    private final String emergencyContactRelationship;
+    private final List<String> organTypes;
+    private final String medicalHistory;
+    private final String currentMedications;
+    private final String allergies;
+    private final Double height;
+    private final Double weight;
+    private final Double bmi;
+    private final String smokingStatus;
+    private final String alcoholConsumption;
+    private final String exerciseFrequency;
+    private final Boolean consentGiven;
+    private final String signatureIpfsHash;
+    private final Boolean signatureVerified;
+    private final String blockchainTxHash;
+    private final DonorStatus status;
+    private final AvailabilityStatus availabilityStatus;
+    private final LocalDate lastMedicalCheckup;
+    private final LocalDate nextCheckupDue;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final int age;
+    private final String hospitalId;
+    private final String hospitalName;
+
+    private DonorDetail(Donor donor) {
+        this.id = donor.getId();
+        this.donorId = donor.getDonorId();
+        this.firstName = donor.getFirstName();
+        this.lastName = donor.getLastName();
+        this.dateOfBirth = donor.getDateOfBirth();
+        this.gender = donor.getGender();
+        this.bloodType = donor.getBloodType();
+        this.email = donor.getEmail();
+        this.phone = donor.getPhone();
+        this.alternatePhone = donor.getAlternatePhone();
+        this.address = donor.getAddress();
+        this.city = donor.getCity();
+        this.state = donor.getState();
+        this.country = donor.getCountry();
+        this.zipCode = donor.getZipCode();
+        this.emergencyContactName = donor.getEmergencyContactName();
+        this.emergencyContactPhone = donor.getEmergencyContactPhone();
+        this.emergencyContactRelationship = donor.getEmergencyContactRelationship();
+        this.organTypes = donor.getOrganTypes();
+        this.medicalHistory = donor.getMedicalHistory();
+        this.currentMedications = donor.getCurrentMedications();
+        this.allergies = donor.getAllergies();
+        this.height = donor.getHeight();
+        this.weight = donor.getWeight();
+        this.bmi = donor.getBmi();
+        this.smokingStatus = donor.getSmokingStatus();
+        this.alcoholConsumption = donor.getAlcoholConsumption();
+        this.exerciseFrequency = donor.getExerciseFrequency();
+        this.consentGiven = donor.getConsentGiven();
+        this.signatureIpfsHash = donor.getSignatureIpfsHash();
+        this.signatureVerified = donor.getSignatureVerified();
+        this.blockchainTxHash = donor.getBlockchainTxHash();
+        this.status = donor.getStatus();
+        this.availabilityStatus = donor.getAvailabilityStatus();
+        this.lastMedicalCheckup = donor.getLastMedicalCheckup();
+        this.nextCheckupDue = donor.getNextCheckupDue();
+        this.createdAt = donor.getCreatedAt();
+        this.updatedAt = donor.getUpdatedAt();
+        this.age = donor.getAge();
+        this.hospitalId = donor.getHospital().getHospitalId();
+        this.hospitalName = donor.getHospital().getHospitalName();
+    }
+
+    public static DonorDetail from(Donor donor) {
+        return new DonorDetail(donor);
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public String getDonorId() { return donorId; }
+    public String getFirstName() { return firstName; }
+    public String getLastName() { return lastName; }
+    public String getFullName() { return firstName + " " + lastName; }
+    public LocalDate getDateOfBirth() { return dateOfBirth; }
+    public Gender getGender() { return gender; }
+    public String getBloodType() { return bloodType; }
+    public String getEmail() { return email; }
+    public String getPhone() { return phone; }
+    public String getAlternatePhone() { return alternatePhone; }
+    public String getAddress() { return address; }
+    public String getCity() { return city; }
+    public String getState() { return state; }
+    public String getCountry() { return country; }
+    public String getZipCode() { return zipCode; }
+    public String getEmergencyContactName() { return emergencyContactName; }
+    public String getEmergencyContactPhone() { return emergencyContactPhone; }
+    public String getEmergencyContactRelationship() { return emergencyContactRelationship; }
+    public List<String> getOrganTypes() { return organTypes; }
+    public String getMedicalHistory() { return medicalHistory; }
+    public String getCurrentMedications() { return currentMedications; }
+    public String getAllergies() { return allergies; }
+    public Double getHeight() { return height; }
+    public Double getWeight() { return weight; }
+    public Double getBmi() { return bmi; }
+    public String getSmokingStatus() { return smokingStatus; }
+    public String getAlcoholConsumption() { return alcoholConsumption; }
+    public String getExerciseFrequency() { return exerciseFrequency; }
+    public Boolean getConsentGiven() { return consentGiven; }
+    public String getSignatureIpfsHash() { return signatureIpfsHash; }
+    public Boolean getSignatureVerified() { return signatureVerified; }
+    public String getBlockchainTxHash() { return blockchainTxHash; }
+    public DonorStatus getStatus() { return status; }
+    public AvailabilityStatus getAvailabilityStatus() { return availabilityStatus; }
+    public LocalDate getLastMedicalCheckup() { return lastMedicalCheckup; }
+    public LocalDate getNextCheckupDue() { return nextCheckupDue; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public int getAge() { return age; }
+    public String getHospitalId() { return hospitalId; }
+    public String getHospitalName() { return hospitalName; }
+}
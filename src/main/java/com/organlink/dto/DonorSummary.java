@@ -0,0 +1,65 @@
+package com.organlink.dto;
+
+import com.organlink.entity.AvailabilityStatus;
+import com.organlink.entity.DonorStatus;
+import com.organlink.entity.Gender;
+import com.organlink.entity.OrganType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Donor listing row
+ * Populated by a JPQL constructor expression; organ types are decoded from the donor's organ mask column
+ */
+public class DonorSummary {
+
+    private final Long id;
+    private final String donorId;
+    private final String firstName;
+    private final String lastName;
+    private final Gender gender;
+    private final String bloodType;
+    private final String city;
+    private final String state;
+    private final DonorStatus status;
+    private final AvailabilityStatus availabilityStatus;
+    private final Boolean signatureVerified;
+    private final LocalDateTime createdAt;
+    private final List<String> organTypes;
+
+    public DonorSummary(Long id, String donorId, String firstName, String lastName, Gender gender, String bloodType,
+                        String city, String state, DonorStatus status, AvailabilityStatus availabilityStatus,
+                        Boolean signatureVerified, LocalDateTime createdAt, long organTypesMask) {
+        this.id = id;
+        this.donorId = donorId;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.gender = gender;
+        this.bloodType = bloodType;
+        this.city = city;
+        this.state = state;
+        this.status = status;
+        this.availabilityStatus = availabilityStatus;
+        this.signatureVerified = signatureVerified;
+        this.createdAt = createdAt;
+        this.organTypes = OrganType.labelsOf(organTypesMask);
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public String getDonorId() { return donorId; }
+    public String getFirstName() { return firstName; }
+    public String getLastName() { return lastName; }
+    public String getFullName() { return firstName + " " + lastName; }
+    public Gender getGender() { return gender; }
+    public String getBloodType() { return bloodType; }
+    public String getCity() { return city; }
+    public String getState() { return state; }
+    public DonorStatus getStatus() { return status; }
+    public AvailabilityStatus getAvailabilityStatus() { return availabilityStatus; }
+    public Boolean getSignatureVerified() { return signatureVerified; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    public List<String> getOrganTypes() { return organTypes; }
+}
@@ -0,0 +1,95 @@
+package com.organlink.dto;
+
+import com.organlink.entity.Hospital;
+import com.organlink.entity.HospitalStatus;
+import com.organlink.entity.VerificationStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hospital detail view
+ * Hospital columns and specializations only; the donor and patient collections are never serialized.
+ */
+public class HospitalDetail {
+
+    private final Long id;
+    private final String hospitalId;
+    private final String hospitalName;
+    private final String country;
+    private final String state;
+    private final String city;
+    private final String address;
+    private final String zipCode;
+    private final String contactPerson;
+    private final String email;
+    private final String phone;
+    private final String alternatePhone;
+    private final String licenseNumber;
+    private final String accreditation;
+    private final List<String> specializations;
+    private final Integer capacity;
+    private final String blockchainAddress;
+    private final String authorizationTxHash;
+    private final HospitalStatus status;
+    private final VerificationStatus verificationStatus;
+    private final LocalDateTime lastActivity;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    private HospitalDetail(Hospital hospital) {
+        this.id = hospital.getId();
+        this.hospitalId = hospital.getHospitalId();
+        this.hospitalName = hospital.getHospitalName();
+        this.country = hospital.getCountry();
+        this.state = hospital.getState();
+        this.city = hospital.getCity();
+        this.address = hospital.getAddress();
+        this.zipCode = hospital.getZipCode();
+        this.contactPerson = hospital.getContactPerson();
+        this.email = hospital.getEmail();
+        this.phone = hospital.getPhone();
+        this.alternatePhone = hospital.getAlternatePhone();
+        this.licenseNumber = hospital.getLicenseNumber();
+        this.accreditation = hospital.getAccreditation();
+        this.specializations = new ArrayList<>(hospital.getSpecializations());
+        this.capacity = hospital.getCapacity();
+        this.blockchainAddress = hospital.getBlockchainAddress();
+        this.authorizationTxHash = hospital.getAuthorizationTxHash();
+        this.status = hospital.getStatus();
+        this.verificationStatus = hospital.getVerificationStatus();
+        this.lastActivity = hospital.getLastActivity();
+        this.createdAt = hospital.getCreatedAt();
+        this.updatedAt = hospital.getUpdatedAt();
+    }
+
+    public static HospitalDetail from(Hospital hospital) {
+        return new HospitalDetail(hospital);
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public String getHospitalId() { return hospitalId; }
+    public String getHospitalName() { return hospitalName; }
+    public String getCountry() { return country; }
+    public String getState() { return state; }
+    public String getCity() { return city; }
+    public String getAddress() { return address; }
+    public String getZipCode() { return zipCode; }
+    public String getContactPerson() { return contactPerson; }
+    public String getEmail() { return email; }
+    public String getPhone() { return phone; }
+    public String getAlternatePhone() { return alternatePhone; }
+    public String getLicenseNumber() { return licenseNumber; }
+    public String getAccreditation() { return accreditation; }
+    public List<String> getSpecializations() { return specializations; }
+    public Integer getCapacity() { return capacity; }
+    public String getBlockchainAddress() { return blockchainAddress; }
+    public String getAuthorizationTxHash() { return authorizationTxHash; }
+    public HospitalStatus getStatus() { return status; }
+    public VerificationStatus getVerificationStatus() { return verificationStatus; }
+    public LocalDateTime getLastActivity() { return lastActivity; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
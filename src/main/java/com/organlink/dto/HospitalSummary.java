@@ -0,0 +1,58 @@
+package com.organlink.dto;
+
+import com.organlink.entity.Hospital;
+import com.organlink.entity.HospitalStatus;
+import com.organlink.entity.VerificationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Hospital listing row
+ * Populated by a JPQL constructor expression; never touches the donor/patient collections.
+ */
+public class HospitalSummary {
+
+    private final Long id;
+    private final String hospitalId;
+    private final String hospitalName;
+    private final String city;
+    private final String state;
+    private final String country;
+    private final HospitalStatus status;
+    private final VerificationStatus verificationStatus;
+    private final Integer capacity;
+    private final LocalDateTime createdAt;
+
+    public HospitalSummary(Long id, String hospitalId, String hospitalName, String city, String state, String country,
+                           HospitalStatus status, VerificationStatus verificationStatus, Integer capacity,
+                           LocalDateTime createdAt) {
+        this.id = id;
+        this.hospitalId = hospitalId;
+        this.hospitalName = hospitalName;
+        this.city = city;
+        this.state = state;
+        this.country = country;
+        this.status = status;
+        this.verificationStatus = verificationStatus;
+        this.capacity = capacity;
+        this.createdAt = createdAt;
+    }
+
+    public static HospitalSummary from(Hospital hospital) {
+        return new HospitalSummary(hospital.getId(), hospital.getHospitalId(), hospital.getHospitalName(),
+                hospital.getCity(), hospital.getState(), hospital.getCountry(), hospital.getStatus(),
+                hospital.getVerificationStatus(), hospital.getCapacity(), hospital.getCreatedAt());
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public String getHospitalId() { return hospitalId; }
+    public String getHospitalName() { return hospitalName; }
+    public String getCity() { return city; }
+    public String getState() { return state; }
+    public String getCountry() { return country; }
+    public HospitalStatus getStatus() { return status; }
+    public VerificationStatus getVerificationStatus() { return verificationStatus; }
+    public Integer getCapacity() { return capacity; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
@@ -0,0 +1,92 @@
+package com.organlink.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bulk import result DTO
+ * Row counts of a donor/patient import plus the per-row errors (capped)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportResult {
+
+    private String dataset;
+    private String hospitalId;
+    private String format;
+    private long totalRows;
+    private long importedRows;
+    private long failedRows;
+    private long sideEffectsQueued;
+    private long durationMs;
+    private boolean errorsTruncated;
+    private List<RowError> errors = new ArrayList<>();
+
+    // Constructors
+    public ImportResult() {}
+
+    public ImportResult(String dataset, String hospitalId, String format) {
+        this.dataset = dataset;
+        this.hospitalId = hospitalId;
+        this.format = format;
+    }
+
+    // Getters and Setters
+    public String getDataset() { return dataset; }
+    public void setDataset(String dataset) { this.dataset = dataset; }
+
+    public String getHospitalId() { return hospitalId; }
+    public void setHospitalId(String hospitalId) { this.hospitalId = hospitalId; }
+
+    public String getFormat() { return format; }
+    public void setFormat(String format) { this.format = format; }
+
+    public long getTotalRows() { return totalRows; }
+    public void setTotalRows(long totalRows) { this.totalRows = totalRows; }
+
+    public long getImportedRows() { return importedRows; }
+    public void setImportedRows(long importedRows) { this.importedRows = importedRows; }
+
+    public long getFailedRows() { return failedRows; }
+    public void setFailedRows(long failedRows) { this.failedRows = failedRows; }
+
+    public long getSideEffectsQueued() { return sideEffectsQueued; }
+    public void setSideEffectsQueued(long sideEffectsQueued) { this.sideEffectsQueued = sideEffectsQueued; }
+
+    public long getDurationMs() { return durationMs; }
+    public void setDurationMs(long durationMs) { this.durationMs = durationMs; }
+
+    public boolean isErrorsTruncated() { return errorsTruncated; }
+    public void setErrorsTruncated(boolean errorsTruncated) { this.errorsTruncated = errorsTruncated; }
+
+    public List<RowError> getErrors() { return errors; }
+    public void setErrors(List<RowError> errors) { this.errors = errors; }
+
+    /**
+     * Rejected row: 1-based data row number (CSV header and blank lines excluded), offending field if known
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class RowError {
+        private long row;
+        private String field;
+        private String message;
+
+        public RowError() {}
+
+        public RowError(long row, String field, String message) {
+            this.row = row;
+            this.field = field;
+            this.message = message;
+        }
+
+        public long getRow() { return row; }
+        public void setRow(long row) { this.row = row; }
+
+        public String getField() { return field; }
+        public void setField(String field) { this.field = field; }
+
+        public String getMessage() { return message; }
+        public void setMessage(String message) { this.message = message; }
+    }
+}
@@ -0,0 +1,63 @@
+package com.organlink.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * KPI report run status DTO
+ * Point-in-time snapshot of a background report run over all hospitals
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class KpiReportRunStatus {
+
+    public enum State {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private String batchId;
+    private State state;
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private int hospitals;
+    private int reportsWritten;
+    private LocalDateTime submittedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private String error;
+
+    // Constructors
+    public KpiReportRunStatus() {}
+
+    // Getters and Setters
+    public String getBatchId() { return batchId; }
+    public void setBatchId(String batchId) { this.batchId = batchId; }
+
+    public State getState() { return state; }
+    public void setState(State state) { this.state = state; }
+
+    public LocalDate getPeriodStart() { return periodStart; }
+    public void setPeriodStart(LocalDate periodStart) { this.periodStart = periodStart; }
+
+    public LocalDate getPeriodEnd() { return periodEnd; }
+    public void setPeriodEnd(LocalDate periodEnd) { this.periodEnd = periodEnd; }
+
+    public int getHospitals() { return hospitals; }
+    public void setHospitals(int hospitals) { this.hospitals = hospitals; }
+
+    public int getReportsWritten() { return reportsWritten; }
+    public void setReportsWritten(int reportsWritten) { this.reportsWritten = reportsWritten; }
+
+    public LocalDateTime getSubmittedAt() { return submittedAt; }
+    public void setSubmittedAt(LocalDateTime submittedAt) { this.submittedAt = submittedAt; }
+
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+
+    public LocalDateTime getCompletedAt() { return completedAt; }
+    public void setCompletedAt(LocalDateTime completedAt) { this.completedAt = completedAt; }
+
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+}
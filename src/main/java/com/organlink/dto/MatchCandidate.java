@@ -0,0 +1,45 @@
+package com.organlink.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Slim donor projection used by AI matching
+ * Populated by a JPQL constructor expression so candidate scans never load
+ * full Donor entities, their TEXT columns or lazy associations. The name and
+ * hospital ID are what match notifications need.
+ */
+public class MatchCandidate {
+
+    private final Long donorId;
+    private final LocalDate dateOfBirth;
+    private final String bloodType;
+    private final String firstName;
+    private final String lastName;
+    private final Long hospitalId;
+
+    public MatchCandidate(Long donorId, LocalDate dateOfBirth, String bloodType, String firstName, String lastName,
+                          Long hospitalId) {
+        this.donorId = donorId;
+        this.dateOfBirth = dateOfBirth;
+        this.bloodType = bloodType;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.hospitalId = hospitalId;
+    }
+
+    // Getters
+    public Long getDonorId() { return donorId; }
+    public LocalDate getDateOfBirth() { return dateOfBirth; }
+    public String getBloodType() { return bloodType; }
+    public Long getHospitalId() { return hospitalId; }
+
+    // Same format as Donor.getFullName()
+    public String getFullName() {
+        return firstName + " " + lastName;
+    }
+
+    // Same calculation as Donor.getAge()
+    public int getAge() {
+        return LocalDate.now().getYear() - dateOfBirth.getYear();
+    }
+}
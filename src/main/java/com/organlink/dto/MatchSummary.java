@@ -0,0 +1,122 @@
+package com.organlink.dto;
+
+import com.organlink.entity.Donor;
+import com.organlink.entity.Match;
+import com.organlink.entity.MatchStatus;
+import com.organlink.entity.Patient;
+
+import java.time.LocalDateTime;
+
+/**
+ * Match listing row
+ * Flat view of a match with just the patient/donor/hospital fields the listing shows.
+ */
+public class MatchSummary {
+
+    private Long id;
+    private Double matchScore;
+    private MatchStatus status;
+    private LocalDateTime createdAt;
+    private boolean crossHospital;
+
+    private Long patientId;
+    private String patientCode;
+    private String patientName;
+    private String organNeeded;
+    private String patientBloodType;
+    private String patientHospitalId;
+    private String patientHospitalName;
+
+    private Long donorId;
+    private String donorCode;
+    private String donorName;
+    private String donorBloodType;
+    private String donorHospitalId;
+    private String donorHospitalName;
+
+    // Constructors
+    public MatchSummary() {}
+
+    public static MatchSummary from(Match match) {
+        MatchSummary summary = new MatchSummary();
+        summary.setId(match.getId());
+        summary.setMatchScore(match.getMatchScore());
+        summary.setStatus(match.getStatus());
+        summary.setCreatedAt(match.getCreatedAt());
+
+        Patient patient = match.getPatient();
+        summary.setPatientId(patient.getId());
+        summary.setPatientCode(patient.getPatientId());
+        summary.setPatientName(patient.getFullName());
+        summary.setOrganNeeded(patient.getOrganNeeded());
+        summary.setPatientBloodType(patient.getBloodType());
+        summary.setPatientHospitalId(patient.getHospital().getHospitalId());
+        summary.setPatientHospitalName(patient.getHospital().getHospitalName());
+
+        Donor donor = match.getDonor();
+        summary.setDonorId(donor.getId());
+        summary.setDonorCode(donor.getDonorId());
+        summary.setDonorName(donor.getFullName());
+        summary.setDonorBloodType(donor.getBloodType());
+        summary.setDonorHospitalId(donor.getHospital().getHospitalId());
+        summary.setDonorHospitalName(donor.getHospital().getHospitalName());
+
+        summary.setCrossHospital(!patient.getHospital().getId().equals(donor.getHospital().getId()));
+        return summary;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Double getMatchScore() { return matchScore; }
+    public void setMatchScore(Double matchScore) { this.matchScore = matchScore; }
+
+    public MatchStatus getStatus() { return status; }
+    public void setStatus(MatchStatus status) { this.status = status; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public boolean isCrossHospital() { return crossHospital; }
+    public void setCrossHospital(boolean crossHospital) { this.crossHospital = crossHospital; }
+
+    public Long getPatientId() { return patientId; }
+    public void setPatientId(Long patientId) { this.patientId = patientId; }
+
+    public String getPatientCode() { return patientCode; }
+    public void setPatientCode(String patientCode) { this.patientCode = patientCode; }
+
+    public String getPatientName() { return patientName; }
+    public void setPatientName(String patientName) { this.patientName = patientName; }
+
+    public String getOrganNeeded() { return organNeeded; }
+    public void setOrganNeeded(String organNeeded) { this.organNeeded = organNeeded; }
+
+    public String getPatientBloodType() { return patientBloodType; }
+    public void setPatientBloodType(String patientBloodType) { this.patientBloodType = patientBloodType; }
+
+    public String getPatientHospitalId() { return patientHospitalId; }
+    public void setPatientHospitalId(String patientHospitalId) { this.patientHospitalId = patientHospitalId; }
+
+    public String getPatientHospitalName() { return patientHospitalName; }
+    public void setPatientHospitalName(String patientHospitalName) { this.patientHospitalName = patientHospitalName; }
+
+    public Long getDonorId() { return donorId; }
+    public void setDonorId(Long donorId) { this.donorId = donorId; }
+
+    public String getDonorCode() { return donorCode; }
+    public void setDonorCode(String donorCode) { this.donorCode = donorCode; }
+
+    public String getDonorName() { return donorName; }
+    public void setDonorName(String donorName) { this.donorName = donorName; }
+
+    public String getDonorBloodType() { return donorBloodType; }
+    public void setDonorBloodType(String donorBloodType) { this.donorBloodType = donorBloodType; }
+
+    public String getDonorHospitalId() { return donorHospitalId; }
+    public void setDonorHospitalId(String donorHospitalId) { this.donorHospitalId = donorHospitalId; }
+
+    public String getDonorHospitalName() { return donorHospitalName; }
+    public void setDonorHospitalName(String donorHospitalName) { this.donorHospitalName = donorHospitalName; }
+}
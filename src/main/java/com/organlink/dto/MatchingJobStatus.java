@@ -0,0 +1,75 @@
+package com.organlink.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Matching job status DTO
+ * Point-in-time snapshot of an asynchronous hospital-wide matching run
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MatchingJobStatus {
+
+    public enum State {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private String jobId;
+    private String hospitalId;
+    private State state;
+    private int totalPatients;
+    private int patientsProcessed;
+    private int matchesFound;
+    private int failedPatients;
+    private Long estimatedSecondsRemaining;
+    private LocalDateTime submittedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+    private List<Long> matchIds;
+    private String error;
+
+    // Constructors
+    public MatchingJobStatus() {}
+
+    // Getters and Setters
+    public String getJobId() { return jobId; }
+    public void setJobId(String jobId) { this.jobId = jobId; }
+
+    public String getHospitalId() { return hospitalId; }
+    public void setHospitalId(String hospitalId) { this.hospitalId = hospitalId; }
+
+    public State getState() { return state; }
+    public void setState(State state) { this.state = state; }
+
+    public int getTotalPatients() { return totalPatients; }
+    public void setTotalPatients(int totalPatients) { this.totalPatients = totalPatients; }
+
+    public int getPatientsProcessed() { return patientsProcessed; }
+    public void setPatientsProcessed(int patientsProcessed) { this.patientsProcessed = patientsProcessed; }
+
+    public int getMatchesFound() { return matchesFound; }
+    public void setMatchesFound(int matchesFound) { this.matchesFound = matchesFound; }
+
+    public int getFailedPatients() { return failedPatients; }
+    public void setFailedPatients(int failedPatients) { this.failedPatients = failedPatients; }
+
+    public Long getEstimatedSecondsRemaining() { return estimatedSecondsRemaining; }
+    public void setEstimatedSecondsRemaining(Long estimatedSecondsRemaining) { this.estimatedSecondsRemaining = estimatedSecondsRemaining; }
+
+    public LocalDateTime getSubmittedAt() { return submittedAt; }
+    public void setSubmittedAt(LocalDateTime submittedAt) { this.submittedAt = submittedAt; }
+
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
+
+    public LocalDateTime getCompletedAt() { return completedAt; }
+    public void setCompletedAt(LocalDateTime completedAt) { this.completedAt = completedAt; }
+
+    public List<Long> getMatchIds() { return matchIds; }
+    public void setMatchIds(List<Long> matchIds) { this.matchIds = matchIds; }
+
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+}
@@ -0,0 +1,47 @@
+package com.organlink.dto;
+
+import com.organlink.entity.Notification;
+
+import java.time.LocalDateTime;
+
+/**
+ * Notification row for dashboards
+ * Carries only the notification's own fields, never the recipient User.
+ */
+public class NotificationSummary {
+
+    private Long id;
+    private String message;
+    private String link;
+    private boolean read;
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public NotificationSummary() {}
+
+    public static NotificationSummary from(Notification notification) {
+        NotificationSummary summary = new NotificationSummary();
+        summary.setId(notification.getId());
+        summary.setMessage(notification.getMessage());
+        summary.setLink(notification.getLink());
+        summary.setRead(notification.isRead());
+        summary.setCreatedAt(notification.getCreatedAt());
+        return summary;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+
+    public String getLink() { return link; }
+    public void setLink(String link) { this.link = link; }
+
+    public boolean isRead() { return read; }
+    public void setRead(boolean read) { this.read = read; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
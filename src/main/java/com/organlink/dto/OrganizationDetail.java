@@ -0,0 +1,98 @@
+package com.organlink.dto;
+
+import com.organlink.entity.Organization;
+import com.organlink.entity.OrganizationStatus;
+import com.organlink.entity.VerificationStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Organization detail view
+ * Organization columns and focus areas only; the policy and vote collections are never serialized.
+ */
+public class OrganizationDetail {
+
+    private final Long id;
+    private final String organizationId;
+    private final String organizationName;
+    private final String organizationType;
+    private final String country;
+    private final String state;
+    private final String city;
+    private final String address;
+    private final String zipCode;
+    private final String contactPerson;
+    private final String email;
+    private final String phone;
+    private final String alternatePhone;
+    private final String website;
+    private final String registrationNumber;
+    private final String taxId;
+    private final List<String> focusAreas;
+    private final String description;
+    private final OrganizationStatus status;
+    private final VerificationStatus verificationStatus;
+    private final Integer votingPower;
+    private final LocalDateTime lastActivity;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    private OrganizationDetail(Organization organization) {
+        this.id = organization.getId();
+        this.organizationId = organization.getOrganizationId();
+        this.organizationName = organization.getOrganizationName();
+        this.organizationType = organization.getOrganizationType();
+        this.country = organization.getCountry();
+        this.state = organization.getState();
+        this.city = organization.getCity();
+        this.address = organization.getAddress();
+        this.zipCode = organization.getZipCode();
+        this.contactPerson = organization.getContactPerson();
+        this.email = organization.getEmail();
+        this.phone = organization.getPhone();
+        this.alternatePhone = organization.getAlternatePhone();
+        this.website = organization.getWebsite();
+        this.registrationNumber = organization.getRegistrationNumber();
+        this.taxId = organization.getTaxId();
+        this.focusAreas = new ArrayList<>(organization.getFocusAreas());
+        this.description = organization.getDescription();
+        this.status = organization.getStatus();
+        this.verificationStatus = organization.getVerificationStatus();
+        this.votingPower = organization.getVotingPower();
+        this.lastActivity = organization.getLastActivity();
+        this.createdAt = organization.getCreatedAt();
+        this.updatedAt = organization.getUpdatedAt();
+    }
+
+    public static OrganizationDetail from(Organization organization) {
+        return new OrganizationDetail(organization);
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public String getOrganizationId() { return organizationId; }
+    public String getOrganizationName() { return organizationName; }
+    public String getOrganizationType() { return organizationType; }
+    public String getCountry() { return country; }
+    public String getState() { return state; }
+    public String getCity() { return city; }
+    public String getAddress() { return address; }
+    public String getZipCode() { return zipCode; }
+    public String getContactPerson() { return contactPerson; }
+    public String getEmail() { return email; }
+    public String getPhone() { return phone; }
+    public String getAlternatePhone() { return alternatePhone; }
+    public String getWebsite() { return website; }
+    public String getRegistrationNumber() { return registrationNumber; }
+    public String getTaxId() { return taxId; }
+    public List<String> getFocusAreas() { return focusAreas; }
+    public String getDescription() { return description; }
+    public OrganizationStatus getStatus() { return status; }
+    public VerificationStatus getVerificationStatus() { return verificationStatus; }
+    public Integer getVotingPower() { return votingPower; }
+    public LocalDateTime getLastActivity() { return lastActivity; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
@@ -0,0 +1,163 @@
+package com.organlink.dto;
+
+import com.organlink.entity.Gender;
+import com.organlink.entity.Patient;
+import com.organlink.entity.PatientStatus;
+import com.organlink.entity.UrgencyLevel;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Patient detail view
+ * Every patient column plus the owning hospital's code and name;
+ * the matches collection and the signature file path are never serialized.
+ */
+public class PatientDetail {
+
+    private final Long id;
+    private final String patientId;
+    private final String firstName;
+    private final String lastName;
+    private final LocalDate dateOfBirth;
+    private final Gender gender;
+    private final String bloodType;
+    private final String email;
+    private final String phone;
+    private final String alternatePhone;
+    private final String address;
+    private final String city;
+    private final String state;
+    private final String country;
+    private final String zipCode;
+    private final String emergencyContactName;
+    private final String emergencyContactPhone;
+    private final String emergencyContactRelationship;
+    private final String organNeeded;
+    private final String medicalCondition;
+    private final LocalDate diagnosisDate;
+    private final String currentMedications;
+    private final String allergies;
+    private final Double height;
+    private final Double weight;
+    private final Double bmi;
+    private final UrgencyLevel urgencyLevel;
+    private final Double priorityScore;
+    private final LocalDate waitingListDate;
+    private final Integer estimatedSurvivalTime;
+    private final String insuranceProvider;
+    private final String insurancePolicyNumber;
+    private final String financialStatus;
+    private final Boolean consentGiven;
+    private final String signatureIpfsHash;
+    private final Boolean signatureVerified;
+    private final String blockchainTxHash;
+    private final PatientStatus status;
+    private final LocalDate lastMedicalCheckup;
+    private final LocalDate nextCheckupDue;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final int age;
+    private final String hospitalId;
+    private final String hospitalName;
+
+    private PatientDetail(Patient patient) {
+        this.id = patient.getId();
+        this.patientId = patient.getPatientId();
+        this.firstName = patient.getFirstName();
+        this.lastName = patient.getLastName();
+        this.dateOfBirth = patient.getDateOfBirth();
+        this.gender = patient.getGender();
+        this.bloodType = patient.getBloodType();
+        this.email = patient.getEmail();
+        this.phone = patient.getPhone();
+        this.alternatePhone = patient.getAlternatePhone();
+        this.address = patient.getAddress();
+        this.city = patient.getCity();
+        this.state = patient.getState();
+        this.country = patient.getCountry();
+        this.zipCode = patient.getZipCode();
+        this.emergencyContactName = patient.getEmergencyContactName();
+        this.emergencyContactPhone = patient.getEmergencyContactPhone();
+        this.emergencyContactRelationship = patient.getEmergencyContactRelationship();
+        this.organNeeded = patient.getOrganNeeded();
+        this.medicalCondition = patient.getMedicalCondition();
+        this.diagnosisDate = patient.getDiagnosisDate();
+        this.currentMedications = patient.getCurrentMedications();
+        this.allergies = patient.getAllergies();
+        this.height = patient.getHeight();
+        this.weight = patient.getWeight();
+        this.bmi = patient.getBmi();
+        this.urgencyLevel = patient.getUrgencyLevel();
+        this.priorityScore = patient.getPriorityScore();
+        this.waitingListDate = patient.getWaitingListDate();
+        this.estimatedSurvivalTime = patient.getEstimatedSurvivalTime();
+        this.insuranceProvider = patient.getInsuranceProvider();
+        this.insurancePolicyNumber = patient.getInsurancePolicyNumber();
+        this.financialStatus = patient.getFinancialStatus();
+        this.consentGiven = patient.getConsentGiven();
+        this.signatureIpfsHash = patient.getSignatureIpfsHash();
+        this.signatureVerified = patient.getSignatureVerified();
+        this.blockchainTxHash = patient.getBlockchainTxHash();
+        this.status = patient.getStatus();
+        this.lastMedicalCheckup = patient.getLastMedicalCheckup();
+        this.nextCheckupDue = patient.getNextCheckupDue();
+        this.createdAt = patient.getCreatedAt();
+        this.updatedAt = patient.getUpdatedAt();
+        this.age = patient.getAge();
+        this.hospitalId = patient.getHospital().getHospitalId();
+        this.hospitalName = patient.getHospital().getHospitalName();
+    }
+
+    public static PatientDetail from(Patient patient) {
+        return new PatientDetail(patient);
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public String getPatientId() { return patientId; }
+    public String getFirstName() { return firstName; }
+    public String getLastName() { return lastName; }
+    public String getFullName() { return firstName + " " + lastName; }
+    public LocalDate getDateOfBirth() { return dateOfBirth; }
+    public Gender getGender() { return gender; }
+    public String getBloodType() { return bloodType; }
+    public String getEmail() { return email; }
+    public String getPhone() { return phone; }
+    public String getAlternatePhone() { return alternatePhone; }
+    public String getAddress() { return address; }
+    public String getCity() { return city; }
+    public String getState() { return state; }
+    public String getCountry() { return country; }
+    public String getZipCode() { return zipCode; }
+    public String getEmergencyContactName() { return emergencyContactName; }
+    public String getEmergencyContactPhone() { return emergencyContactPhone; }
+    public String getEmergencyContactRelationship() { return emergencyContactRelationship; }
+    public String getOrganNeeded() { return organNeeded; }
+    public String getMedicalCondition() { return medicalCondition; }
+    public LocalDate getDiagnosisDate() { return diagnosisDate; }
+    public String getCurrentMedications() { return currentMedications; }
+    public String getAllergies() { return allergies; }
+    public Double getHeight() { return height; }
+    public Double getWeight() { return weight; }
+    public Double getBmi() { return bmi; }
+    public UrgencyLevel getUrgencyLevel() { return urgencyLevel; }
+    public Double getPriorityScore() { return priorityScore; }
+    public LocalDate getWaitingListDate() { return waitingListDate; }
+    public Integer getEstimatedSurvivalTime() { return estimatedSurvivalTime; }
+    public String getInsuranceProvider() { return insuranceProvider; }
+    public String getInsurancePolicyNumber() { return insurancePolicyNumber; }
+    public String getFinancialStatus() { return financialStatus; }
+    public Boolean getConsentGiven() { return consentGiven; }
+    public String getSignatureIpfsHash() { return signatureIpfsHash; }
+    public Boolean getSignatureVerified() { return signatureVerified; }
+    public String getBlockchainTxHash() { return blockchainTxHash; }
+    public PatientStatus getStatus() { return status; }
+    public LocalDate getLastMedicalCheckup() { return lastMedicalCheckup; }
+    public LocalDate getNextCheckupDue() { return nextCheckupDue; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public int getAge() { return age; }
+    public String getHospitalId() { return hospitalId; }
+    public String getHospitalName() { return hospitalName; }
+}
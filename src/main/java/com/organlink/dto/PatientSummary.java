@@ -0,0 +1,70 @@
+package com.organlink.dto;
+
+import com.organlink.entity.Gender;
+import com.organlink.entity.PatientStatus;
+import com.organlink.entity.UrgencyLevel;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Patient listing row
+ * Populated by a JPQL constructor expression, so listings never load TEXT columns or associations.
+ */
+public class PatientSummary {
+
+    private final Long id;
+    private final String patientId;
+    private final String firstName;
+    private final String lastName;
+    private final Gender gender;
+    private final String bloodType;
+    private final String organNeeded;
+    private final UrgencyLevel urgencyLevel;
+    private final Double priorityScore;
+    private final LocalDate waitingListDate;
+    private final String city;
+    private final String state;
+    private final PatientStatus status;
+    private final Boolean signatureVerified;
+    private final LocalDateTime createdAt;
+
+    public PatientSummary(Long id, String patientId, String firstName, String lastName, Gender gender, String bloodType,
+                          String organNeeded, UrgencyLevel urgencyLevel, Double priorityScore, LocalDate waitingListDate,
+                          String city, String state, PatientStatus status, Boolean signatureVerified,
+                          LocalDateTime createdAt) {
+        this.id = id;
+        this.patientId = patientId;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.gender = gender;
+        this.bloodType = bloodType;
+        this.organNeeded = organNeeded;
+        this.urgencyLevel = urgencyLevel;
+        this.priorityScore = priorityScore;
+        this.waitingListDate = waitingListDate;
+        this.city = city;
+        this.state = state;
+        this.status = status;
+        this.signatureVerified = signatureVerified;
+        this.createdAt = createdAt;
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public String getPatientId() { return patientId; }
+    public String getFirstName() { return firstName; }
+    public String getLastName() { return lastName; }
+    public String getFullName() { return firstName + " " + lastName; }
+    public Gender getGender() { return gender; }
+    public String getBloodType() { return bloodType; }
+    public String getOrganNeeded() { return organNeeded; }
+    public UrgencyLevel getUrgencyLevel() { return urgencyLevel; }
+    public Double getPriorityScore() { return priorityScore; }
+    public LocalDate getWaitingListDate() { return waitingListDate; }
+    public String getCity() { return city; }
+    public String getState() { return state; }
+    public PatientStatus getStatus() { return status; }
+    public Boolean getSignatureVerified() { return signatureVerified; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
@@ -0,0 +1,92 @@
+package com.organlink.dto;
+
+import com.organlink.entity.Policy;
+import com.organlink.entity.PolicyStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Policy detail view
+ * Policy columns plus the proposing organization's code and name; votes are not serialized.
+ */
+public class PolicyDetail {
+
+    private final Long id;
+    private final String policyId;
+    private final String title;
+    private final String description;
+    private final String organType;
+    private final String policyData;
+    private final PolicyStatus status;
+    private final LocalDateTime votingStartDate;
+    private final LocalDateTime votingEndDate;
+    private final LocalDateTime implementationDate;
+    private final LocalDateTime expiryDate;
+    private final Integer votesFor;
+    private final Integer votesAgainst;
+    private final Integer totalVotes;
+    private final Integer requiredVotes;
+    private final Double approvalThreshold;
+    private final String blockchainTxHash;
+    private final String smartContractAddress;
+    private final String ipfsHash;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final String proposedByOrganizationId;
+    private final String proposedByOrganizationName;
+
+    private PolicyDetail(Policy policy) {
+        this.id = policy.getId();
+        this.policyId = policy.getPolicyId();
+        this.title = policy.getTitle();
+        this.description = policy.getDescription();
+        this.organType = policy.getOrganType();
+        this.policyData = policy.getPolicyData();
+        this.status = policy.getStatus();
+        this.votingStartDate = policy.getVotingStartDate();
+        this.votingEndDate = policy.getVotingEndDate();
+        this.implementationDate = policy.getImplementationDate();
+        this.expiryDate = policy.getExpiryDate();
+        this.votesFor = policy.getVotesFor();
+        this.votesAgainst = policy.getVotesAgainst();
+        this.totalVotes = policy.getTotalVotes();
+        this.requiredVotes = policy.getRequiredVotes();
+        this.approvalThreshold = policy.getApprovalThreshold();
+        this.blockchainTxHash = policy.getBlockchainTxHash();
+        this.smartContractAddress = policy.getSmartContractAddress();
+        this.ipfsHash = policy.getIpfsHash();
+        this.createdAt = policy.getCreatedAt();
+        this.updatedAt = policy.getUpdatedAt();
+        this.proposedByOrganizationId = policy.getProposedByOrganization().getOrganizationId();
+        this.proposedByOrganizationName = policy.getProposedByOrganization().getOrganizationName();
+    }
+
+    public static PolicyDetail from(Policy policy) {
+        return new PolicyDetail(policy);
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public String getPolicyId() { return policyId; }
+    public String getTitle() { return title; }
+    public String getDescription() { return description; }
+    public String getOrganType() { return organType; }
+    public String getPolicyData() { return policyData; }
+    public PolicyStatus getStatus() { return status; }
+    public LocalDateTime getVotingStartDate() { return votingStartDate; }
+    public LocalDateTime getVotingEndDate() { return votingEndDate; }
+    public LocalDateTime getImplementationDate() { return implementationDate; }
+    public LocalDateTime getExpiryDate() { return expiryDate; }
+    public Integer getVotesFor() { return votesFor; }
+    public Integer getVotesAgainst() { return votesAgainst; }
+    public Integer getTotalVotes() { return totalVotes; }
+    public Integer getRequiredVotes() { return requiredVotes; }
+    public Double getApprovalThreshold() { return approvalThreshold; }
+    public String getBlockchainTxHash() { return blockchainTxHash; }
+    public String getSmartContractAddress() { return smartContractAddress; }
+    public String getIpfsHash() { return ipfsHash; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public String getProposedByOrganizationId() { return proposedByOrganizationId; }
+    public String getProposedByOrganizationName() { return proposedByOrganizationName; }
+}
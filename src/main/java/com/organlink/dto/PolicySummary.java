@@ -0,0 +1,60 @@
+package com.organlink.dto;
+
+import com.organlink.entity.PolicyStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Policy listing row
+ * Populated by a JPQL constructor expression that joins the proposing organization in the same statement.
+ */
+public class PolicySummary {
+
+    private final Long id;
+    private final String policyId;
+    private final String title;
+    private final String organType;
+    private final PolicyStatus status;
+    private final LocalDateTime votingStartDate;
+    private final LocalDateTime votingEndDate;
+    private final Integer votesFor;
+    private final Integer votesAgainst;
+    private final Integer totalVotes;
+    private final String proposedByOrganizationId;
+    private final String proposedByOrganizationName;
+    private final LocalDateTime createdAt;
+
+    public PolicySummary(Long id, String policyId, String title, String organType, PolicyStatus status,
+                         LocalDateTime votingStartDate, LocalDateTime votingEndDate, Integer votesFor,
+                         Integer votesAgainst, Integer totalVotes, String proposedByOrganizationId,
+                         String proposedByOrganizationName, LocalDateTime createdAt) {
+        this.id = id;
+        this.policyId = policyId;
+        this.title = title;
+        this.organType = organType;
+        this.status = status;
+        this.votingStartDate = votingStartDate;
+        this.votingEndDate = votingEndDate;
+        this.votesFor = votesFor;
+        this.votesAgainst = votesAgainst;
+        this.totalVotes = totalVotes;
+        this.proposedByOrganizationId = proposedByOrganizationId;
+        this.proposedByOrganizationName = proposedByOrganizationName;
+        this.createdAt = createdAt;
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public String getPolicyId() { return policyId; }
+    public String getTitle() { return title; }
+    public String getOrganType() { return organType; }
+    public PolicyStatus getStatus() { return status; }
+    public LocalDateTime getVotingStartDate() { return votingStartDate; }
+    public LocalDateTime getVotingEndDate() { return votingEndDate; }
+    public Integer getVotesFor() { return votesFor; }
+    public Integer getVotesAgainst() { return votesAgainst; }
+    public Integer getTotalVotes() { return totalVotes; }
+    public String getProposedByOrganizationId() { return proposedByOrganizationId; }
+    public String getProposedByOrganizationName() { return proposedByOrganizationName; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
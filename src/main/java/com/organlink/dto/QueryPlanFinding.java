@@ -0,0 +1,40 @@
+package com.organlink.dto;
+
+/**
+ * A statement whose EXPLAIN plan reads a table with a full scan
+ */
+public class QueryPlanFinding {
+
+    private String digest;
+    private String statement;
+    private String table;
+    private String accessType;
+    private String possibleKeys;
+    private Long estimatedRows;
+    private long executions;
+
+    // Constructors
+    public QueryPlanFinding() {}
+
+    // Getters and Setters
+    public String getDigest() { return digest; }
+    public void setDigest(String digest) { this.digest = digest; }
+
+    public String getStatement() { return statement; }
+    public void setStatement(String statement) { this.statement = statement; }
+
+    public String getTable() { return table; }
+    public void setTable(String table) { this.table = table; }
+
+    public String getAccessType() { return accessType; }
+    public void setAccessType(String accessType) { this.accessType = accessType; }
+
+    public String getPossibleKeys() { return possibleKeys; }
+    public void setPossibleKeys(String possibleKeys) { this.possibleKeys = possibleKeys; }
+
+    public Long getEstimatedRows() { return estimatedRows; }
+    public void setEstimatedRows(Long estimatedRows) { this.estimatedRows = estimatedRows; }
+
+    public long getExecutions() { return executions; }
+    public void setExecutions(long executions) { this.executions = executions; }
+}
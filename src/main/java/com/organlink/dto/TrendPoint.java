@@ -0,0 +1,49 @@
+package com.organlink.dto;
+
+import com.organlink.entity.RegistryRollup;
+import com.organlink.entity.RollupMetric;
+
+import java.time.LocalDate;
+
+/**
+ * One point of a registry trend series
+ */
+public class TrendPoint {
+
+    private LocalDate periodStart;
+    private String dimension;
+    private long count;
+    private double sum;
+    private Double average;
+
+    // Constructors
+    public TrendPoint() {}
+
+    public static TrendPoint from(RegistryRollup rollup) {
+        TrendPoint point = new TrendPoint();
+        point.periodStart = rollup.getPeriodStart();
+        point.dimension = rollup.getDimension();
+        point.count = rollup.getValueCount();
+        point.sum = rollup.getValueSum();
+        // Only time-to-match carries a summed value (hours)
+        point.average = rollup.getMetric() == RollupMetric.TIME_TO_MATCH && rollup.getValueCount() > 0
+                ? rollup.getValueSum() / rollup.getValueCount() : null;
+        return point;
+    }
+
+    // Getters and Setters
+    public LocalDate getPeriodStart() { return periodStart; }
+    public void setPeriodStart(LocalDate periodStart) { this.periodStart = periodStart; }
+
+    public String getDimension() { return dimension; }
+    public void setDimension(String dimension) { this.dimension = dimension; }
+
+    public long getCount() { return count; }
+    public void setCount(long count) { this.count = count; }
+
+    public double getSum() { return sum; }
+    public void setSum(double sum) { this.sum = sum; }
+
+    public Double getAverage() { return average; }
+    public void setAverage(Double average) { this.average = average; }
+}
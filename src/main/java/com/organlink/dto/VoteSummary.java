@@ -0,0 +1,68 @@
+package com.organlink.dto;
+
+import com.organlink.entity.Vote;
+import com.organlink.entity.VoteType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Vote row for organization endpoints
+ * Carries the policy and organization business IDs instead of the lazy entities.
+ */
+public class VoteSummary {
+
+    private Long id;
+    private String policyId;
+    private String policyTitle;
+    private String organizationId;
+    private VoteType voteType;
+    private String comment;
+    private Integer votingPower;
+    private String blockchainTxHash;
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public VoteSummary() {}
+
+    public static VoteSummary from(Vote vote) {
+        VoteSummary summary = new VoteSummary();
+        summary.setId(vote.getId());
+        summary.setPolicyId(vote.getPolicy().getPolicyId());
+        summary.setPolicyTitle(vote.getPolicy().getTitle());
+        summary.setOrganizationId(vote.getOrganization().getOrganizationId());
+        summary.setVoteType(vote.getVoteType());
+        summary.setComment(vote.getComment());
+        summary.setVotingPower(vote.getVotingPower());
+        summary.setBlockchainTxHash(vote.getBlockchainTxHash());
+        summary.setCreatedAt(vote.getCreatedAt());
+        return summary;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getPolicyId() { return policyId; }
+    public void setPolicyId(String policyId) { this.policyId = policyId; }
+
+    public String getPolicyTitle() { return policyTitle; }
+    public void setPolicyTitle(String policyTitle) { this.policyTitle = policyTitle; }
+
+    public String getOrganizationId() { return organizationId; }
+    public void setOrganizationId(String organizationId) { this.organizationId = organizationId; }
+
+    public VoteType getVoteType() { return voteType; }
+    public void setVoteType(VoteType voteType) { this.voteType = voteType; }
+
+    public String getComment() { return comment; }
+    public void setComment(String comment) { this.comment = comment; }
+
+    public Integer getVotingPower() { return votingPower; }
+    public void setVotingPower(Integer votingPower) { this.votingPower = votingPower; }
+
+    public String getBlockchainTxHash() { return blockchainTxHash; }
+    public void setBlockchainTxHash(String blockchainTxHash) { this.blockchainTxHash = blockchainTxHash; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -18,7 +18,9 @@ import java.time.LocalDateTime;
 public class BlockchainTransaction {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "blockchain_transactions_id")
+    @TableGenerator(name = "blockchain_transactions_id", table = "id_generators", pkColumnName = "sequence_name",
+                    valueColumnName = "next_val", pkColumnValue = "blockchain_transactions", allocationSize = 50)
     private Long id;
     
     @NotBlank
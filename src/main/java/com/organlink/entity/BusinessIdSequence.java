@@ -0,0 +1,44 @@
+package com.organlink.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * High-water mark of a business ID sequence (e.g. donor IDs of one hospital)
+ * Nodes reserve blocks of values by advancing next_value under a row lock and hand
+ * the block out from memory.
+ */
+@Entity
+@Table(name = "business_id_sequences")
+public class BusinessIdSequence {
+
+    @Id
+    @Column(name = "sequence_name", length = 100)
+    private String sequenceName;
+
+    @Column(name = "next_value", nullable = false)
+    private long nextValue;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public BusinessIdSequence() {}
+
+    public BusinessIdSequence(String sequenceName, long nextValue) {
+        this.sequenceName = sequenceName;
+        this.nextValue = nextValue;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public String getSequenceName() { return sequenceName; }
+    public void setSequenceName(String sequenceName) { this.sequenceName = sequenceName; }
+
+    public long getNextValue() { return nextValue; }
+    public void setNextValue(long nextValue) { this.nextValue = nextValue; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -0,0 +1,107 @@
+package com.organlink.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Outbox entry for a deferred blockchain registration
+ * Written in the same transaction as the imported donor/patient row, removed once the chain has
+ * accepted the registration. Entries that keep failing stay behind as FAILED for review.
+ */
+@Entity
+@Table(name = "chain_registration_outbox",
+       indexes = @Index(name = "idx_chain_outbox_due", columnList = "status, next_attempt_at"))
+public class ChainRegistration {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "chain_registration_outbox_id")
+    @TableGenerator(name = "chain_registration_outbox_id", table = "id_generators", pkColumnName = "sequence_name",
+                    valueColumnName = "next_val", pkColumnValue = "chain_registration_outbox", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private String entityType; // DONOR or PATIENT
+
+    @Column(name = "entity_id", nullable = false, length = 100)
+    private String entityId; // donorId / patientId
+
+    @Column(name = "full_name")
+    private String fullName;
+
+    @Column(name = "blood_type")
+    private String bloodType;
+
+    @Column(name = "organ_needed")
+    private String organNeeded;
+
+    @Column(name = "urgency_level")
+    private String urgencyLevel;
+
+    @Column(name = "signature_ipfs_hash")
+    private String signatureIpfsHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TransactionStatus status = TransactionStatus.PENDING;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        if (nextAttemptAt == null) {
+            nextAttemptAt = createdAt;
+        }
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getEntityType() { return entityType; }
+    public void setEntityType(String entityType) { this.entityType = entityType; }
+
+    public String getEntityId() { return entityId; }
+    public void setEntityId(String entityId) { this.entityId = entityId; }
+
+    public String getFullName() { return fullName; }
+    public void setFullName(String fullName) { this.fullName = fullName; }
+
+    public String getBloodType() { return bloodType; }
+    public void setBloodType(String bloodType) { this.bloodType = bloodType; }
+
+    public String getOrganNeeded() { return organNeeded; }
+    public void setOrganNeeded(String organNeeded) { this.organNeeded = organNeeded; }
+
+    public String getUrgencyLevel() { return urgencyLevel; }
+    public void setUrgencyLevel(String urgencyLevel) { this.urgencyLevel = urgencyLevel; }
+
+    public String getSignatureIpfsHash() { return signatureIpfsHash; }
+    public void setSignatureIpfsHash(String signatureIpfsHash) { this.signatureIpfsHash = signatureIpfsHash; }
+
+    public TransactionStatus getStatus() { return status; }
+    public void setStatus(TransactionStatus status) { this.status = status; }
+
+    public int getAttempts() { return attempts; }
+    public void setAttempts(int attempts) { this.attempts = attempts; }
+
+    public LocalDateTime getNextAttemptAt() { return nextAttemptAt; }
+    public void setNextAttemptAt(LocalDateTime nextAttemptAt) { this.nextAttemptAt = nextAttemptAt; }
+
+    public String getLastError() { return lastError; }
+    public void setLastError(String lastError) { this.lastError = lastError; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -1,5 +1,6 @@
 package com.organlink.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import com.fasterxml.jackson.annotation.JsonBackReference;
@@ -26,7 +27,9 @@ import java.util.List;
 public class Donor {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "donors_id")
+    @TableGenerator(name = "donors_id", table = "id_generators", pkColumnName = "sequence_name",
+                    valueColumnName = "next_val", pkColumnValue = "donors", allocationSize = 50)
     private Long id;
     
     @NotBlank
@@ -98,10 +101,9 @@ public class Donor {
     private String emergencyContactRelationship;
     
     // Medical Information
-    @ElementCollection
-    @CollectionTable(name = "donor_organ_types", joinColumns = @JoinColumn(name = "donor_id"))
-    @Column(name = "organ_type")
-    private List<String> organTypes = new ArrayList<>();
+    // Offered organs as OrganType bits; candidate searches are a bitwise predicate on this column, no join
+    @Column(name = "organ_types_mask", nullable = false)
+    private long organTypesMask;
     
     @Column(name = "medical_history", columnDefinition = "TEXT")
     private String medicalHistory;
@@ -246,8 +248,13 @@ public class Donor {
     public String getEmergencyContactRelationship() { return emergencyContactRelationship; }
     public void setEmergencyContactRelationship(String emergencyContactRelationship) { this.emergencyContactRelationship = emergencyContactRelationship; }
     
-    public List<String> getOrganTypes() { return organTypes; }
-    public void setOrganTypes(List<String> organTypes) { this.organTypes = organTypes; }
+    // Organ names are validated against OrganType and stored only as the mask
+    public List<String> getOrganTypes() { return OrganType.labelsOf(organTypesMask); }
+    public void setOrganTypes(List<String> organTypes) { this.organTypesMask = OrganType.toMask(organTypes); }
+    
+    @JsonIgnore
+    public long getOrganTypesMask() { return organTypesMask; }
+    public void setOrganTypesMask(long organTypesMask) { this.organTypesMask = organTypesMask; }
     
     public String getMedicalHistory() { return medicalHistory; }
     public void setMedicalHistory(String medicalHistory) { this.medicalHistory = medicalHistory; }
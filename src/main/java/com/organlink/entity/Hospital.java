@@ -1,6 +1,8 @@
 package com.organlink.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -16,6 +18,7 @@ import java.util.List;
  * Hospital entity matching the frontend CreateHospital form
  */
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "hospitals")
 @EntityListeners(AuditingEntityListener.class)
 public class Hospital {
@@ -0,0 +1,102 @@
+package com.organlink.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Per-hospital dashboard counters (read model)
+ * Kept up to date incrementally by HospitalStatsListener and reconciled nightly,
+ * so the hospital dashboard reads its counters with a single primary-key lookup.
+ */
+@Entity
+@Table(name = "hospital_stats")
+public class HospitalStats {
+
+    @Id
+    @Column(name = "hospital_id")
+    private Long hospitalId;
+
+    @Column(name = "total_donors", nullable = false)
+    private long totalDonors;
+
+    @Column(name = "active_donors", nullable = false)
+    private long activeDonors;
+
+    @Column(name = "verified_donors", nullable = false)
+    private long verifiedDonors;
+
+    @Column(name = "total_patients", nullable = false)
+    private long totalPatients;
+
+    @Column(name = "waiting_patients", nullable = false)
+    private long waitingPatients;
+
+    @Column(name = "verified_patients", nullable = false)
+    private long verifiedPatients;
+
+    @Column(name = "active_matches", nullable = false)
+    private long activeMatches;
+
+    @Column(name = "completed_matches", nullable = false)
+    private long completedMatches;
+
+    @Column(name = "cross_hospital_matches", nullable = false)
+    private long crossHospitalMatches;
+
+    @Column(name = "ipfs_records", nullable = false)
+    private long ipfsRecords;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "reconciled_at")
+    private LocalDateTime reconciledAt;
+
+    // Constructors
+    public HospitalStats() {}
+
+    public HospitalStats(Long hospitalId) {
+        this.hospitalId = hospitalId;
+    }
+
+    // Getters and Setters
+    public Long getHospitalId() { return hospitalId; }
+    public void setHospitalId(Long hospitalId) { this.hospitalId = hospitalId; }
+
+    public long getTotalDonors() { return totalDonors; }
+    public void setTotalDonors(long totalDonors) { this.totalDonors = totalDonors; }
+
+    public long getActiveDonors() { return activeDonors; }
+    public void setActiveDonors(long activeDonors) { this.activeDonors = activeDonors; }
+
+    public long getVerifiedDonors() { return verifiedDonors; }
+    public void setVerifiedDonors(long verifiedDonors) { this.verifiedDonors = verifiedDonors; }
+
+    public long getTotalPatients() { return totalPatients; }
+    public void setTotalPatients(long totalPatients) { this.totalPatients = totalPatients; }
+
+    public long getWaitingPatients() { return waitingPatients; }
+    public void setWaitingPatients(long waitingPatients) { this.waitingPatients = waitingPatients; }
+
+    public long getVerifiedPatients() { return verifiedPatients; }
+    public void setVerifiedPatients(long verifiedPatients) { this.verifiedPatients = verifiedPatients; }
+
+    public long getActiveMatches() { return activeMatches; }
+    public void setActiveMatches(long activeMatches) { this.activeMatches = activeMatches; }
+
+    public long getCompletedMatches() { return completedMatches; }
+    public void setCompletedMatches(long completedMatches) { this.completedMatches = completedMatches; }
+
+    public long getCrossHospitalMatches() { return crossHospitalMatches; }
+    public void setCrossHospitalMatches(long crossHospitalMatches) { this.crossHospitalMatches = crossHospitalMatches; }
+
+    public long getIpfsRecords() { return ipfsRecords; }
+    public void setIpfsRecords(long ipfsRecords) { this.ipfsRecords = ipfsRecords; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public LocalDateTime getReconciledAt() { return reconciledAt; }
+    public void setReconciledAt(LocalDateTime reconciledAt) { this.reconciledAt = reconciledAt; }
+}
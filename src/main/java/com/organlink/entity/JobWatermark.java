@@ -0,0 +1,61 @@
+package com.organlink.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Watermark for incremental background jobs
+ * Stores the point in time up to which a job has already processed changes.
+ */
+@Entity
+@Table(name = "job_watermarks")
+public class JobWatermark {
+
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    @Column(name = "watermark", nullable = false)
+    private LocalDateTime watermark;
+
+    @Column(name = "last_run_at")
+    private LocalDateTime lastRunAt;
+
+    @Column(name = "last_run_summary")
+    private String lastRunSummary;
+
+    // Cross-node lease, see JobLeaseService
+    @Column(name = "locked_by", length = 100)
+    private String lockedBy;
+
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    // Constructors
+    public JobWatermark() {}
+
+    public JobWatermark(String jobName, LocalDateTime watermark) {
+        this.jobName = jobName;
+        this.watermark = watermark;
+    }
+
+    // Getters and Setters
+    public String getJobName() { return jobName; }
+    public void setJobName(String jobName) { this.jobName = jobName; }
+
+    public LocalDateTime getWatermark() { return watermark; }
+    public void setWatermark(LocalDateTime watermark) { this.watermark = watermark; }
+
+    public LocalDateTime getLastRunAt() { return lastRunAt; }
+    public void setLastRunAt(LocalDateTime lastRunAt) { this.lastRunAt = lastRunAt; }
+
+    public String getLastRunSummary() { return lastRunSummary; }
+    public void setLastRunSummary(String lastRunSummary) { this.lastRunSummary = lastRunSummary; }
+
+    public String getLockedBy() { return lockedBy; }
+    public void setLockedBy(String lockedBy) { this.lockedBy = lockedBy; }
+
+    public LocalDateTime getLockedUntil() { return lockedUntil; }
+    public void setLockedUntil(LocalDateTime lockedUntil) { this.lockedUntil = lockedUntil; }
+}
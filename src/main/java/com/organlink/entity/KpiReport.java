@@ -0,0 +1,143 @@
+package com.organlink.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Per-hospital KPI report artifact
+ * Written by the KPI report engine for one reporting period; every hospital in a run
+ * shares the run's batch ID.
+ */
+@Entity
+@Table(name = "kpi_reports",
+       indexes = {
+           @Index(name = "idx_kpi_reports_batch", columnList = "batch_id"),
+           @Index(name = "idx_kpi_reports_hospital", columnList = "hospital_id, generated_at")
+       })
+public class KpiReport {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "report_id", unique = true, nullable = false, length = 80)
+    private String reportId;
+
+    @Column(name = "batch_id", nullable = false, length = 36)
+    private String batchId;
+
+    @Column(name = "hospital_id", nullable = false, length = 50)
+    private String hospitalId;
+
+    @Column(name = "hospital_name")
+    private String hospitalName;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "period_end", nullable = false)
+    private LocalDate periodEnd;
+
+    @Column(name = "donor_registrations", nullable = false)
+    private long donorRegistrations;
+
+    @Column(name = "patient_registrations", nullable = false)
+    private long patientRegistrations;
+
+    @Column(name = "verified_registrations", nullable = false)
+    private long verifiedRegistrations;
+
+    // Share of registrations with a verified signature (0-100), null without registrations
+    @Column(name = "verification_rate")
+    private Double verificationRate;
+
+    @Column(name = "total_matches", nullable = false)
+    private long totalMatches;
+
+    @Column(name = "decided_matches", nullable = false)
+    private long decidedMatches;
+
+    @Column(name = "accepted_matches", nullable = false)
+    private long acceptedMatches;
+
+    // Accepted or completed share of decided matches (0-100), null without decisions
+    @Column(name = "match_acceptance_rate")
+    private Double matchAcceptanceRate;
+
+    // Median hours from patient registration to match for this hospital's patients
+    @Column(name = "median_time_to_match_hours")
+    private Double medianTimeToMatchHours;
+
+    @Column(name = "cross_hospital_matches", nullable = false)
+    private long crossHospitalMatches;
+
+    // Cross-hospital share of all matches involving the hospital (0-100), null without matches
+    @Column(name = "cross_hospital_share")
+    private Double crossHospitalShare;
+
+    @Column(name = "generated_at", nullable = false)
+    private LocalDateTime generatedAt;
+
+    // Constructors
+    public KpiReport() {}
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getReportId() { return reportId; }
+    public void setReportId(String reportId) { this.reportId = reportId; }
+
+    public String getBatchId() { return batchId; }
+    public void setBatchId(String batchId) { this.batchId = batchId; }
+
+    public String getHospitalId() { return hospitalId; }
+    public void setHospitalId(String hospitalId) { this.hospitalId = hospitalId; }
+
+    public String getHospitalName() { return hospitalName; }
+    public void setHospitalName(String hospitalName) { this.hospitalName = hospitalName; }
+
+    public LocalDate getPeriodStart() { return periodStart; }
+    public void setPeriodStart(LocalDate periodStart) { this.periodStart = periodStart; }
+
+    public LocalDate getPeriodEnd() { return periodEnd; }
+    public void setPeriodEnd(LocalDate periodEnd) { this.periodEnd = periodEnd; }
+
+    public long getDonorRegistrations() { return donorRegistrations; }
+    public void setDonorRegistrations(long donorRegistrations) { this.donorRegistrations = donorRegistrations; }
+
+    public long getPatientRegistrations() { return patientRegistrations; }
+    public void setPatientRegistrations(long patientRegistrations) { this.patientRegistrations = patientRegistrations; }
+
+    public long getVerifiedRegistrations() { return verifiedRegistrations; }
+    public void setVerifiedRegistrations(long verifiedRegistrations) { this.verifiedRegistrations = verifiedRegistrations; }
+
+    public Double getVerificationRate() { return verificationRate; }
+    public void setVerificationRate(Double verificationRate) { this.verificationRate = verificationRate; }
+
+    public long getTotalMatches() { return totalMatches; }
+    public void setTotalMatches(long totalMatches) { this.totalMatches = totalMatches; }
+
+    public long getDecidedMatches() { return decidedMatches; }
+    public void setDecidedMatches(long decidedMatches) { this.decidedMatches = decidedMatches; }
+
+    public long getAcceptedMatches() { return acceptedMatches; }
+    public void setAcceptedMatches(long acceptedMatches) { this.acceptedMatches = acceptedMatches; }
+
+    public Double getMatchAcceptanceRate() { return matchAcceptanceRate; }
+    public void setMatchAcceptanceRate(Double matchAcceptanceRate) { this.matchAcceptanceRate = matchAcceptanceRate; }
+
+    public Double getMedianTimeToMatchHours() { return medianTimeToMatchHours; }
+    public void setMedianTimeToMatchHours(Double medianTimeToMatchHours) { this.medianTimeToMatchHours = medianTimeToMatchHours; }
+
+    public long getCrossHospitalMatches() { return crossHospitalMatches; }
+    public void setCrossHospitalMatches(long crossHospitalMatches) { this.crossHospitalMatches = crossHospitalMatches; }
+
+    public Double getCrossHospitalShare() { return crossHospitalShare; }
+    public void setCrossHospitalShare(Double crossHospitalShare) { this.crossHospitalShare = crossHospitalShare; }
+
+    public LocalDateTime getGeneratedAt() { return generatedAt; }
+    public void setGeneratedAt(LocalDateTime generatedAt) { this.generatedAt = generatedAt; }
+}
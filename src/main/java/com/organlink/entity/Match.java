@@ -8,12 +8,28 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "matches")
+@Table(name = "matches", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_matches_patient_donor", columnNames = {"patient_id", "donor_id"})
+})
 @EntityListeners(AuditingEntityListener.class)
+@NamedEntityGraph(name = Match.WITH_PARTIES,
+        attributeNodes = {
+                @NamedAttributeNode(value = "patient", subgraph = "patient-hospital"),
+                @NamedAttributeNode(value = "donor", subgraph = "donor-hospital")
+        },
+        subgraphs = {
+                @NamedSubgraph(name = "patient-hospital", attributeNodes = @NamedAttributeNode("hospital")),
+                @NamedSubgraph(name = "donor-hospital", attributeNodes = @NamedAttributeNode("hospital"))
+        })
 public class Match {
 
+    // Fetch plan for listings and notifications: patient, donor and both hospitals in one statement
+    public static final String WITH_PARTIES = "Match.withParties";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "matches_id")
+    @TableGenerator(name = "matches_id", table = "id_generators", pkColumnName = "sequence_name",
+                    valueColumnName = "next_val", pkColumnValue = "matches", allocationSize = 50)
     private Long id;
 
     @NotNull
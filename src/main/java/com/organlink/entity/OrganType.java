@@ -0,0 +1,96 @@
+package com.organlink.entity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Donatable organ enumeration
+ * Each organ owns one bit of donors.organ_types_mask; bits are fixed per constant and must never be reused,
+ * so new organs take the next free bit regardless of where they are declared.
+ */
+public enum OrganType {
+    KIDNEY(0, "Kidney"),
+    LIVER(1, "Liver"),
+    HEART(2, "Heart"),
+    LUNG(3, "Lung"),
+    PANCREAS(4, "Pancreas"),
+    INTESTINE(5, "Intestine"),
+    CORNEA(6, "Cornea"),
+    SKIN(7, "Skin"),
+    BONE(8, "Bone"),
+    BONE_MARROW(9, "Bone Marrow"),
+    HEART_VALVE(10, "Heart Valve");
+
+    private final long bit;
+    private final String label;
+
+    OrganType(int bitIndex, String label) {
+        this.bit = 1L << bitIndex;
+        this.label = label;
+    }
+
+    public long getBit() { return bit; }
+    public String getLabel() { return label; }
+
+    /**
+     * Parse a form/import value: case, spaces, hyphens and a plural 's' are ignored ("lungs", "Bone-Marrow")
+     */
+    public static OrganType fromLabel(String value) {
+        OrganType organ = find(value);
+        if (organ == null) {
+            throw new RuntimeException("Unknown organ type: " + value);
+        }
+        return organ;
+    }
+
+    /**
+     * Bit for an organ name, or 0 (matches no donor) when the name is not a known organ
+     */
+    public static long bitOf(String value) {
+        OrganType organ = find(value);
+        return organ != null ? organ.bit : 0L;
+    }
+
+    public static long toMask(Collection<String> values) {
+        long mask = 0L;
+        if (values != null) {
+            for (String value : values) {
+                if (value != null && !value.isBlank()) {
+                    mask |= fromLabel(value).bit;
+                }
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Organ labels encoded in a mask, in declaration order
+     */
+    public static List<String> labelsOf(long mask) {
+        List<String> labels = new ArrayList<>();
+        for (OrganType organ : values()) {
+            if ((mask & organ.bit) != 0) {
+                labels.add(organ.label);
+            }
+        }
+        return labels;
+    }
+
+    /**
+     * Lenient lookup used by fromLabel/bitOf; null when the value is not a known organ
+     */
+    public static OrganType find(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String key = value.trim().toUpperCase(Locale.ROOT).replaceAll("[\\s-]+", "_");
+        for (OrganType organ : values()) {
+            if (organ.name().equals(key) || (organ.name() + "S").equals(key)) {
+                return organ;
+            }
+        }
+        return null;
+    }
+}
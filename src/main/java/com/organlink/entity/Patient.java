@@ -23,7 +23,9 @@ import java.util.List;
 public class Patient {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "patients_id")
+    @TableGenerator(name = "patients_id", table = "id_generators", pkColumnName = "sequence_name",
+                    valueColumnName = "next_val", pkColumnValue = "patients", allocationSize = 50)
     private Long id;
     
     @NotBlank
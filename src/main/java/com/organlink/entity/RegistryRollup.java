@@ -0,0 +1,73 @@
+package com.organlink.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+
+/**
+ * Pre-aggregated registry trend bucket
+ * One row per (granularity, period, metric, dimension), appended by the rollup job
+ * so trend charts never scan the donor, patient or match tables.
+ */
+@Entity
+@Table(name = "registry_rollups",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"granularity", "period_start", "metric", "dimension"}),
+       indexes = @Index(name = "idx_rollups_metric_period", columnList = "metric, granularity, period_start"))
+public class RegistryRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private RollupGranularity granularity;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40)
+    private RollupMetric metric;
+
+    @Column(nullable = false, length = 50)
+    private String dimension;
+
+    @Column(name = "value_count", nullable = false)
+    private long valueCount;
+
+    @Column(name = "value_sum", nullable = false)
+    private double valueSum;
+
+    // Constructors
+    public RegistryRollup() {}
+
+    public RegistryRollup(RollupGranularity granularity, LocalDate periodStart, RollupMetric metric, String dimension) {
+        this.granularity = granularity;
+        this.periodStart = periodStart;
+        this.metric = metric;
+        this.dimension = dimension;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public RollupGranularity getGranularity() { return granularity; }
+    public void setGranularity(RollupGranularity granularity) { this.granularity = granularity; }
+
+    public LocalDate getPeriodStart() { return periodStart; }
+    public void setPeriodStart(LocalDate periodStart) { this.periodStart = periodStart; }
+
+    public RollupMetric getMetric() { return metric; }
+    public void setMetric(RollupMetric metric) { this.metric = metric; }
+
+    public String getDimension() { return dimension; }
+    public void setDimension(String dimension) { this.dimension = dimension; }
+
+    public long getValueCount() { return valueCount; }
+    public void setValueCount(long valueCount) { this.valueCount = valueCount; }
+
+    public double getValueSum() { return valueSum; }
+    public void setValueSum(double valueSum) { this.valueSum = valueSum; }
+}
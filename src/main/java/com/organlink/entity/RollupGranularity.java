@@ -0,0 +1,9 @@
+package com.organlink.entity;
+
+/**
+ * Rollup period granularity enumeration
+ */
+public enum RollupGranularity {
+    DAY,
+    WEEK
+}
@@ -0,0 +1,11 @@
+package com.organlink.entity;
+
+/**
+ * Registry trend metric enumeration
+ */
+public enum RollupMetric {
+    DONOR_REGISTRATIONS,   // dimension: ALL
+    PATIENT_REGISTRATIONS, // dimension: organ needed
+    MATCHES_CREATED,       // dimension: organ needed by the patient
+    TIME_TO_MATCH          // dimension: histogram bin, sum holds hours from patient registration to match
+}
@@ -8,7 +8,9 @@ import java.time.LocalDateTime;
 public class SignatureRecord {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "signature_records_id")
+    @TableGenerator(name = "signature_records_id", table = "id_generators", pkColumnName = "sequence_name",
+                    valueColumnName = "next_val", pkColumnValue = "signature_records", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
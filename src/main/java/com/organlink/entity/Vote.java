@@ -18,7 +18,9 @@ import java.time.LocalDateTime;
 public class Vote {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "votes_id")
+    @TableGenerator(name = "votes_id", table = "id_generators", pkColumnName = "sequence_name",
+                    valueColumnName = "next_val", pkColumnValue = "votes", allocationSize = 50)
     private Long id;
     
     @NotNull
@@ -0,0 +1,164 @@
+package com.organlink.listener;
+
+import com.organlink.entity.Donor;
+import com.organlink.entity.DonorStatus;
+import com.organlink.entity.Hospital;
+import com.organlink.entity.Match;
+import com.organlink.entity.MatchStatus;
+import com.organlink.entity.Patient;
+import com.organlink.entity.PatientStatus;
+import com.organlink.entity.SignatureRecord;
+import com.organlink.service.HospitalStatsService;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate event listener feeding the hospital_stats read model
+ * Compares each entity's counter contribution in the state Hibernate flushed against the state it
+ * was loaded with (kept by the persistence context), so only real transitions move the counters
+ * and no per-entity snapshot is held outside the session.
+ */
+@Component
+public class HospitalStatsListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private HospitalStatsService hospitalStatsService;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        record(event.getEntity(), event.getId(), null, contribution(event.getEntity(), event.getPersister(), event.getState()));
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getOldState() == null) {
+            return; // detached update without a loaded state; the nightly reconciliation covers it
+        }
+        Object entity = event.getEntity();
+        record(entity, event.getId(),
+                contribution(entity, event.getPersister(), event.getOldState()),
+                contribution(entity, event.getPersister(), event.getState()));
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        // Removed matches only disappear via donor/patient cascades; the nightly reconciliation covers them
+        if (contribution(event.getEntity(), event.getPersister(), event.getDeletedState()) instanceof Contribution removed) {
+            hospitalStatsService.recordDelta(removed.hospitalId(), negate(removed.counters()));
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void record(Object entity, Object id, Object previous, Object current) {
+        if (current instanceof MatchState state) {
+            boolean wasCompleted = previous instanceof MatchState old && old.completed();
+            long totalDelta = previous == null ? 1 : 0;
+            long completedDelta = (state.completed() ? 1 : 0) - (wasCompleted ? 1 : 0);
+            hospitalStatsService.recordMatchDelta((Long) id, totalDelta, completedDelta);
+            return;
+        }
+        if (!(current instanceof Contribution now)) {
+            return;
+        }
+
+        if (previous instanceof Contribution old) {
+            if (old.hospitalId() != null && !old.hospitalId().equals(now.hospitalId())) {
+                // Moved between hospitals: take it out of the old one entirely
+                hospitalStatsService.recordDelta(old.hospitalId(), negate(old.counters()));
+                hospitalStatsService.recordDelta(now.hospitalId(), now.counters());
+            } else {
+                hospitalStatsService.recordDelta(now.hospitalId(), subtract(now.counters(), old.counters()));
+            }
+        } else {
+            hospitalStatsService.recordDelta(now.hospitalId(), now.counters());
+        }
+    }
+
+    private Object contribution(Object entity, EntityPersister persister, Object[] state) {
+        if (state == null) {
+            return null;
+        }
+        long[] counters = new long[HospitalStatsService.COUNTERS];
+        if (entity instanceof Donor) {
+            counters[HospitalStatsService.Counter.TOTAL_DONORS.ordinal()] = 1;
+            counters[HospitalStatsService.Counter.ACTIVE_DONORS.ordinal()] =
+                    value(persister, state, "status") == DonorStatus.ACTIVE ? 1 : 0;
+            counters[HospitalStatsService.Counter.VERIFIED_DONORS.ordinal()] =
+                    Boolean.TRUE.equals(value(persister, state, "signatureVerified")) ? 1 : 0;
+            return new Contribution(hospitalId(value(persister, state, "hospital")), counters);
+        }
+        if (entity instanceof Patient) {
+            counters[HospitalStatsService.Counter.TOTAL_PATIENTS.ordinal()] = 1;
+            counters[HospitalStatsService.Counter.WAITING_PATIENTS.ordinal()] =
+                    value(persister, state, "status") == PatientStatus.WAITING ? 1 : 0;
+            counters[HospitalStatsService.Counter.VERIFIED_PATIENTS.ordinal()] =
+                    Boolean.TRUE.equals(value(persister, state, "signatureVerified")) ? 1 : 0;
+            return new Contribution(hospitalId(value(persister, state, "hospital")), counters);
+        }
+        if (entity instanceof SignatureRecord) {
+            counters[HospitalStatsService.Counter.IPFS_RECORDS.ordinal()] = 1;
+            return new Contribution(hospitalId(value(persister, state, "uploadedBy")), counters);
+        }
+        if (entity instanceof Match) {
+            return new MatchState(value(persister, state, "status") == MatchStatus.COMPLETED);
+        }
+        return null;
+    }
+
+    private static Object value(EntityPersister persister, Object[] state, String property) {
+        return state[persister.getEntityMetamodel().getPropertyIndex(property)];
+    }
+
+    // Reading the id of a lazy proxy does not initialize it
+    private static Long hospitalId(Object hospital) {
+        return hospital instanceof Hospital h ? h.getId() : null;
+    }
+
+    private static long[] negate(long[] counters) {
+        long[] result = new long[counters.length];
+        for (int i = 0; i < counters.length; i++) {
+            result[i] = -counters[i];
+        }
+        return result;
+    }
+
+    private static long[] subtract(long[] current, long[] previous) {
+        long[] result = new long[current.length];
+        for (int i = 0; i < current.length; i++) {
+            result[i] = current[i] - previous[i];
+        }
+        return result;
+    }
+
+    private record Contribution(Long hospitalId, long[] counters) {}
+
+    private record MatchState(boolean completed) {}
+}
@@ -0,0 +1,22 @@
+package com.organlink.repository;
+
+import com.organlink.entity.BusinessIdSequence;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for BusinessIdSequence entity
+ */
+@Repository
+public interface BusinessIdSequenceRepository extends JpaRepository<BusinessIdSequence, String> {
+
+    // SELECT ... FOR UPDATE: concurrent block reservations for the same sequence queue on the row
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM BusinessIdSequence s WHERE s.sequenceName = ?1")
+    Optional<BusinessIdSequence> findForUpdate(String sequenceName);
+}
@@ -0,0 +1,34 @@
+package com.organlink.repository;
+
+import com.organlink.entity.ChainRegistration;
+import com.organlink.entity.TransactionStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for ChainRegistration outbox entries
+ */
+@Repository
+public interface ChainRegistrationRepository extends JpaRepository<ChainRegistration, Long> {
+
+    // SELECT ... FOR UPDATE SKIP LOCKED (lock timeout -2): workers on every node claim different entries
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = "-2"))
+    @Query("SELECT r FROM ChainRegistration r WHERE r.status = :status AND r.nextAttemptAt <= :now ORDER BY r.nextAttemptAt")
+    List<ChainRegistration> findDueForUpdate(@Param("status") TransactionStatus status,
+                                             @Param("now") LocalDateTime now,
+                                             Pageable pageable);
+
+    long countByStatus(TransactionStatus status);
+}
@@ -1,24 +1,126 @@
 package com.organlink.repository;
 
+import com.organlink.dto.DonorSummary;
+import com.organlink.dto.MatchCandidate;
 import com.organlink.entity.AvailabilityStatus;
 import com.organlink.entity.Donor;
 import com.organlink.entity.DonorStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface DonorRepository extends JpaRepository<Donor, Long> {
     long countByStatus(DonorStatus status);
     long countByHospitalId(Long hospitalId);
     List<Donor> findByHospitalId(Long hospitalId);
+    List<Donor> findTop5ByHospitalIdOrderByCreatedAtDesc(Long hospitalId);
     Page<Donor> findByHospitalHospitalId(String hospitalId, Pageable pageable);
     Page<Donor> findByHospitalHospitalNameContainingIgnoreCaseOrDonorIdContainingIgnoreCase(String name, String donorId, Pageable pageable);
 
-    // Method needed by AiMatchingService
-    List<Donor> findAllByOrganTypesContainingAndAvailabilityStatus(String organType, AvailabilityStatus availabilityStatus);
+    // Listing projections: DonorSummary rows only, never full entities or their associations
+    String SUMMARY = "SELECT new com.organlink.dto.DonorSummary(d.id, d.donorId, d.firstName, d.lastName, d.gender, " +
+                     "d.bloodType, d.city, d.state, d.status, d.availabilityStatus, d.signatureVerified, d.createdAt, " +
+                     "d.organTypesMask) " +
+                     "FROM Donor d ";
+
+    @Query(value = SUMMARY + "WHERE d.hospital.hospitalId = :hospitalId ORDER BY d.createdAt DESC, d.id DESC",
+           countQuery = "SELECT COUNT(d) FROM Donor d WHERE d.hospital.hospitalId = :hospitalId")
+    Page<DonorSummary> findSummariesByHospital(@Param("hospitalId") String hospitalId, Pageable pageable);
+
+    // Count-free offset page (Slice: fetches one extra row instead of running COUNT)
+    @Query(SUMMARY + "WHERE d.hospital.hospitalId = :hospitalId ORDER BY d.createdAt DESC, d.id DESC")
+    Slice<DonorSummary> findSummarySliceByHospital(@Param("hospitalId") String hospitalId, Pageable pageable);
+
+    // Keyset page of a hospital's donors, newest first; served by idx_donors_hospital_created
+    @Query(SUMMARY + "WHERE d.hospital.hospitalId = :hospitalId " +
+           "AND (:cursorCreatedAt IS NULL OR d.createdAt < :cursorCreatedAt " +
+           "     OR (d.createdAt = :cursorCreatedAt AND d.id < :cursorId)) " +
+           "ORDER BY d.createdAt DESC, d.id DESC")
+    List<DonorSummary> findSummaryPageForHospital(@Param("hospitalId") String hospitalId,
+                                                  @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                  @Param("cursorId") Long cursorId,
+                                                  Pageable pageable);
+
+    // Detail view: donor and hospital in one statement, scoped to the owning hospital
+    @Query("SELECT d FROM Donor d JOIN FETCH d.hospital h WHERE d.id = :id AND h.hospitalId = :hospitalId")
+    Optional<Donor> findDetailById(@Param("id") Long id, @Param("hospitalId") String hospitalId);
+
+    // Registrations per calendar day in [from, to) for the trend rollups
+    @Query("SELECT CAST(d.createdAt AS LocalDate), COUNT(d) FROM Donor d " +
+           "WHERE d.createdAt >= :from AND d.createdAt < :to GROUP BY CAST(d.createdAt AS LocalDate)")
+    List<Object[]> countRegistrationsByDay(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // (hospital id, registrations, signature-verified registrations) in [from, to) for the KPI reports
+    @Query("SELECT d.hospital.id, COUNT(d), COALESCE(SUM(CASE WHEN d.signatureVerified = true THEN 1 ELSE 0 END), 0) " +
+           "FROM Donor d WHERE d.createdAt >= :from AND d.createdAt < :to GROUP BY d.hospital.id")
+    List<Object[]> countRegistrationsByHospital(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // Existing donor IDs with a prefix, used once to seed a hospital's donor ID sequence
+    @Query("SELECT d.donorId FROM Donor d WHERE d.donorId LIKE :prefix%")
+    List<String> findDonorIdsStartingWith(@Param("prefix") String prefix);
+
+    // Bulk import: which of a chunk's emails / business IDs are already taken
+    @Query("SELECT d.email FROM Donor d WHERE d.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("SELECT d.donorId FROM Donor d WHERE d.donorId IN :ids")
+    List<String> findExistingDonorIds(@Param("ids") Collection<String> ids);
+
+    @Query("SELECT MIN(d.createdAt) FROM Donor d")
+    LocalDateTime findEarliestCreatedAt();
+
+    // Column projection streamed into the in-memory analytics snapshot (caller holds a read-only transaction)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT d.bloodType, d.state, d.status, d.availabilityStatus, h.hospitalId, d.dateOfBirth, d.createdAt " +
+           "FROM Donor d JOIN d.hospital h")
+    Stream<Object[]> streamAnalyticsRows();
+
+    // Hospital dashboard counters in a single aggregate statement
+    @Query("SELECT COUNT(d) AS total, " +
+           "COALESCE(SUM(CASE WHEN d.status = com.organlink.entity.DonorStatus.ACTIVE THEN 1 ELSE 0 END), 0) AS active, " +
+           "COALESCE(SUM(CASE WHEN d.signatureVerified = true THEN 1 ELSE 0 END), 0) AS verified " +
+           "FROM Donor d WHERE d.hospital.id = :hospitalId")
+    HospitalDonorCounts countDashboardStatsByHospitalId(@Param("hospitalId") Long hospitalId);
+
+    interface HospitalDonorCounts {
+        Long getTotal();
+        Long getActive();
+        Long getVerified();
+    }
+
+    // Donors offering an organ (organBit = OrganType.getBit()/bitOf()); served by idx_donors_availability_organs
+    @Query("SELECT d FROM Donor d WHERE d.availabilityStatus = :availabilityStatus AND bitand(d.organTypesMask, :organBit) <> 0")
+    List<Donor> findAllByOrganAndAvailabilityStatus(@Param("organBit") long organBit,
+                                                    @Param("availabilityStatus") AvailabilityStatus availabilityStatus);
+
+    // Slim candidate projection for matching: the columns the model scores on, plus name and hospital for notifications
+    @Query("SELECT new com.organlink.dto.MatchCandidate(d.id, d.dateOfBirth, d.bloodType, d.firstName, d.lastName, d.hospital.id) " +
+           "FROM Donor d WHERE d.availabilityStatus = :availabilityStatus AND bitand(d.organTypesMask, :organBit) <> 0")
+    List<MatchCandidate> findMatchCandidates(@Param("organBit") long organBit,
+                                             @Param("availabilityStatus") AvailabilityStatus availabilityStatus);
+
+    @Query("SELECT new com.organlink.dto.MatchCandidate(d.id, d.dateOfBirth, d.bloodType, d.firstName, d.lastName, d.hospital.id) " +
+           "FROM Donor d WHERE d.id IN :donorIds AND d.availabilityStatus = :availabilityStatus")
+    List<MatchCandidate> findMatchCandidatesByIds(@Param("donorIds") Collection<Long> donorIds,
+                                                  @Param("availabilityStatus") AvailabilityStatus availabilityStatus);
+
+    // (donor id, organ mask, updated at) for donors changed since the given time, used by the re-match sweep
+    @Query("SELECT d.id, d.organTypesMask, d.updatedAt FROM Donor d " +
+           "WHERE d.updatedAt > :since AND d.availabilityStatus = :availabilityStatus AND d.organTypesMask <> 0")
+    List<Object[]> findChangedDonorOrganMasks(@Param("since") LocalDateTime since,
+                                              @Param("availabilityStatus") AvailabilityStatus availabilityStatus);
 }
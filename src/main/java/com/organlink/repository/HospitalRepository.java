@@ -1,14 +1,20 @@
 package com.organlink.repository;
 
+import com.organlink.dto.HospitalSummary;
 import com.organlink.entity.Hospital;
 import com.organlink.entity.HospitalStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +24,8 @@ import java.util.Optional;
 @Repository
 public interface HospitalRepository extends JpaRepository<Hospital, Long> {
     
+    // Second-level/query cached: resolved on nearly every hospital-scoped request
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Hospital> findByHospitalId(String hospitalId);
     
     Optional<Hospital> findByEmail(String email);
@@ -31,6 +39,17 @@ public interface HospitalRepository extends JpaRepository<Hospital, Long> {
     boolean existsByLicenseNumber(String licenseNumber);
     
     List<Hospital> findByStatus(HospitalStatus status);
+
+    // Existing IDs with a prefix, used once to seed the hospital ID and license number sequences
+    @Query("SELECT h.hospitalId FROM Hospital h WHERE h.hospitalId LIKE :prefix%")
+    List<String> findHospitalIdsStartingWith(@Param("prefix") String prefix);
+
+    @Query("SELECT h.licenseNumber FROM Hospital h WHERE h.licenseNumber LIKE :prefix%")
+    List<String> findLicenseNumbersStartingWith(@Param("prefix") String prefix);
+
+    // (id, hospital ID, name) for every hospital, ordered by business ID
+    @Query("SELECT h.id, h.hospitalId, h.hospitalName FROM Hospital h ORDER BY h.hospitalId")
+    List<Object[]> findAllIdsAndNames();
     
     List<Hospital> findByCountry(String country);
     
@@ -49,6 +68,32 @@ public interface HospitalRepository extends JpaRepository<Hospital, Long> {
 
     Page<Hospital> findByHospitalNameContainingIgnoreCaseOrHospitalIdContainingIgnoreCase(
             String hospitalName, String hospitalId, Pageable pageable);
+
+    // Listing projections: HospitalSummary rows only, never the donor/patient collections
+    String SUMMARY = "SELECT new com.organlink.dto.HospitalSummary(h.id, h.hospitalId, h.hospitalName, h.city, h.state, " +
+                     "h.country, h.status, h.verificationStatus, h.capacity, h.createdAt) FROM Hospital h ";
+
+    @Query(value = SUMMARY + "ORDER BY h.createdAt DESC, h.id DESC",
+           countQuery = "SELECT COUNT(h) FROM Hospital h")
+    Page<HospitalSummary> findSummaries(Pageable pageable);
+
+    // Count-free offset page (Slice: fetches one extra row instead of running COUNT)
+    @Query(SUMMARY + "ORDER BY h.createdAt DESC, h.id DESC")
+    Slice<HospitalSummary> findSummarySlice(Pageable pageable);
+
+    // Keyset page of all hospitals, newest first; served by idx_hospitals_created
+    @Query(SUMMARY + "WHERE :cursorCreatedAt IS NULL OR h.createdAt < :cursorCreatedAt " +
+           "OR (h.createdAt = :cursorCreatedAt AND h.id < :cursorId) " +
+           "ORDER BY h.createdAt DESC, h.id DESC")
+    List<HospitalSummary> findSummaryPage(@Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                          @Param("cursorId") Long cursorId,
+                                          Pageable pageable);
+
+    @Query(value = SUMMARY + "WHERE LOWER(h.hospitalName) LIKE LOWER(CONCAT('%', :term, '%')) " +
+                   "OR LOWER(h.hospitalId) LIKE LOWER(CONCAT('%', :term, '%')) ORDER BY h.createdAt DESC, h.id DESC",
+           countQuery = "SELECT COUNT(h) FROM Hospital h WHERE LOWER(h.hospitalName) LIKE LOWER(CONCAT('%', :term, '%')) " +
+                        "OR LOWER(h.hospitalId) LIKE LOWER(CONCAT('%', :term, '%'))")
+    Page<HospitalSummary> searchSummaries(@Param("term") String term, Pageable pageable);
     
     @Query("SELECT COUNT(h) FROM Hospital h WHERE h.status = :status")
     long countByStatus(@Param("status") HospitalStatus status);
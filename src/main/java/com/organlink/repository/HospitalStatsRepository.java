@@ -0,0 +1,42 @@
+package com.organlink.repository;
+
+import com.organlink.entity.HospitalStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for HospitalStats read model
+ */
+@Repository
+public interface HospitalStatsRepository extends JpaRepository<HospitalStats, Long> {
+
+    // Atomic in-place increment of every counter; returns 0 when the hospital has no stats row yet
+    @Modifying
+    @Query("UPDATE HospitalStats s SET " +
+           "s.totalDonors = s.totalDonors + :totalDonors, " +
+           "s.activeDonors = s.activeDonors + :activeDonors, " +
+           "s.verifiedDonors = s.verifiedDonors + :verifiedDonors, " +
+           "s.totalPatients = s.totalPatients + :totalPatients, " +
+           "s.waitingPatients = s.waitingPatients + :waitingPatients, " +
+           "s.verifiedPatients = s.verifiedPatients + :verifiedPatients, " +
+           "s.activeMatches = s.activeMatches + :activeMatches, " +
+           "s.completedMatches = s.completedMatches + :completedMatches, " +
+           "s.crossHospitalMatches = s.crossHospitalMatches + :crossHospitalMatches, " +
+           "s.ipfsRecords = s.ipfsRecords + :ipfsRecords, " +
+           "s.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE s.hospitalId = :hospitalId")
+    int applyDelta(@Param("hospitalId") Long hospitalId,
+                   @Param("totalDonors") long totalDonors,
+                   @Param("activeDonors") long activeDonors,
+                   @Param("verifiedDonors") long verifiedDonors,
+                   @Param("totalPatients") long totalPatients,
+                   @Param("waitingPatients") long waitingPatients,
+                   @Param("verifiedPatients") long verifiedPatients,
+                   @Param("activeMatches") long activeMatches,
+                   @Param("completedMatches") long completedMatches,
+                   @Param("crossHospitalMatches") long crossHospitalMatches,
+                   @Param("ipfsRecords") long ipfsRecords);
+}
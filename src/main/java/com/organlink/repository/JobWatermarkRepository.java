@@ -0,0 +1,22 @@
+package com.organlink.repository;
+
+import com.organlink.entity.JobWatermark;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for JobWatermark entity
+ */
+@Repository
+public interface JobWatermarkRepository extends JpaRepository<JobWatermark, String> {
+
+    // SELECT ... FOR UPDATE: nodes competing for a job's lease queue on its row
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM JobWatermark w WHERE w.jobName = ?1")
+    Optional<JobWatermark> findForUpdate(String jobName);
+}
@@ -0,0 +1,22 @@
+package com.organlink.repository;
+
+import com.organlink.entity.KpiReport;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for KpiReport entity
+ */
+@Repository
+public interface KpiReportRepository extends JpaRepository<KpiReport, Long> {
+
+    Optional<KpiReport> findByReportId(String reportId);
+
+    List<KpiReport> findByBatchIdOrderByHospitalIdAsc(String batchId);
+
+    List<KpiReport> findByHospitalIdOrderByGeneratedAtDesc(String hospitalId, Pageable pageable);
+}
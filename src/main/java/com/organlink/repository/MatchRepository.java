@@ -2,15 +2,22 @@ package com.organlink.repository;
 
 import com.organlink.entity.Match;
 import com.organlink.entity.MatchStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Match entity
@@ -26,7 +33,10 @@ public interface MatchRepository extends JpaRepository<Match, Long> {
     
     // List<Match> findByPatientId(Long patientId); // Use relationships
     
-    @Query("SELECT m FROM Match m WHERE m.donor.hospital.id = :hospitalId OR m.patient.hospital.id = :hospitalId")
+    // Patient, donor and both hospitals are fetch-joined; the same joins drive the cross-hospital filter
+    @Query("SELECT m FROM Match m JOIN FETCH m.patient p JOIN FETCH p.hospital ph " +
+           "JOIN FETCH m.donor d JOIN FETCH d.hospital dh " +
+           "WHERE dh.id = :hospitalId OR ph.id = :hospitalId")
     List<Match> findByHospitalId(@Param("hospitalId") Long hospitalId);
     
     @Query("SELECT COUNT(m) FROM Match m WHERE m.donor.hospital.id = :hospitalId OR m.patient.hospital.id = :hospitalId")
@@ -35,6 +45,46 @@ public interface MatchRepository extends JpaRepository<Match, Long> {
     @Query("SELECT COUNT(m) FROM Match m WHERE (m.donor.hospital.id = :hospitalId OR m.patient.hospital.id = :hospitalId) AND m.status = 'COMPLETED'")
     long countCompletedByHospitalId(@Param("hospitalId") Long hospitalId);
     
+    // Matches per calendar day and organ in [from, to) for the trend rollups
+    @Query("SELECT CAST(m.createdAt AS LocalDate), p.organNeeded, COUNT(m) FROM Match m JOIN m.patient p " +
+           "WHERE m.createdAt >= :from AND m.createdAt < :to GROUP BY CAST(m.createdAt AS LocalDate), p.organNeeded")
+    List<Object[]> countMatchesByDayAndOrgan(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // (match createdAt, patient createdAt) pairs in [from, to) for the time-to-match histogram
+    @Query("SELECT m.createdAt, p.createdAt FROM Match m JOIN m.patient p WHERE m.createdAt >= :from AND m.createdAt < :to")
+    List<Object[]> findMatchAndRegistrationTimes(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // (patient hospital id, donor hospital id, status, match createdAt, patient createdAt) in [from, to) for the KPI reports
+    @Query("SELECT p.hospital.id, d.hospital.id, m.status, m.createdAt, p.createdAt " +
+           "FROM Match m JOIN m.patient p JOIN m.donor d WHERE m.createdAt >= :from AND m.createdAt < :to")
+    List<Object[]> findKpiRows(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT MIN(m.createdAt) FROM Match m")
+    LocalDateTime findEarliestCreatedAt();
+
+    // Column projection streamed into the in-memory analytics snapshot (caller holds a read-only transaction)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT p.organNeeded, m.status, ph.hospitalId, dh.hospitalId, p.urgencyLevel, m.matchScore, m.createdAt, p.createdAt " +
+           "FROM Match m JOIN m.patient p JOIN p.hospital ph JOIN m.donor d JOIN d.hospital dh")
+    Stream<Object[]> streamAnalyticsRows();
+
+    // (matchId, patient hospital id, donor hospital id) rows used to attribute match counters to hospitals
+    @Query("SELECT m.id, p.hospital.id, d.hospital.id FROM Match m JOIN m.patient p JOIN m.donor d WHERE m.id IN :matchIds")
+    List<Object[]> findHospitalIdsByMatchIds(@Param("matchIds") Collection<Long> matchIds);
+
+    // Hospital dashboard counters (all, completed, cross-hospital) in a single aggregate statement
+    @Query("SELECT COUNT(m) AS total, " +
+           "COALESCE(SUM(CASE WHEN m.status = com.organlink.entity.MatchStatus.COMPLETED THEN 1 ELSE 0 END), 0) AS completed, " +
+           "COALESCE(SUM(CASE WHEN m.patient.hospital.id <> m.donor.hospital.id THEN 1 ELSE 0 END), 0) AS crossHospital " +
+           "FROM Match m WHERE m.donor.hospital.id = :hospitalId OR m.patient.hospital.id = :hospitalId")
+    HospitalMatchCounts countDashboardStatsByHospitalId(@Param("hospitalId") Long hospitalId);
+
+    interface HospitalMatchCounts {
+        Long getTotal();
+        Long getCompleted();
+        Long getCrossHospital();
+    }
+    
     @Query("SELECT m FROM Match m WHERE m.status = 'PENDING' ORDER BY m.matchScore DESC")
     List<Match> findPendingMatchesOrderedByScore();
     
@@ -53,6 +103,31 @@ public interface MatchRepository extends JpaRepository<Match, Long> {
     @Query("SELECT m FROM Match m WHERE m.donor.hospital.hospitalId = :hospitalId OR m.patient.hospital.hospitalId = :hospitalId")
     Page<Match> findByHospitalHospitalId(@Param("hospitalId") String hospitalId, Pageable pageable);
     
-    @Query("SELECT m FROM Match m WHERE m.donor.hospital.hospitalId = :hospitalId OR m.patient.hospital.hospitalId = :hospitalId ORDER BY m.createdAt DESC")
+    // Patient, donor and both hospitals are fetch-joined; the same joins drive the cross-hospital filter
+    @Query("SELECT m FROM Match m JOIN FETCH m.patient p JOIN FETCH p.hospital ph " +
+           "JOIN FETCH m.donor d JOIN FETCH d.hospital dh " +
+           "WHERE dh.hospitalId = :hospitalId OR ph.hospitalId = :hospitalId ORDER BY m.createdAt DESC")
     List<Match> findMatchesForHospital(@Param("hospitalId") String hospitalId);
+
+    // Single match with patient, donor and both hospitals (detail, accept and reject)
+    @EntityGraph(Match.WITH_PARTIES)
+    Optional<Match> findWithPartiesById(Long id);
+
+    // Keyset page of a hospital's matches; patient, donor and both hospitals are fetched in the same statement
+    @Query("SELECT m FROM Match m JOIN FETCH m.patient p JOIN FETCH p.hospital ph " +
+           "JOIN FETCH m.donor d JOIN FETCH d.hospital dh " +
+           "WHERE (dh.hospitalId = :hospitalId OR ph.hospitalId = :hospitalId) " +
+           "AND (:status IS NULL OR m.status = :status) " +
+           "AND (:organType IS NULL OR p.organNeeded = :organType) " +
+           "AND (:minScore IS NULL OR m.matchScore >= :minScore) " +
+           "AND (:cursorCreatedAt IS NULL OR m.createdAt < :cursorCreatedAt " +
+           "     OR (m.createdAt = :cursorCreatedAt AND m.id < :cursorId)) " +
+           "ORDER BY m.createdAt DESC, m.id DESC")
+    List<Match> findMatchPageForHospital(@Param("hospitalId") String hospitalId,
+                                         @Param("status") MatchStatus status,
+                                         @Param("organType") String organType,
+                                         @Param("minScore") Double minScore,
+                                         @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                         @Param("cursorId") Long cursorId,
+                                         Pageable pageable);
 }
@@ -2,10 +2,13 @@ package com.organlink.repository;
 
 import com.organlink.entity.Organization;
 import com.organlink.entity.OrganizationStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -18,6 +21,8 @@ import java.util.Optional;
 @Repository
 public interface OrganizationRepository extends JpaRepository<Organization, Long> {
     
+    // Query cached; the organization itself comes from the second-level cache
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Organization> findByOrganizationId(String organizationId);
     
     Optional<Organization> findByEmail(String email);
@@ -31,6 +36,10 @@ public interface OrganizationRepository extends JpaRepository<Organization, Long
     boolean existsByRegistrationNumber(String registrationNumber);
     
     List<Organization> findByStatus(OrganizationStatus status);
+
+    // Existing organization IDs with a prefix, used once to seed the organization ID sequence
+    @Query("SELECT o.organizationId FROM Organization o WHERE o.organizationId LIKE :prefix%")
+    List<String> findOrganizationIdsStartingWith(@Param("prefix") String prefix);
     
     List<Organization> findByCountry(String country);
     
@@ -1,17 +1,25 @@
 package com.organlink.repository;
 
+import com.organlink.dto.PatientSummary;
 import com.organlink.entity.Patient;
 import com.organlink.entity.PatientStatus;
 import com.organlink.entity.UrgencyLevel;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Patient entity
@@ -36,9 +44,75 @@ public interface PatientRepository extends JpaRepository<Patient, Long> {
     List<Patient> findByOrganNeeded(String organNeeded);
     
     List<Patient> findByHospitalId(Long hospitalId);
+
+    List<Patient> findTop5ByHospitalIdOrderByCreatedAtDesc(Long hospitalId);
+    
+    // Registrations per calendar day and organ needed in [from, to) for the trend rollups
+    @Query("SELECT CAST(p.createdAt AS LocalDate), p.organNeeded, COUNT(p) FROM Patient p " +
+           "WHERE p.createdAt >= :from AND p.createdAt < :to GROUP BY CAST(p.createdAt AS LocalDate), p.organNeeded")
+    List<Object[]> countRegistrationsByDayAndOrgan(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // (hospital id, registrations, signature-verified registrations) in [from, to) for the KPI reports
+    @Query("SELECT p.hospital.id, COUNT(p), COALESCE(SUM(CASE WHEN p.signatureVerified = true THEN 1 ELSE 0 END), 0) " +
+           "FROM Patient p WHERE p.createdAt >= :from AND p.createdAt < :to GROUP BY p.hospital.id")
+    List<Object[]> countRegistrationsByHospital(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // Existing patient IDs with a prefix, used once to seed a hospital's patient ID sequence
+    @Query("SELECT p.patientId FROM Patient p WHERE p.patientId LIKE :prefix%")
+    List<String> findPatientIdsStartingWith(@Param("prefix") String prefix);
+
+    // Bulk import: which of a chunk's emails / business IDs are already taken
+    @Query("SELECT p.email FROM Patient p WHERE p.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("SELECT p.patientId FROM Patient p WHERE p.patientId IN :ids")
+    List<String> findExistingPatientIds(@Param("ids") Collection<String> ids);
+
+    @Query("SELECT MIN(p.createdAt) FROM Patient p")
+    LocalDateTime findEarliestCreatedAt();
+
+    // Column projection streamed into the in-memory analytics snapshot (caller holds a read-only transaction)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT p.organNeeded, p.bloodType, p.urgencyLevel, p.state, p.status, h.hospitalId, p.dateOfBirth, p.createdAt " +
+           "FROM Patient p JOIN p.hospital h")
+    Stream<Object[]> streamAnalyticsRows();
+
+    // Hospital dashboard counters in a single aggregate statement
+    @Query("SELECT COUNT(p) AS total, " +
+           "COALESCE(SUM(CASE WHEN p.status = com.organlink.entity.PatientStatus.WAITING THEN 1 ELSE 0 END), 0) AS waiting, " +
+           "COALESCE(SUM(CASE WHEN p.signatureVerified = true THEN 1 ELSE 0 END), 0) AS verified " +
+           "FROM Patient p WHERE p.hospital.id = :hospitalId")
+    HospitalPatientCounts countDashboardStatsByHospitalId(@Param("hospitalId") Long hospitalId);
     
     @Query("SELECT p FROM Patient p WHERE p.hospital.hospitalId = :hospitalId")
     Page<Patient> findByHospitalHospitalId(@Param("hospitalId") String hospitalId, Pageable pageable);
+
+    // Listing projections: PatientSummary rows only, never full entities or their associations
+    String SUMMARY = "SELECT new com.organlink.dto.PatientSummary(p.id, p.patientId, p.firstName, p.lastName, p.gender, " +
+                     "p.bloodType, p.organNeeded, p.urgencyLevel, p.priorityScore, p.waitingListDate, p.city, p.state, " +
+                     "p.status, p.signatureVerified, p.createdAt) FROM Patient p ";
+
+    @Query(value = SUMMARY + "WHERE p.hospital.hospitalId = :hospitalId ORDER BY p.createdAt DESC, p.id DESC",
+           countQuery = "SELECT COUNT(p) FROM Patient p WHERE p.hospital.hospitalId = :hospitalId")
+    Page<PatientSummary> findSummariesByHospital(@Param("hospitalId") String hospitalId, Pageable pageable);
+
+    // Count-free offset page (Slice: fetches one extra row instead of running COUNT)
+    @Query(SUMMARY + "WHERE p.hospital.hospitalId = :hospitalId ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<PatientSummary> findSummarySliceByHospital(@Param("hospitalId") String hospitalId, Pageable pageable);
+
+    // Keyset page of a hospital's patients, newest first; served by idx_patients_hospital_created
+    @Query(SUMMARY + "WHERE p.hospital.hospitalId = :hospitalId " +
+           "AND (:cursorCreatedAt IS NULL OR p.createdAt < :cursorCreatedAt " +
+           "     OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PatientSummary> findSummaryPageForHospital(@Param("hospitalId") String hospitalId,
+                                                    @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                    @Param("cursorId") Long cursorId,
+                                                    Pageable pageable);
+
+    // Detail view: patient and hospital in one statement, scoped to the owning hospital
+    @Query("SELECT p FROM Patient p JOIN FETCH p.hospital h WHERE p.id = :id AND h.hospitalId = :hospitalId")
+    Optional<Patient> findDetailById(@Param("id") Long id, @Param("hospitalId") String hospitalId);
     
     @Query("SELECT p FROM Patient p WHERE p.firstName LIKE %:name% OR p.lastName LIKE %:name%")
     Page<Patient> findByNameContaining(@Param("name") String name, Pageable pageable);
@@ -65,4 +139,19 @@ public interface PatientRepository extends JpaRepository<Patient, Long> {
     List<Patient> findCriticalPatients();
     
     List<Patient> findByHospitalHospitalIdAndStatus(String hospitalId, PatientStatus status);
+
+    // (patient id, updated at) for patients changed since the given time, used by the re-match sweep
+    @Query("SELECT p.id, p.updatedAt FROM Patient p WHERE p.status = :status AND p.updatedAt > :since")
+    List<Object[]> findIdsByStatusAndUpdatedAfter(@Param("status") PatientStatus status, @Param("since") LocalDateTime since);
+
+    // (patient id, organ needed) pairs for patients waiting on any of the given organs
+    @Query("SELECT p.id, p.organNeeded FROM Patient p WHERE p.status = :status AND p.organNeeded IN :organTypes")
+    List<Object[]> findIdsAndOrganByStatusAndOrganNeededIn(@Param("status") PatientStatus status,
+                                                           @Param("organTypes") Collection<String> organTypes);
+
+    interface HospitalPatientCounts {
+        Long getTotal();
+        Long getWaiting();
+        Long getVerified();
+    }
 }
@@ -1,11 +1,17 @@
 package com.organlink.repository;
 
+import com.organlink.dto.PolicySummary;
 import com.organlink.entity.Policy;
 import com.organlink.entity.PolicyStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -16,17 +22,67 @@ import java.util.Optional;
 public interface PolicyRepository extends JpaRepository<Policy, Long> {
     long countByStatus(PolicyStatus status);
     Optional<Policy> findByPolicyId(String policyId);
+
+    // Existing policy IDs with a prefix, used once to seed a year's policy ID sequence
+    @Query("SELECT p.policyId FROM Policy p WHERE p.policyId LIKE ?1%")
+    List<String> findPolicyIdsStartingWith(String prefix);
     List<Policy> findByProposedByOrganizationId(Long organizationId);
+    long countByProposedByOrganizationId(Long organizationId);
 
     @Query("SELECT p FROM Policy p WHERE p.status = 'VOTING' AND p.votingEndDate > ?1")
     List<Policy> findActiveVotingPolicies(LocalDateTime now);
 
+    // Active voting policies this organization has not voted on yet (anti-join)
+    @Query("SELECT COUNT(p) FROM Policy p WHERE p.status = 'VOTING' AND p.votingEndDate > ?2 " +
+           "AND NOT EXISTS (SELECT v.id FROM Vote v WHERE v.policy = p AND v.organization.id = ?1)")
+    long countActiveVotingPoliciesNotVotedBy(Long organizationId, LocalDateTime now);
+
     @Query("SELECT p FROM Policy p ORDER BY p.createdAt DESC")
     Page<Policy> findAllOrderByCreatedAtDesc(Pageable pageable);
 
+    // Listing projections: PolicySummary rows with the proposing organization joined in the same statement
+    String SUMMARY = "SELECT new com.organlink.dto.PolicySummary(p.id, p.policyId, p.title, p.organType, p.status, " +
+                     "p.votingStartDate, p.votingEndDate, p.votesFor, p.votesAgainst, p.totalVotes, " +
+                     "o.organizationId, o.organizationName, p.createdAt) FROM Policy p JOIN p.proposedByOrganization o ";
+
+    @Query(value = SUMMARY + "ORDER BY p.createdAt DESC, p.id DESC",
+           countQuery = "SELECT COUNT(p) FROM Policy p")
+    Page<PolicySummary> findSummaries(Pageable pageable);
+
+    // Count-free offset page (Slice: fetches one extra row instead of running COUNT)
+    @Query(SUMMARY + "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<PolicySummary> findSummarySlice(Pageable pageable);
+
+    // Keyset page of all policies, newest first; served by idx_policies_created
+    @Query(SUMMARY + "WHERE :cursorCreatedAt IS NULL OR p.createdAt < :cursorCreatedAt " +
+           "OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PolicySummary> findSummaryPage(@Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                        @Param("cursorId") Long cursorId,
+                                        Pageable pageable);
+
+    @Query(value = SUMMARY + "WHERE p.title LIKE CONCAT('%', :title, '%') ORDER BY p.createdAt DESC, p.id DESC",
+           countQuery = "SELECT COUNT(p) FROM Policy p WHERE p.title LIKE CONCAT('%', :title, '%')")
+    Page<PolicySummary> searchSummaries(@Param("title") String title, Pageable pageable);
+
+    @Query(SUMMARY + "WHERE o.organizationId = :organizationId ORDER BY p.createdAt DESC, p.id DESC")
+    List<PolicySummary> findSummariesByOrganization(@Param("organizationId") String organizationId, Pageable pageable);
+
+    @Query(SUMMARY + "WHERE p.status = 'VOTING' AND p.votingEndDate > :now")
+    List<PolicySummary> findActiveVotingSummaries(@Param("now") LocalDateTime now);
+
+    // Detail view: policy and proposing organization in one statement
+    @Query("SELECT p FROM Policy p JOIN FETCH p.proposedByOrganization WHERE p.id = :id")
+    Optional<Policy> findDetailById(@Param("id") Long id);
+
     Page<Policy> findByTitleContaining(String title, Pageable pageable);
 
-    // Method needed by AiMatchingService
+    // Method needed by AiMatchingService; query cached per (organ, status), any policy write invalidates it
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT p FROM Policy p WHERE p.organType = ?1 AND p.status = ?2")
     List<Policy> findActivePoliciesForOrgan(String organType, PolicyStatus status);
+
+    // (organ type, earliest change) of policies that reached the status since the given time
+    @Query("SELECT p.organType, MIN(p.updatedAt) FROM Policy p WHERE p.status = ?1 AND p.updatedAt > ?2 GROUP BY p.organType")
+    List<Object[]> findOrganTypesByStatusChangedSince(PolicyStatus status, LocalDateTime since);
 }
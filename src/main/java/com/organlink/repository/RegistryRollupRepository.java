@@ -0,0 +1,30 @@
+package com.organlink.repository;
+
+import com.organlink.entity.RegistryRollup;
+import com.organlink.entity.RollupGranularity;
+import com.organlink.entity.RollupMetric;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository interface for RegistryRollup entity
+ */
+@Repository
+public interface RegistryRollupRepository extends JpaRepository<RegistryRollup, Long> {
+
+    @Query("SELECT r FROM RegistryRollup r WHERE r.metric = ?1 AND r.granularity = ?2 " +
+           "AND r.periodStart >= ?3 AND r.periodStart < ?4 ORDER BY r.periodStart, r.dimension")
+    List<RegistryRollup> findSeries(RollupMetric metric, RollupGranularity granularity, LocalDate from, LocalDate to);
+
+    @Query("SELECT r FROM RegistryRollup r WHERE r.granularity = ?1 AND r.periodStart >= ?2 AND r.periodStart < ?3")
+    List<RegistryRollup> findByGranularityAndPeriod(RollupGranularity granularity, LocalDate from, LocalDate to);
+
+    @Modifying
+    @Query("DELETE FROM RegistryRollup r WHERE r.granularity = ?1 AND r.periodStart >= ?2 AND r.periodStart < ?3")
+    int deleteByGranularityAndPeriod(RollupGranularity granularity, LocalDate from, LocalDate to);
+}
@@ -3,9 +3,18 @@ package com.organlink.repository;
 import com.organlink.entity.Hospital;
 import com.organlink.entity.SignatureRecord;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface SignatureRecordRepository extends JpaRepository<SignatureRecord, Long> {
     long countByUploadedBy(Hospital hospital);
+
+    // Bulk import: which of a chunk's signature hashes already have a record
+    @Query("SELECT s.ipfsHash FROM SignatureRecord s WHERE s.ipfsHash IN :hashes")
+    List<String> findExistingIpfsHashes(@Param("hashes") Collection<String> hashes);
 }
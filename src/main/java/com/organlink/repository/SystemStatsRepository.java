@@ -0,0 +1,47 @@
+package com.organlink.repository;
+
+import com.organlink.entity.Hospital;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+
+/**
+ * Read-only repository for system-wide admin statistics
+ * Hospital is only the anchor entity required by Spring Data; the query spans all registry tables.
+ */
+@org.springframework.stereotype.Repository
+public interface SystemStatsRepository extends Repository<Hospital, Long> {
+
+    // One round trip, one conditional-aggregate pass per table; add a metric by adding a column to its table's subquery
+    @Query(value = "SELECT h.total AS totalHospitals, h.active AS activeHospitals, " +
+                   "o.total AS totalOrganizations, o.active AS activeOrganizations, " +
+                   "d.total AS totalDonors, d.active AS activeDonors, " +
+                   "p.total AS totalPatients, p.waiting AS waitingPatients, " +
+                   "p.critical AS criticalPatients, p.emergency AS emergencyPatients, " +
+                   "pol.implemented AS activePolicies, pol.pending AS pendingPolicies " +
+                   "FROM (SELECT COUNT(*) AS total, COALESCE(SUM(CASE WHEN status = 'ACTIVE' THEN 1 ELSE 0 END), 0) AS active FROM hospitals) h " +
+                   "CROSS JOIN (SELECT COUNT(*) AS total, COALESCE(SUM(CASE WHEN status = 'ACTIVE' THEN 1 ELSE 0 END), 0) AS active FROM organizations) o " +
+                   "CROSS JOIN (SELECT COUNT(*) AS total, COALESCE(SUM(CASE WHEN status = 'ACTIVE' THEN 1 ELSE 0 END), 0) AS active FROM donors) d " +
+                   "CROSS JOIN (SELECT COUNT(*) AS total, " +
+                   "COALESCE(SUM(CASE WHEN status = 'WAITING' THEN 1 ELSE 0 END), 0) AS waiting, " +
+                   "COALESCE(SUM(CASE WHEN urgency_level = 'CRITICAL' THEN 1 ELSE 0 END), 0) AS critical, " +
+                   "COALESCE(SUM(CASE WHEN urgency_level = 'EMERGENCY' THEN 1 ELSE 0 END), 0) AS emergency FROM patients) p " +
+                   "CROSS JOIN (SELECT COALESCE(SUM(CASE WHEN status = 'IMPLEMENTED' THEN 1 ELSE 0 END), 0) AS implemented, " +
+                   "COALESCE(SUM(CASE WHEN status = 'PENDING' THEN 1 ELSE 0 END), 0) AS pending FROM policies) pol",
+           nativeQuery = true)
+    SystemCounts loadSystemCounts();
+
+    interface SystemCounts {
+        Long getTotalHospitals();
+        Long getActiveHospitals();
+        Long getTotalOrganizations();
+        Long getActiveOrganizations();
+        Long getTotalDonors();
+        Long getActiveDonors();
+        Long getTotalPatients();
+        Long getWaitingPatients();
+        Long getCriticalPatients();
+        Long getEmergencyPatients();
+        Long getActivePolicies();
+        Long getPendingPolicies();
+    }
+}
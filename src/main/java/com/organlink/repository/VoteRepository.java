@@ -41,6 +41,17 @@ public interface VoteRepository extends JpaRepository<Vote, Long> {
     @Query("SELECT SUM(v.votingPower) FROM Vote v WHERE v.policy.id = :policyId AND v.voteType = :voteType")
     Long sumVotingPowerByPolicyIdAndVoteType(@Param("policyId") Long policyId, @Param("voteType") VoteType voteType);
     
-    @Query("SELECT v FROM Vote v WHERE v.organization.id = :organizationId ORDER BY v.createdAt DESC")
+    @Query("SELECT v FROM Vote v JOIN FETCH v.policy JOIN FETCH v.organization o WHERE o.id = :organizationId ORDER BY v.createdAt DESC")
     List<Vote> findByOrganizationIdOrderByCreatedAtDesc(@Param("organizationId") Long organizationId);
+
+    // Organization dashboard voting counters (all votes, FOR votes) in a single aggregate statement
+    @Query("SELECT COUNT(v) AS total, " +
+           "COALESCE(SUM(CASE WHEN v.voteType = com.organlink.entity.VoteType.FOR THEN 1 ELSE 0 END), 0) AS votesFor " +
+           "FROM Vote v WHERE v.organization.id = :organizationId")
+    OrganizationVoteCounts countVotesByOrganizationId(@Param("organizationId") Long organizationId);
+
+    interface OrganizationVoteCounts {
+        Long getTotal();
+        Long getVotesFor();
+    }
 }
@@ -98,6 +98,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private boolean isPublicEndpoint(String requestPath) {
         return requestPath.equals("/") ||
                requestPath.startsWith("/api/v1/health") ||
+               requestPath.startsWith("/actuator/health") ||
                requestPath.startsWith("/api/v1/info") ||
                requestPath.startsWith("/swagger-ui") ||
                requestPath.startsWith("/v3/api-docs") ||
@@ -1,21 +1,34 @@
 package com.organlink.service;
 
+import com.organlink.dto.CursorPage;
+import com.organlink.dto.MatchSummary;
 import com.organlink.entity.Match;
+import com.organlink.entity.MatchStatus;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface AIMatchingService {
-    List<Match> findBestMatchesForPatient(Long patientId) throws Exception;
+    List<MatchSummary> findBestMatchesForPatient(Long patientId) throws Exception;
     void trainModels() throws Exception;
+
+    // Loads the model and runs a synthetic scoring batch so the first real request is not cold
+    void warmUp(int iterations) throws Exception;
+    boolean isModelReady();
     
     // Additional methods for AIMatchingController
-    List<Match> findMatchesForPatient(Long patientId) throws Exception;
-    Optional<Match> getMatchById(String matchId) throws Exception;
-    Match acceptMatch(String matchId) throws Exception;
-    Match rejectMatch(String matchId, String reason) throws Exception;
+    List<MatchSummary> findMatchesForPatient(Long patientId) throws Exception;
+    Optional<MatchSummary> getMatchById(String matchId) throws Exception;
+    MatchSummary acceptMatch(String matchId) throws Exception;
+    MatchSummary rejectMatch(String matchId, String reason) throws Exception;
     
     // Cross-hospital matching methods
     List<Match> getMatchesForHospital(String hospitalId) throws Exception;
+    CursorPage<MatchSummary> getMatchPageForHospital(String hospitalId, MatchStatus status, String organType,
+                                                     Double minScore, String cursor, int size) throws Exception;
     int triggerMatchingForHospital(String hospitalId) throws Exception;
+
+    // Incremental re-scoring: donorIds == null re-scores against every available candidate
+    int rescoreMatchesForPatient(Long patientId, Collection<Long> donorIds) throws Exception;
 }
@@ -1,14 +1,24 @@
 package com.organlink.service;
 
 import com.organlink.dto.ApiResponse;
+import com.organlink.dto.CursorPage;
+import com.organlink.dto.DashboardEvent;
+import com.organlink.dto.HospitalDetail;
+import com.organlink.dto.HospitalSummary;
+import com.organlink.dto.OrganizationDetail;
 import com.organlink.entity.*;
 import com.organlink.repository.*;
 import com.organlink.blockchain.OrganLinkRegistryService;
+import com.organlink.config.CacheConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,6 +26,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -48,41 +59,64 @@ public class AdminService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private SystemStatsRepository systemStatsRepository;
+
     @Autowired
     private PasswordEncoder passwordEncoder;
 
     @Autowired
     private OrganLinkRegistryService blockchainService;
 
+    @Autowired
+    private DashboardEventService dashboardEventService;
+
+    @Autowired
+    private BusinessIdAllocator businessIdAllocator;
+
     /**
-     * Get system statistics for admin dashboard
+     * Get system statistics for admin dashboard (single aggregate statement, cached until the next relevant write)
      */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.ADMIN_STATS, key = "'system'", sync = true)
     public Map<String, Object> getSystemStats() {
+        return loadSystemStats();
+    }
+
+    /**
+     * System statistics snapshot for a live stream: uncached and read on the primary, like the deltas that follow it
+     */
+    public Map<String, Object> getSystemStatsSnapshot() {
+        return loadSystemStats();
+    }
+
+    private Map<String, Object> loadSystemStats() {
         Map<String, Object> stats = new HashMap<>();
+        SystemStatsRepository.SystemCounts counts = systemStatsRepository.loadSystemCounts();
         
         // Hospital statistics
-        stats.put("totalHospitals", hospitalRepository.count());
-        stats.put("activeHospitals", hospitalRepository.countByStatus(HospitalStatus.ACTIVE));
+        stats.put("totalHospitals", counts.getTotalHospitals());
+        stats.put("activeHospitals", counts.getActiveHospitals());
         
         // Organization statistics
-        stats.put("totalOrganizations", organizationRepository.count());
-        stats.put("activeOrganizations", organizationRepository.countByStatus(OrganizationStatus.ACTIVE));
+        stats.put("totalOrganizations", counts.getTotalOrganizations());
+        stats.put("activeOrganizations", counts.getActiveOrganizations());
         
         // Donor statistics
-        stats.put("totalDonors", donorRepository.count());
-        stats.put("activeDonors", donorRepository.countByStatus(DonorStatus.ACTIVE));
+        stats.put("totalDonors", counts.getTotalDonors());
+        stats.put("activeDonors", counts.getActiveDonors());
         
         // Patient statistics
-        stats.put("totalPatients", patientRepository.count());
-        stats.put("waitingPatients", patientRepository.countByStatus(PatientStatus.WAITING));
+        stats.put("totalPatients", counts.getTotalPatients());
+        stats.put("waitingPatients", counts.getWaitingPatients());
         
         // Policy statistics
-        stats.put("activePolicies", policyRepository.countByStatus(PolicyStatus.IMPLEMENTED));
-        stats.put("pendingPolicies", policyRepository.countByStatus(PolicyStatus.PENDING));
+        stats.put("activePolicies", counts.getActivePolicies());
+        stats.put("pendingPolicies", counts.getPendingPolicies());
         
         // Additional metrics
-        stats.put("criticalPatients", patientRepository.countByUrgencyLevel(UrgencyLevel.CRITICAL));
-        stats.put("emergencyPatients", patientRepository.countByUrgencyLevel(UrgencyLevel.EMERGENCY));
+        stats.put("criticalPatients", counts.getCriticalPatients());
+        stats.put("emergencyPatients", counts.getEmergencyPatients());
         
         return stats;
     }
@@ -90,31 +124,55 @@ public class AdminService {
     /**
      * Get all hospitals with pagination
      */
-    public Page<Hospital> getHospitals(Pageable pageable) {
-        return hospitalRepository.findAll(pageable);
+    @Transactional(readOnly = true)
+    public Page<HospitalSummary> getHospitals(Pageable pageable) {
+        return hospitalRepository.findSummaries(pageable);
+    }
+
+    /**
+     * Get hospitals as an offset page without the total count
+     */
+    @Transactional(readOnly = true)
+    public Slice<HospitalSummary> getHospitalSlice(Pageable pageable) {
+        return hospitalRepository.findSummarySlice(pageable);
+    }
+
+    /**
+     * Get hospitals, newest first, continuing after the given cursor
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<HospitalSummary> getHospitalPage(String cursor, int size) {
+        CursorPage.Cursor position = CursorPage.Cursor.decode(cursor);
+        List<HospitalSummary> rows = hospitalRepository.findSummaryPage(
+                position != null ? position.getCreatedAt() : null,
+                position != null ? position.getId() : null,
+                PageRequest.of(0, size + 1));
+        return CursorPage.of(rows, size, hospital -> new CursorPage.Cursor(hospital.getCreatedAt(), hospital.getId()));
     }
 
     /**
      * Get hospital by ID
      */
-    public Optional<Hospital> getHospitalById(Long id) {
-        return hospitalRepository.findById(id);
+    @Transactional(readOnly = true)
+    public Optional<HospitalDetail> getHospitalById(Long id) {
+        return hospitalRepository.findById(id).map(HospitalDetail::from);
     }
 
     /**
      * Create new hospital
      */
-    public Hospital createHospital(Hospital hospital) {
+    @CacheEvict(cacheNames = CacheConfig.ADMIN_STATS, allEntries = true)
+    public HospitalDetail createHospital(Hospital hospital) {
         logger.info("🔧 AdminService: Creating hospital...");
 
         // Generate unique hospital ID
-        String hospitalId = generateHospitalId();
+        String hospitalId = businessIdAllocator.nextHospitalId();
         hospital.setHospitalId(hospitalId);
         logger.info("Generated Hospital ID: {}", hospitalId);
 
         // Generate unique license number if not provided
         if (hospital.getLicenseNumber() == null || hospital.getLicenseNumber().isEmpty()) {
-            String licenseNumber = generateLicenseNumber();
+            String licenseNumber = businessIdAllocator.nextLicenseNumber();
             hospital.setLicenseNumber(licenseNumber);
             logger.info("Generated License Number: {}", licenseNumber);
         }
@@ -141,15 +199,19 @@ public class AdminService {
         // Create default hospital user account (non-blocking)
         createHospitalUser(savedHospital);
 
+        dashboardEventService.publish(DashboardEventService.ADMIN_CHANNEL,
+                new DashboardEvent("hospital").delta("totalHospitals", 1).delta("activeHospitals", 1));
+
         logger.info("✅ Hospital creation completed successfully");
 
-        return savedHospital;
+        return HospitalDetail.from(savedHospital);
     }
 
     /**
      * Update hospital
      */
-    public Hospital updateHospital(Long id, Hospital hospitalDetails) {
+    @CacheEvict(cacheNames = CacheConfig.ADMIN_STATS, allEntries = true)
+    public HospitalDetail updateHospital(Long id, Hospital hospitalDetails) {
         Optional<Hospital> hospitalOpt = hospitalRepository.findById(id);
         if (hospitalOpt.isEmpty()) {
             throw new RuntimeException("Hospital not found with id: " + id);
@@ -174,12 +236,13 @@ public class AdminService {
         hospital.setCapacity(hospitalDetails.getCapacity());
         hospital.setStatus(hospitalDetails.getStatus());
         
-        return hospitalRepository.save(hospital);
+        return HospitalDetail.from(hospitalRepository.save(hospital));
     }
 
     /**
      * Delete hospital
      */
+    @CacheEvict(cacheNames = CacheConfig.ADMIN_STATS, allEntries = true)
     public void deleteHospital(Long id) {
         if (!hospitalRepository.existsById(id)) {
             throw new RuntimeException("Hospital not found with id: " + id);
@@ -202,14 +265,16 @@ public class AdminService {
     /**
      * Get hospital by hospital ID (for viewing details)
      */
-    public Optional<Hospital> getHospitalByHospitalId(String hospitalId) {
-        return hospitalRepository.findByHospitalId(hospitalId);
+    @Transactional(readOnly = true)
+    public Optional<HospitalDetail> getHospitalByHospitalId(String hospitalId) {
+        return hospitalRepository.findByHospitalId(hospitalId).map(HospitalDetail::from);
     }
 
     /**
      * Update hospital status
      */
-    public Hospital updateHospitalStatus(Long id, HospitalStatus status) {
+    @CacheEvict(cacheNames = CacheConfig.ADMIN_STATS, allEntries = true)
+    public HospitalDetail updateHospitalStatus(Long id, HospitalStatus status) {
         Optional<Hospital> hospitalOpt = hospitalRepository.findById(id);
         if (hospitalOpt.isEmpty()) {
             throw new RuntimeException("Hospital not found with id: " + id);
@@ -217,40 +282,43 @@ public class AdminService {
 
         Hospital hospital = hospitalOpt.get();
         hospital.setStatus(status);
-        return hospitalRepository.save(hospital);
+        return HospitalDetail.from(hospitalRepository.save(hospital));
     }
 
     /**
      * Search hospitals by name or ID
      */
-    public Page<Hospital> searchHospitals(String searchTerm, Pageable pageable) {
+    @Transactional(readOnly = true)
+    public Page<HospitalSummary> searchHospitals(String searchTerm, Pageable pageable) {
         if (searchTerm == null || searchTerm.trim().isEmpty()) {
-            return hospitalRepository.findAll(pageable);
+            return hospitalRepository.findSummaries(pageable);
         }
-        return hospitalRepository.findByHospitalNameContainingIgnoreCaseOrHospitalIdContainingIgnoreCase(
-                searchTerm, searchTerm, pageable);
+        return hospitalRepository.searchSummaries(searchTerm, pageable);
     }
 
     /**
      * Get all organizations with pagination
      */
-    public Page<Organization> getOrganizations(Pageable pageable) {
-        return organizationRepository.findAll(pageable);
+    @Transactional(readOnly = true)
+    public Page<OrganizationDetail> getOrganizations(Pageable pageable) {
+        return organizationRepository.findAll(pageable).map(OrganizationDetail::from);
     }
 
     /**
      * Get organization by ID
      */
-    public Optional<Organization> getOrganizationById(Long id) {
-        return organizationRepository.findById(id);
+    @Transactional(readOnly = true)
+    public Optional<OrganizationDetail> getOrganizationById(Long id) {
+        return organizationRepository.findById(id).map(OrganizationDetail::from);
     }
 
     /**
      * Create new organization
      */
-    public Organization createOrganization(Organization organization) {
+    @CacheEvict(cacheNames = CacheConfig.ADMIN_STATS, allEntries = true)
+    public OrganizationDetail createOrganization(Organization organization) {
         // Generate unique organization ID
-        organization.setOrganizationId(generateOrganizationId());
+        organization.setOrganizationId(businessIdAllocator.nextOrganizationId());
         
         // Set default status
         organization.setStatus(OrganizationStatus.ACTIVE);
@@ -262,14 +330,18 @@ public class AdminService {
         
         // Create default organization user account
         createOrganizationUser(savedOrganization);
+
+        dashboardEventService.publish(DashboardEventService.ADMIN_CHANNEL,
+                new DashboardEvent("organization").delta("totalOrganizations", 1).delta("activeOrganizations", 1));
         
-        return savedOrganization;
+        return OrganizationDetail.from(savedOrganization);
     }
 
     /**
      * Update organization
      */
-    public Organization updateOrganization(Long id, Organization organizationDetails) {
+    @CacheEvict(cacheNames = CacheConfig.ADMIN_STATS, allEntries = true)
+    public OrganizationDetail updateOrganization(Long id, Organization organizationDetails) {
         Optional<Organization> orgOpt = organizationRepository.findById(id);
         if (orgOpt.isEmpty()) {
             throw new RuntimeException("Organization not found with id: " + id);
@@ -297,12 +369,13 @@ public class AdminService {
         organization.setStatus(organizationDetails.getStatus());
         organization.setVotingPower(organizationDetails.getVotingPower());
         
-        return organizationRepository.save(organization);
+        return OrganizationDetail.from(organizationRepository.save(organization));
     }
 
     /**
      * Delete organization
      */
+    @CacheEvict(cacheNames = CacheConfig.ADMIN_STATS, allEntries = true)
     public void deleteOrganization(Long id) {
         if (!organizationRepository.existsById(id)) {
             throw new RuntimeException("Organization not found with id: " + id);
@@ -313,14 +386,16 @@ public class AdminService {
     /**
      * Get organization by organization ID (for viewing details)
      */
-    public Optional<Organization> getOrganizationByOrganizationId(String organizationId) {
-        return organizationRepository.findByOrganizationId(organizationId);
+    @Transactional(readOnly = true)
+    public Optional<OrganizationDetail> getOrganizationByOrganizationId(String organizationId) {
+        return organizationRepository.findByOrganizationId(organizationId).map(OrganizationDetail::from);
     }
 
     /**
      * Update organization status
      */
-    public Organization updateOrganizationStatus(Long id, OrganizationStatus status) {
+    @CacheEvict(cacheNames = CacheConfig.ADMIN_STATS, allEntries = true)
+    public OrganizationDetail updateOrganizationStatus(Long id, OrganizationStatus status) {
         Optional<Organization> orgOpt = organizationRepository.findById(id);
         if (orgOpt.isEmpty()) {
             throw new RuntimeException("Organization not found with id: " + id);
@@ -328,41 +403,22 @@ public class AdminService {
 
         Organization organization = orgOpt.get();
         organization.setStatus(status);
-        return organizationRepository.save(organization);
+        return OrganizationDetail.from(organizationRepository.save(organization));
     }
 
     /**
      * Search organizations by name or ID
      */
-    public Page<Organization> searchOrganizations(String searchTerm, Pageable pageable) {
+    @Transactional(readOnly = true)
+    public Page<OrganizationDetail> searchOrganizations(String searchTerm, Pageable pageable) {
         if (searchTerm == null || searchTerm.trim().isEmpty()) {
-            return organizationRepository.findAll(pageable);
+            return organizationRepository.findAll(pageable).map(OrganizationDetail::from);
         }
         return organizationRepository.findByOrganizationNameContainingIgnoreCaseOrOrganizationIdContainingIgnoreCase(
-                searchTerm, searchTerm, pageable);
+                searchTerm, searchTerm, pageable).map(OrganizationDetail::from);
     }
 
     // Helper methods
-    private String generateHospitalId() {
-        String prefix = "HOSP";
-        long count = hospitalRepository.count() + 1;
-        return prefix + String.format("%03d", count);
-    }
-
-    private String generateLicenseNumber() {
-        String prefix = "LIC";
-        long count = hospitalRepository.count() + 1;
-        // Add some randomness to avoid duplicates
-        int random = (int) (Math.random() * 1000);
-        return prefix + String.format("%03d", count) + String.format("%03d", random);
-    }
-
-    private String generateOrganizationId() {
-        String prefix = "ORG";
-        long count = organizationRepository.count() + 1;
-        return prefix + String.format("%03d", count);
-    }
-
     private void createHospitalUser(Hospital hospital) {
         // Check if user already exists with this email or username
         String username = hospital.getHospitalId().toLowerCase();
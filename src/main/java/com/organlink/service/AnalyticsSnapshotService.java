@@ -0,0 +1,180 @@
+package com.organlink.service;
+
+import com.organlink.dto.AnalyticsQuery;
+import com.organlink.dto.AnalyticsResult;
+import com.organlink.repository.DonorRepository;
+import com.organlink.repository.MatchRepository;
+import com.organlink.repository.PatientRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * In-memory columnar analytics snapshot for the admin portal
+ * Periodically streams a column projection of patients, donors and matches into immutable
+ * ColumnarTables and swaps them in atomically; ad-hoc group-bys then run on the snapshot only.
+ */
+@Service
+public class AnalyticsSnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyticsSnapshotService.class);
+
+    public static final String PATIENTS = "patients";
+    public static final String DONORS = "donors";
+    public static final String MATCHES = "matches";
+
+    @Autowired
+    private PatientRepository patientRepository;
+
+    @Autowired
+    private DonorRepository donorRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final Object refreshLock = new Object();
+
+    private volatile Snapshot snapshot;
+
+    @Scheduled(fixedDelayString = "${organlink.analytics.refresh-interval:300000}",
+               initialDelayString = "${organlink.analytics.initial-delay:60000}")
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            // Keep serving the previous snapshot
+            logger.error("❌ Analytics snapshot refresh failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Rebuild all tables and swap them in
+     */
+    public void refresh() {
+        synchronized (refreshLock) {
+            long started = System.currentTimeMillis();
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            transactionTemplate.setReadOnly(true);
+            Map<String, ColumnarTable> tables = transactionTemplate.execute(status -> {
+                Map<String, ColumnarTable> built = new LinkedHashMap<>();
+                built.put(PATIENTS, buildPatients());
+                built.put(DONORS, buildDonors());
+                built.put(MATCHES, buildMatches());
+                return built;
+            });
+            snapshot = new Snapshot(tables, LocalDateTime.now());
+            logger.info("🧮 Analytics snapshot refreshed in {} ms ({} patients, {} donors, {} matches)",
+                    System.currentTimeMillis() - started, tables.get(PATIENTS).getRowCount(),
+                    tables.get(DONORS).getRowCount(), tables.get(MATCHES).getRowCount());
+        }
+    }
+
+    /**
+     * Run a filter/group-by query against the current snapshot
+     */
+    public AnalyticsResult query(AnalyticsQuery query) {
+        Snapshot current = current();
+        ColumnarTable table = current.tables().get(query.getDataset());
+        if (table == null) {
+            throw new RuntimeException("Unknown dataset: " + query.getDataset() + " (expected one of " + current.tables().keySet() + ")");
+        }
+        AnalyticsResult result = table.aggregate(query);
+        result.setSnapshotAt(current.builtAt());
+        return result;
+    }
+
+    /**
+     * Snapshot time and per-dataset schema
+     */
+    public Map<String, Object> describe() {
+        Snapshot current = current();
+        Map<String, Object> datasets = new LinkedHashMap<>();
+        current.tables().forEach((name, table) -> datasets.put(name, table.describe()));
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("snapshotAt", current.builtAt());
+        description.put("datasets", datasets);
+        return description;
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            refresh();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    private ColumnarTable buildPatients() {
+        LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+        ColumnarTable.Builder builder = ColumnarTable.builder(PATIENTS,
+                List.of("organ", "bloodType", "urgency", "state", "status", "hospital"),
+                List.of("age", "waitingDays"));
+        try (Stream<Object[]> rows = patientRepository.streamAnalyticsRows()) {
+            rows.forEach(row -> builder.addRow(
+                    new String[] {(String) row[0], (String) row[1], name(row[2]), (String) row[3], name(row[4]), (String) row[5]},
+                    new double[] {age((LocalDate) row[6], today), days((LocalDateTime) row[7], now)}));
+        }
+        return builder.build();
+    }
+
+    private ColumnarTable buildDonors() {
+        LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+        ColumnarTable.Builder builder = ColumnarTable.builder(DONORS,
+                List.of("bloodType", "state", "status", "availability", "hospital"),
+                List.of("age", "registeredDays"));
+        try (Stream<Object[]> rows = donorRepository.streamAnalyticsRows()) {
+            rows.forEach(row -> builder.addRow(
+                    new String[] {(String) row[0], (String) row[1], name(row[2]), name(row[3]), (String) row[4]},
+                    new double[] {age((LocalDate) row[5], today), days((LocalDateTime) row[6], now)}));
+        }
+        return builder.build();
+    }
+
+    private ColumnarTable buildMatches() {
+        ColumnarTable.Builder builder = ColumnarTable.builder(MATCHES,
+                List.of("organ", "status", "patientHospital", "donorHospital", "crossHospital", "urgency"),
+                List.of("score", "daysToMatch"));
+        try (Stream<Object[]> rows = matchRepository.streamAnalyticsRows()) {
+            rows.forEach(row -> builder.addRow(
+                    new String[] {(String) row[0], name(row[1]), (String) row[2], (String) row[3],
+                            String.valueOf(!Objects.equals(row[2], row[3])), name(row[4])},
+                    new double[] {row[5] != null ? (Double) row[5] : Double.NaN,
+                            days((LocalDateTime) row[7], (LocalDateTime) row[6])}));
+        }
+        return builder.build();
+    }
+
+    private static String name(Object value) {
+        return value instanceof Enum<?> e ? e.name() : null;
+    }
+
+    private static double age(LocalDate dateOfBirth, LocalDate today) {
+        return dateOfBirth != null ? Period.between(dateOfBirth, today).getYears() : Double.NaN;
+    }
+
+    private static double days(LocalDateTime from, LocalDateTime to) {
+        return from != null && to != null ? Duration.between(from, to).toHours() / 24.0 : Double.NaN;
+    }
+
+    private record Snapshot(Map<String, ColumnarTable> tables, LocalDateTime builtAt) {}
+}
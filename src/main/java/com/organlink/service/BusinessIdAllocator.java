@@ -0,0 +1,155 @@
+package com.organlink.service;
+
+import com.organlink.entity.BusinessIdSequence;
+import com.organlink.repository.BusinessIdSequenceRepository;
+import com.organlink.repository.DonorRepository;
+import com.organlink.repository.HospitalRepository;
+import com.organlink.repository.OrganizationRepository;
+import com.organlink.repository.PatientRepository;
+import com.organlink.repository.PolicyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Business ID allocator (hi/lo)
+ * Each sequence (donor/patient IDs per hospital, hospital, license, organization and policy-per-year)
+ * is a row in business_id_sequences. A node reserves a block of values by advancing the row under a
+ * lock in its own short transaction, then hands the block out from memory, so registrations run no
+ * count queries and nodes never issue the same ID. Unused values of a block are skipped on restart.
+ */
+@Service
+public class BusinessIdAllocator {
+
+    private static final Logger logger = LoggerFactory.getLogger(BusinessIdAllocator.class);
+
+    @Autowired
+    private BusinessIdSequenceRepository sequenceRepository;
+
+    @Autowired
+    private DonorRepository donorRepository;
+
+    @Autowired
+    private PatientRepository patientRepository;
+
+    @Autowired
+    private HospitalRepository hospitalRepository;
+
+    @Autowired
+    private OrganizationRepository organizationRepository;
+
+    @Autowired
+    private PolicyRepository policyRepository;
+
+    private final TransactionTemplate requiresNew;
+
+    private final int blockSize;
+
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    public BusinessIdAllocator(PlatformTransactionManager transactionManager,
+                               @Value("${organlink.business-ids.block-size:20}") int blockSize) {
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = Math.max(1, blockSize);
+    }
+
+    public String nextDonorId(String hospitalId) {
+        String prefix = hospitalId + "-DON-";
+        return prefix + String.format("%04d", next("DONOR:" + hospitalId, prefix, donorRepository::findDonorIdsStartingWith));
+    }
+
+    public String nextPatientId(String hospitalId) {
+        String prefix = hospitalId + "-PAT-";
+        return prefix + String.format("%04d", next("PATIENT:" + hospitalId, prefix, patientRepository::findPatientIdsStartingWith));
+    }
+
+    public String nextHospitalId() {
+        return "HOSP" + String.format("%03d", next("HOSPITAL", "HOSP", hospitalRepository::findHospitalIdsStartingWith));
+    }
+
+    public String nextLicenseNumber() {
+        return "LIC" + String.format("%06d", next("LICENSE", "LIC", hospitalRepository::findLicenseNumbersStartingWith));
+    }
+
+    public String nextOrganizationId() {
+        return "ORG" + String.format("%03d", next("ORGANIZATION", "ORG", organizationRepository::findOrganizationIdsStartingWith));
+    }
+
+    public String nextPolicyId() {
+        String prefix = "POL-" + Year.now().getValue() + "-";
+        return prefix + String.format("%03d", next("POLICY:" + Year.now().getValue(), prefix, policyRepository::findPolicyIdsStartingWith));
+    }
+
+    /**
+     * Next value of a sequence; reserves a new block when the in-memory one is used up
+     */
+    private long next(String sequenceName, String prefix, Function<String, List<String>> existingIds) {
+        Block block = blocks.computeIfAbsent(sequenceName, name -> new Block());
+        synchronized (block) {
+            if (block.next >= block.limit) {
+                block.next = reserveBlock(sequenceName, prefix, existingIds);
+                block.limit = block.next + blockSize;
+            }
+            return block.next++;
+        }
+    }
+
+    private long reserveBlock(String sequenceName, String prefix, Function<String, List<String>> existingIds) {
+        for (int attempt = 0; attempt < 3; attempt++) {
+            try {
+                Long start = requiresNew.execute(status -> {
+                    BusinessIdSequence sequence = sequenceRepository.findForUpdate(sequenceName).orElse(null);
+                    if (sequence == null) {
+                        // First use: continue after the highest ID already issued under this prefix
+                        long seed = highestSuffix(prefix, existingIds.apply(prefix)) + 1;
+                        sequenceRepository.saveAndFlush(new BusinessIdSequence(sequenceName, seed + blockSize));
+                        logger.info("🔢 Business ID sequence {} seeded at {}", sequenceName, seed);
+                        return seed;
+                    }
+                    long first = sequence.getNextValue();
+                    sequence.setNextValue(first + blockSize);
+                    sequence.setUpdatedAt(LocalDateTime.now());
+                    return first;
+                });
+                return start;
+            } catch (DataIntegrityViolationException e) {
+                // Another node created the row concurrently; lock and advance it instead
+                logger.debug("Business ID sequence {} created concurrently, retrying", sequenceName);
+            }
+        }
+        throw new RuntimeException("Unable to reserve business IDs for sequence " + sequenceName);
+    }
+
+    private static long highestSuffix(String prefix, List<String> ids) {
+        long highest = 0;
+        for (String id : ids) {
+            String suffix = id.substring(prefix.length());
+            if (!suffix.isEmpty() && suffix.chars().allMatch(Character::isDigit) && suffix.length() < 19) {
+                highest = Math.max(highest, Long.parseLong(suffix));
+            }
+        }
+        return highest;
+    }
+
+    /**
+     * Values [next, limit) reserved by this node
+     */
+    private static class Block {
+        private long next;
+        private long limit;
+    }
+}
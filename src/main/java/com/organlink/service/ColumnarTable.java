@@ -0,0 +1,293 @@
+package com.organlink.service;
+
+import com.organlink.dto.AnalyticsQuery;
+import com.organlink.dto.AnalyticsResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable column store for one analytics dataset
+ * Dimensions are dictionary-encoded into int code arrays and measures are kept in double arrays
+ * (NaN = missing). Queries scan the columns with a parallel stream, so no query touches MySQL.
+ */
+public final class ColumnarTable {
+
+    public static final String UNKNOWN = "UNKNOWN";
+
+    private static final int MAX_GROUP_BY = 4;
+    private static final int DEFAULT_LIMIT = 1000;
+
+    private final String name;
+    private final int rowCount;
+    private final Map<String, String[]> dictionaries;
+    private final Map<String, int[]> codes;
+    private final Map<String, double[]> measures;
+
+    private ColumnarTable(String name, int rowCount, Map<String, String[]> dictionaries,
+                          Map<String, int[]> codes, Map<String, double[]> measures) {
+        this.name = name;
+        this.rowCount = rowCount;
+        this.dictionaries = dictionaries;
+        this.codes = codes;
+        this.measures = measures;
+    }
+
+    public static Builder builder(String name, List<String> dimensions, List<String> measures) {
+        return new Builder(name, dimensions, measures);
+    }
+
+    public String getName() { return name; }
+
+    public int getRowCount() { return rowCount; }
+
+    /**
+     * Dataset schema: row count, dimension cardinalities and measure names
+     */
+    public Map<String, Object> describe() {
+        Map<String, Integer> dimensions = new LinkedHashMap<>();
+        dictionaries.forEach((dimension, dictionary) -> dimensions.put(dimension, dictionary.length));
+        Map<String, Object> schema = new LinkedHashMap<>();
+        schema.put("rows", rowCount);
+        schema.put("dimensions", dimensions);
+        schema.put("measures", new ArrayList<>(measures.keySet()));
+        return schema;
+    }
+
+    /**
+     * Filter, group and aggregate the table
+     */
+    public AnalyticsResult aggregate(AnalyticsQuery query) {
+        long started = System.nanoTime();
+
+        // Dimension filters become per-code lookup tables
+        List<int[]> filterColumns = new ArrayList<>();
+        List<boolean[]> filterAllowed = new ArrayList<>();
+        if (query.getFilters() != null) {
+            query.getFilters().forEach((dimension, values) -> {
+                String[] dictionary = dictionary(dimension);
+                Set<String> wanted = values != null ? new HashSet<>(values) : Set.of();
+                boolean[] allowed = new boolean[dictionary.length];
+                for (int code = 0; code < dictionary.length; code++) {
+                    allowed[code] = wanted.contains(dictionary[code]);
+                }
+                filterColumns.add(codes.get(dimension));
+                filterAllowed.add(allowed);
+            });
+        }
+
+        List<double[]> rangeColumns = new ArrayList<>();
+        List<double[]> rangeBounds = new ArrayList<>();
+        if (query.getRanges() != null) {
+            query.getRanges().forEach((measure, range) -> {
+                rangeColumns.add(measureColumn(measure));
+                rangeBounds.add(new double[] {
+                        range.getMin() != null ? range.getMin() : Double.NEGATIVE_INFINITY,
+                        range.getMax() != null ? range.getMax() : Double.POSITIVE_INFINITY});
+            });
+        }
+
+        // Group key = mixed-radix number over the group-by codes
+        List<String> groupBy = query.getGroupBy() != null ? query.getGroupBy() : List.of();
+        if (groupBy.size() > MAX_GROUP_BY) {
+            throw new RuntimeException("At most " + MAX_GROUP_BY + " group-by dimensions are supported");
+        }
+        int groups = groupBy.size();
+        int[][] groupColumns = new int[groups][];
+        long[] strides = new long[groups];
+        int[] radices = new int[groups];
+        long stride = 1;
+        for (int g = 0; g < groups; g++) {
+            radices[g] = Math.max(1, dictionary(groupBy.get(g)).length);
+            groupColumns[g] = codes.get(groupBy.get(g));
+            strides[g] = stride;
+            stride = Math.multiplyExact(stride, radices[g]);
+        }
+
+        double[] measure = query.getMeasure() != null ? measureColumn(query.getMeasure()) : null;
+        int[][] filterCodeColumns = filterColumns.toArray(new int[0][]);
+        boolean[][] allowedCodes = filterAllowed.toArray(new boolean[0][]);
+        double[][] ranges = rangeColumns.toArray(new double[0][]);
+        double[][] bounds = rangeBounds.toArray(new double[0][]);
+
+        // Per-thread partial maps of key -> {count, sum, min, max, measured}, merged by the combiner
+        Map<Long, double[]> buckets = IntStream.range(0, rowCount).parallel()
+                .filter(row -> {
+                    for (int f = 0; f < filterCodeColumns.length; f++) {
+                        if (!allowedCodes[f][filterCodeColumns[f][row]]) {
+                            return false;
+                        }
+                    }
+                    for (int r = 0; r < ranges.length; r++) {
+                        double value = ranges[r][row];
+                        if (Double.isNaN(value) || value < bounds[r][0] || value > bounds[r][1]) {
+                            return false;
+                        }
+                    }
+                    return true;
+                })
+                .collect(HashMap::new, (map, row) -> {
+                    long key = 0;
+                    for (int g = 0; g < groupColumns.length; g++) {
+                        key += groupColumns[g][row] * strides[g];
+                    }
+                    double[] acc = map.computeIfAbsent(key,
+                            k -> new double[] {0, 0, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, 0});
+                    acc[0]++;
+                    if (measure != null && !Double.isNaN(measure[row])) {
+                        double value = measure[row];
+                        acc[1] += value;
+                        acc[2] = Math.min(acc[2], value);
+                        acc[3] = Math.max(acc[3], value);
+                        acc[4]++;
+                    }
+                }, (left, right) -> right.forEach((key, acc) -> left.merge(key, acc, ColumnarTable::mergeAccumulators)));
+
+        int limit = query.getLimit() != null && query.getLimit() > 0 ? query.getLimit() : DEFAULT_LIMIT;
+        List<AnalyticsResult.Group> result = buckets.entrySet().stream()
+                .sorted(Comparator.comparingDouble((Map.Entry<Long, double[]> e) -> e.getValue()[0]).reversed())
+                .limit(limit)
+                .map(entry -> toGroup(entry.getKey(), entry.getValue(), groupBy, strides, radices, measure != null))
+                .toList();
+
+        AnalyticsResult analyticsResult = new AnalyticsResult();
+        analyticsResult.setDataset(name);
+        analyticsResult.setRowsScanned(rowCount);
+        analyticsResult.setRowsMatched(buckets.values().stream().mapToLong(acc -> (long) acc[0]).sum());
+        analyticsResult.setGroups(new ArrayList<>(result));
+        analyticsResult.setElapsedMs((System.nanoTime() - started) / 1_000_000);
+        return analyticsResult;
+    }
+
+    private AnalyticsResult.Group toGroup(long key, double[] acc, List<String> groupBy,
+                                          long[] strides, int[] radices, boolean withMeasure) {
+        Map<String, String> groupKey = new LinkedHashMap<>();
+        for (int g = 0; g < groupBy.size(); g++) {
+            int code = (int) ((key / strides[g]) % radices[g]);
+            groupKey.put(groupBy.get(g), dictionary(groupBy.get(g))[code]);
+        }
+        AnalyticsResult.Group group = new AnalyticsResult.Group();
+        group.setKey(groupKey);
+        group.setCount((long) acc[0]);
+        if (withMeasure && acc[4] > 0) {
+            group.setSum(acc[1]);
+            group.setAvg(acc[1] / acc[4]);
+            group.setMin(acc[2]);
+            group.setMax(acc[3]);
+        }
+        return group;
+    }
+
+    private static double[] mergeAccumulators(double[] left, double[] right) {
+        left[0] += right[0];
+        left[1] += right[1];
+        left[2] = Math.min(left[2], right[2]);
+        left[3] = Math.max(left[3], right[3]);
+        left[4] += right[4];
+        return left;
+    }
+
+    private String[] dictionary(String dimension) {
+        String[] dictionary = dictionaries.get(dimension);
+        if (dictionary == null) {
+            throw new RuntimeException("Unknown dimension '" + dimension + "' for dataset " + name);
+        }
+        return dictionary;
+    }
+
+    private double[] measureColumn(String measure) {
+        double[] column = measures.get(measure);
+        if (column == null) {
+            throw new RuntimeException("Unknown measure '" + measure + "' for dataset " + name);
+        }
+        return column;
+    }
+
+    /**
+     * Row-at-a-time builder; dictionary-encodes dimension values as they arrive
+     */
+    public static final class Builder {
+
+        private final String name;
+        private final String[] dimensionNames;
+        private final String[] measureNames;
+        private final List<Map<String, Integer>> lookups = new ArrayList<>();
+        private final List<List<String>> dictionaries = new ArrayList<>();
+        private int[][] codes;
+        private double[][] values;
+        private int size;
+
+        private Builder(String name, List<String> dimensions, List<String> measures) {
+            this.name = name;
+            this.dimensionNames = dimensions.toArray(new String[0]);
+            this.measureNames = measures.toArray(new String[0]);
+            this.codes = new int[dimensionNames.length][1024];
+            this.values = new double[measureNames.length][1024];
+            for (int d = 0; d < dimensionNames.length; d++) {
+                lookups.add(new HashMap<>());
+                dictionaries.add(new ArrayList<>());
+            }
+        }
+
+        /**
+         * Append a row; dimension values and measures must follow the declared column order
+         */
+        public Builder addRow(String[] dimensionValues, double[] measureValues) {
+            if (size == capacity()) {
+                grow();
+            }
+            for (int d = 0; d < dimensionNames.length; d++) {
+                String value = dimensionValues[d] != null && !dimensionValues[d].isBlank() ? dimensionValues[d] : UNKNOWN;
+                List<String> dictionary = dictionaries.get(d);
+                codes[d][size] = lookups.get(d).computeIfAbsent(value, v -> {
+                    dictionary.add(v);
+                    return dictionary.size() - 1;
+                });
+            }
+            for (int m = 0; m < measureNames.length; m++) {
+                values[m][size] = measureValues[m];
+            }
+            size++;
+            return this;
+        }
+
+        public ColumnarTable build() {
+            Map<String, String[]> dictionaryMap = new LinkedHashMap<>();
+            Map<String, int[]> codeMap = new LinkedHashMap<>();
+            Map<String, double[]> measureMap = new LinkedHashMap<>();
+            for (int d = 0; d < dimensionNames.length; d++) {
+                dictionaryMap.put(dimensionNames[d], dictionaries.get(d).toArray(new String[0]));
+                codeMap.put(dimensionNames[d], Arrays.copyOf(codes[d], size));
+            }
+            for (int m = 0; m < measureNames.length; m++) {
+                measureMap.put(measureNames[m], Arrays.copyOf(values[m], size));
+            }
+            return new ColumnarTable(name, size, dictionaryMap, codeMap, measureMap);
+        }
+
+        private int capacity() {
+            if (codes.length > 0) {
+                return codes[0].length;
+            }
+            return values.length > 0 ? values[0].length : Integer.MAX_VALUE;
+        }
+
+        private void grow() {
+            int newCapacity = capacity() * 2;
+            for (int d = 0; d < codes.length; d++) {
+                codes[d] = Arrays.copyOf(codes[d], newCapacity);
+            }
+            for (int m = 0; m < values.length; m++) {
+                values[m] = Arrays.copyOf(values[m], newCapacity);
+            }
+        }
+    }
+}
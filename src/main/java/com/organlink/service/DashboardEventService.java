@@ -0,0 +1,274 @@
+package com.organlink.service;
+
+import com.organlink.dto.DashboardEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Per-tenant SSE channels for live dashboards
+ * A subscriber gets one full snapshot on connect and afterwards only small counter deltas,
+ * published once the originating transaction has committed. Every event carries the channel's
+ * sequence number as its SSE id; deltas already contained in the snapshot are never sent.
+ */
+@Service
+public class DashboardEventService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardEventService.class);
+
+    public static final String ADMIN_CHANNEL = "ADMIN";
+
+    private static final int SNAPSHOT_ATTEMPTS = 3;
+
+    @Value("${organlink.dashboard-stream.timeout:1800000}")
+    private long emitterTimeout;
+
+    private final Map<String, List<Subscriber>> channels = new ConcurrentHashMap<>();
+
+    private final Map<String, ChannelClock> clocks = new ConcurrentHashMap<>();
+
+    // Sends happen off the publishing (often committing) thread so slow clients never block writes;
+    // the single thread also keeps each subscriber's snapshot ahead of its deltas
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "dashboard-sse");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public static String hospitalChannel(String hospitalId) {
+        return "HOSPITAL:" + hospitalId;
+    }
+
+    public static String organizationChannel(String organizationId) {
+        return "ORGANIZATION:" + organizationId;
+    }
+
+    /**
+     * Open a stream for a channel, starting with a full snapshot
+     * The subscriber is registered (buffering deltas) before the snapshot is read, so no delta committed
+     * in between is lost. A read that overlapped a publishing commit is repeated, since it cannot tell
+     * whether that commit is in the snapshot.
+     */
+    public SseEmitter subscribe(String channel, Supplier<Map<String, Object>> snapshot) {
+        SseEmitter emitter = new SseEmitter(emitterTimeout);
+        Subscriber subscriber = new Subscriber(emitter);
+        channels.computeIfAbsent(channel, key -> new CopyOnWriteArrayList<>()).add(subscriber);
+        emitter.onCompletion(() -> remove(channel, subscriber));
+        emitter.onTimeout(() -> remove(channel, subscriber));
+        emitter.onError(error -> remove(channel, subscriber));
+
+        ChannelClock clock = clock(channel);
+        Map<String, Object> stats;
+        long sequence;
+        boolean clean;
+        int attempt = 0;
+        try {
+            do {
+                attempt++;
+                long epoch = clock.epoch.get();
+                boolean quiet = clock.inFlight.get() == 0;
+                sequence = clock.sequence.get();
+                stats = snapshot.get();
+                // No publishing commit was under way: deltas up to "sequence" are in the snapshot, later ones are not
+                clean = quiet && clock.epoch.get() == epoch;
+            } while (!clean && attempt < SNAPSHOT_ATTEMPTS);
+        } catch (RuntimeException e) {
+            remove(channel, subscriber);
+            throw e;
+        }
+        if (!clean) {
+            logger.debug("Dashboard snapshot for {} overlapped concurrent commits {} times", channel, attempt);
+        }
+
+        Map<String, Object> snapshotStats = stats;
+        long snapshotSequence = sequence;
+        dispatcher.execute(() -> start(channel, subscriber, snapshotStats, snapshotSequence));
+        return emitter;
+    }
+
+    /**
+     * Publish an event to a channel once the current transaction commits (immediately if none)
+     */
+    public void publish(String channel, DashboardEvent event) {
+        if (event == null || event.isEmpty() || !channels.containsKey(channel)) {
+            return;
+        }
+        ChannelClock clock = clock(channel);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                private boolean committing;
+
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    // From here until the delta is dispatched, a snapshot read cannot tell whether it sees this change
+                    clock.inFlight.incrementAndGet();
+                    clock.epoch.incrementAndGet();
+                    committing = true;
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (!committing) {
+                        return;
+                    }
+                    try {
+                        if (status == STATUS_COMMITTED) {
+                            dispatch(channel, event);
+                        }
+                    } finally {
+                        clock.inFlight.decrementAndGet();
+                    }
+                }
+            });
+        } else {
+            clock.inFlight.incrementAndGet();
+            clock.epoch.incrementAndGet();
+            try {
+                dispatch(channel, event);
+            } finally {
+                clock.inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Publish an event to every connected organization dashboard (e.g. platform-wide policy counts)
+     */
+    public void publishToOrganizations(DashboardEvent event) {
+        for (String channel : channels.keySet()) {
+            if (channel.startsWith("ORGANIZATION:")) {
+                publish(channel, event);
+            }
+        }
+    }
+
+    public boolean hasSubscribers(String channel) {
+        return channels.containsKey(channel);
+    }
+
+    public int getSubscriberCount() {
+        return channels.values().stream().mapToInt(List::size).sum();
+    }
+
+    /**
+     * Comment heartbeat keeps idle connections open through proxies and prunes dead clients
+     */
+    @Scheduled(fixedDelayString = "${organlink.dashboard-stream.heartbeat-interval:25000}")
+    public void heartbeat() {
+        channels.forEach((channel, subscribers) -> dispatcher.execute(() -> {
+            for (Subscriber subscriber : subscribers) {
+                send(channel, subscriber, SseEmitter.event().comment("keep-alive"));
+            }
+        }));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        channels.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        channels.clear();
+        dispatcher.shutdownNow();
+    }
+
+    /**
+     * Send the snapshot, then the buffered deltas it does not contain (dispatcher thread)
+     */
+    private void start(String channel, Subscriber subscriber, Map<String, Object> stats, long sequence) {
+        subscriber.sequence = sequence;
+        send(channel, subscriber, SseEmitter.event().id(String.valueOf(sequence)).name("snapshot")
+                .data(stats, MediaType.APPLICATION_JSON));
+        List<Delta> buffered = subscriber.buffered;
+        subscriber.buffered = null;
+        for (Delta delta : buffered) {
+            deliver(channel, subscriber, delta);
+        }
+    }
+
+    private void dispatch(String channel, DashboardEvent event) {
+        List<Subscriber> subscribers = channels.get(channel);
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+        Delta delta = new Delta(clock(channel).sequence.incrementAndGet(), event);
+        dispatcher.execute(() -> {
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.buffered != null) {
+                    subscriber.buffered.add(delta);
+                } else {
+                    deliver(channel, subscriber, delta);
+                }
+            }
+        });
+    }
+
+    private void deliver(String channel, Subscriber subscriber, Delta delta) {
+        if (delta.sequence() <= subscriber.sequence) {
+            return; // committed before the snapshot was read
+        }
+        send(channel, subscriber, SseEmitter.event().id(String.valueOf(delta.sequence())).name("delta")
+                .data(delta.event(), MediaType.APPLICATION_JSON));
+    }
+
+    private void send(String channel, Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        try {
+            subscriber.emitter.send(event);
+        } catch (Exception e) {
+            logger.debug("Dropping dashboard subscriber on {}: {}", channel, e.getMessage());
+            remove(channel, subscriber);
+        }
+    }
+
+    private void remove(String channel, Subscriber subscriber) {
+        channels.computeIfPresent(channel, (key, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    private ChannelClock clock(String channel) {
+        return clocks.computeIfAbsent(channel, key -> new ChannelClock());
+    }
+
+    private record Delta(long sequence, DashboardEvent event) {}
+
+    /**
+     * One stream; its fields are only touched on the dispatcher thread
+     */
+    private static class Subscriber {
+        private final SseEmitter emitter;
+        // Deltas dispatched before the snapshot went out; null once the snapshot has been sent
+        private List<Delta> buffered = new ArrayList<>();
+        // Sequence the snapshot was read at
+        private long sequence;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+
+    /**
+     * Per-channel ordering state: delta sequence, and the publishing commits a snapshot read may overlap
+     */
+    private static class ChannelClock {
+        private final AtomicLong sequence = new AtomicLong();
+        private final AtomicLong epoch = new AtomicLong();
+        private final AtomicInteger inFlight = new AtomicInteger();
+    }
+}
@@ -1,13 +1,24 @@
 package com.organlink.service;
 
+import com.organlink.dto.CursorPage;
+import com.organlink.dto.DonorDetail;
+import com.organlink.dto.DonorSummary;
+import com.organlink.dto.MatchSummary;
+import com.organlink.dto.NotificationSummary;
+import com.organlink.dto.PatientDetail;
+import com.organlink.dto.PatientSummary;
 import com.organlink.entity.*;
 import com.organlink.repository.*;
 import com.organlink.blockchain.OrganLinkRegistryService;
+import com.organlink.config.CacheConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -57,6 +68,12 @@ public class HospitalService {
     @Autowired
     private NotificationService notificationService;
 
+    @Autowired
+    private HospitalStatsService hospitalStatsService;
+
+    @Autowired
+    private BusinessIdAllocator businessIdAllocator;
+
     @Autowired
     private UserRepository userRepository;
 
@@ -65,8 +82,22 @@ public class HospitalService {
 
     /**
      * Get hospital dashboard statistics
+     * Runs a fixed set of aggregate and top-N queries, so cost does not grow with hospital size
      */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.HOSPITAL_DASHBOARD, key = "#hospitalId", sync = true)
     public Map<String, Object> getDashboardStats(String hospitalId) {
+        return loadDashboardStats(hospitalId);
+    }
+
+    /**
+     * Dashboard snapshot for a live stream: uncached and read on the primary, like the deltas that follow it
+     */
+    public Map<String, Object> getDashboardSnapshot(String hospitalId) {
+        return loadDashboardStats(hospitalId);
+    }
+
+    private Map<String, Object> loadDashboardStats(String hospitalId) {
         Optional<Hospital> hospitalOpt = hospitalRepository.findByHospitalId(hospitalId);
         if (hospitalOpt.isEmpty()) {
             throw new RuntimeException("Hospital not found: " + hospitalId);
@@ -75,78 +106,46 @@ public class HospitalService {
         Hospital hospital = hospitalOpt.get();
         Map<String, Object> stats = new HashMap<>();
         
-        // Donor statistics
-        stats.put("totalDonors", donorRepository.countByHospitalId(hospital.getId()));
-        stats.put("activeDonors", donorRepository.findByHospitalId(hospital.getId()).stream()
-                .filter(donor -> donor.getStatus() == DonorStatus.ACTIVE)
-                .count());
-        
-        // Patient statistics
-        stats.put("totalPatients", patientRepository.countByHospitalId(hospital.getId()));
-        stats.put("waitingPatients", patientRepository.findByHospitalId(hospital.getId()).stream()
-                .filter(patient -> patient.getStatus() == PatientStatus.WAITING)
-                .count());
-        
-        // Match statistics
-        stats.put("activeMatches", matchRepository.countByHospitalId(hospital.getId()));
-        stats.put("successfulTransplants", matchRepository.countCompletedByHospitalId(hospital.getId()));
-        
-        // Recent activity
-        // Get recent registrations (simplified)
-        java.time.LocalDateTime epoch = java.time.LocalDateTime.MIN;
-        List<Donor> recentDonors = donorRepository.findByHospitalId(hospital.getId()).stream()
-                .sorted((d1, d2) -> {
-                    java.time.LocalDateTime t1 = d1.getCreatedAt() != null ? d1.getCreatedAt() : epoch;
-                    java.time.LocalDateTime t2 = d2.getCreatedAt() != null ? d2.getCreatedAt() : epoch;
-                    return t2.compareTo(t1);
-                })
-                .limit(5)
-                .collect(java.util.stream.Collectors.toList());
-        List<Patient> recentPatients = patientRepository.findByHospitalId(hospital.getId()).stream()
-                .sorted((p1, p2) -> {
-                    java.time.LocalDateTime t1 = p1.getCreatedAt() != null ? p1.getCreatedAt() : epoch;
-                    java.time.LocalDateTime t2 = p2.getCreatedAt() != null ? p2.getCreatedAt() : epoch;
-                    return t2.compareTo(t1);
-                })
-                .limit(5)
-                .collect(java.util.stream.Collectors.toList());
+        // Counters come from the incrementally maintained hospital_stats row (primary-key lookup)
+        HospitalStats counters = hospitalStatsService.getStats(hospital.getId());
+
+        stats.put("totalDonors", counters.getTotalDonors());
+        stats.put("activeDonors", counters.getActiveDonors());
+        stats.put("totalPatients", counters.getTotalPatients());
+        stats.put("waitingPatients", counters.getWaitingPatients());
+        stats.put("activeMatches", counters.getActiveMatches());
+        stats.put("successfulTransplants", counters.getCompletedMatches());
+        stats.put("crossHospitalMatches", counters.getCrossHospitalMatches());
 
-        stats.put("recentDonorRegistrations", recentDonors);
-        stats.put("recentPatientRegistrations", recentPatients);
-        
         // Blockchain verification statistics
-        long verifiedDonors = donorRepository.findByHospitalId(hospital.getId()).stream()
-                .filter(donor -> donor.getSignatureVerified() != null && donor.getSignatureVerified())
-                .count();
-        long verifiedPatients = patientRepository.findByHospitalId(hospital.getId()).stream()
-                .filter(patient -> patient.getSignatureVerified() != null && patient.getSignatureVerified())
-                .count();
+        stats.put("verifiedDonors", counters.getVerifiedDonors());
+        stats.put("verifiedPatients", counters.getVerifiedPatients());
         
-        stats.put("verifiedDonors", verifiedDonors);
-        stats.put("verifiedPatients", verifiedPatients);
+        // Recent activity (ORDER BY ... LIMIT 5 in the database); summaries, since the map outlives the session in the cache
+        stats.put("recentDonorRegistrations",
+                donorRepository.findSummaryPageForHospital(hospitalId, null, null, PageRequest.of(0, 5)));
+        stats.put("recentPatientRegistrations",
+                patientRepository.findSummaryPageForHospital(hospitalId, null, null, PageRequest.of(0, 5)));
         
         // IPFS and blockchain integration stats
-        long ipfsRecords = signatureRecordRepository.countByUploadedBy(hospital);
-        stats.put("ipfsRecords", ipfsRecords);
+        stats.put("ipfsRecords", counters.getIpfsRecords());
         
         // Recent matches for this hospital
-        List<Match> recentMatches = matchRepository.findMatchesForHospital(hospitalId).stream()
-                .limit(5)
-                .collect(java.util.stream.Collectors.toList());
+        List<MatchSummary> recentMatches = matchRepository.findMatchPageForHospital(
+                hospitalId, null, null, null, null, null, PageRequest.of(0, 5)).stream()
+                .map(MatchSummary::from)
+                .toList();
         stats.put("recentMatches", recentMatches);
         
-        // Cross-hospital matches (where donor and patient are from different hospitals)
-        long crossHospitalMatches = matchRepository.findMatchesForHospital(hospitalId).stream()
-                .filter(match -> !match.getPatient().getHospital().getId().equals(match.getDonor().getHospital().getId()))
-                .count();
-        stats.put("crossHospitalMatches", crossHospitalMatches);
-        
         // Notification statistics
         Optional<User> hospitalUser = userRepository.findByTenantId(hospitalId);
         if (hospitalUser.isPresent()) {
-            List<Notification> unreadNotifications = notificationService.getUnreadNotificationsForUser(hospitalUser.get().getId());
-            stats.put("unreadNotifications", unreadNotifications.size());
-            stats.put("recentNotifications", unreadNotifications.stream().limit(5).collect(java.util.stream.Collectors.toList()));
+            Long userId = hospitalUser.get().getId();
+            stats.put("unreadNotifications", notificationService.countUnreadNotificationsForUser(userId));
+            // Summaries: the cached map must not hold Notification entities or the recipient User
+            stats.put("recentNotifications", notificationService.getRecentUnreadNotificationsForUser(userId, 5).stream()
+                    .map(NotificationSummary::from)
+                    .toList());
         } else {
             stats.put("unreadNotifications", 0);
             stats.put("recentNotifications", java.util.Collections.emptyList());
@@ -247,8 +246,38 @@ public class HospitalService {
     /**
      * Get donors for hospital with pagination
      */
-    public Page<Donor> getDonors(String hospitalId, Pageable pageable) {
-        return donorRepository.findByHospitalHospitalId(hospitalId, pageable);
+    @Transactional(readOnly = true)
+    public Page<DonorSummary> getDonors(String hospitalId, Pageable pageable) {
+        return donorRepository.findSummariesByHospital(hospitalId, pageable);
+    }
+
+    /**
+     * Get donors for hospital as an offset page without the total count
+     */
+    @Transactional(readOnly = true)
+    public Slice<DonorSummary> getDonorSlice(String hospitalId, Pageable pageable) {
+        return donorRepository.findSummarySliceByHospital(hospitalId, pageable);
+    }
+
+    /**
+     * Get donors for hospital, newest first, continuing after the given cursor
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<DonorSummary> getDonorPage(String hospitalId, String cursor, int size) {
+        CursorPage.Cursor position = CursorPage.Cursor.decode(cursor);
+        List<DonorSummary> rows = donorRepository.findSummaryPageForHospital(hospitalId,
+                position != null ? position.getCreatedAt() : null,
+                position != null ? position.getId() : null,
+                PageRequest.of(0, size + 1));
+        return CursorPage.of(rows, size, donor -> new CursorPage.Cursor(donor.getCreatedAt(), donor.getId()));
+    }
+
+    /**
+     * Get donor detail view (donor, hospital and organ types in one query)
+     */
+    @Transactional(readOnly = true)
+    public Optional<DonorDetail> getDonorDetail(Long id, String hospitalId) {
+        return donorRepository.findDetailById(id, hospitalId).map(DonorDetail::from);
     }
 
     /**
@@ -315,8 +344,38 @@ public class HospitalService {
     /**
      * Get patients for hospital with pagination
      */
-    public Page<Patient> getPatients(String hospitalId, Pageable pageable) {
-        return patientRepository.findByHospitalHospitalId(hospitalId, pageable);
+    @Transactional(readOnly = true)
+    public Page<PatientSummary> getPatients(String hospitalId, Pageable pageable) {
+        return patientRepository.findSummariesByHospital(hospitalId, pageable);
+    }
+
+    /**
+     * Get patients for hospital as an offset page without the total count
+     */
+    @Transactional(readOnly = true)
+    public Slice<PatientSummary> getPatientSlice(String hospitalId, Pageable pageable) {
+        return patientRepository.findSummarySliceByHospital(hospitalId, pageable);
+    }
+
+    /**
+     * Get patients for hospital, newest first, continuing after the given cursor
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<PatientSummary> getPatientPage(String hospitalId, String cursor, int size) {
+        CursorPage.Cursor position = CursorPage.Cursor.decode(cursor);
+        List<PatientSummary> rows = patientRepository.findSummaryPageForHospital(hospitalId,
+                position != null ? position.getCreatedAt() : null,
+                position != null ? position.getId() : null,
+                PageRequest.of(0, size + 1));
+        return CursorPage.of(rows, size, patient -> new CursorPage.Cursor(patient.getCreatedAt(), patient.getId()));
+    }
+
+    /**
+     * Get patient detail view (patient and hospital in one query)
+     */
+    @Transactional(readOnly = true)
+    public Optional<PatientDetail> getPatientDetail(Long id, String hospitalId) {
+        return patientRepository.findDetailById(id, hospitalId).map(PatientDetail::from);
     }
 
     /**
@@ -386,14 +445,12 @@ public class HospitalService {
     }
 
     // Helper methods
-    private String generateDonorId(String hospitalId) {
-        long count = donorRepository.count() + 1;
-        return hospitalId + "-DON-" + String.format("%04d", count);
+    public String generateDonorId(String hospitalId) {
+        return businessIdAllocator.nextDonorId(hospitalId);
     }
 
-    private String generatePatientId(String hospitalId) {
-        long count = patientRepository.count() + 1;
-        return hospitalId + "-PAT-" + String.format("%04d", count);
+    public String generatePatientId(String hospitalId) {
+        return businessIdAllocator.nextPatientId(hospitalId);
     }
 
     public Double calculatePriorityScorePublic(Patient patient) {
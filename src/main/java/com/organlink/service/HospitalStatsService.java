@@ -0,0 +1,353 @@
+package com.organlink.service;
+
+import com.organlink.config.CacheConfig;
+import com.organlink.dto.DashboardEvent;
+import com.organlink.entity.Hospital;
+import com.organlink.entity.HospitalStats;
+import com.organlink.repository.DonorRepository;
+import com.organlink.repository.HospitalRepository;
+import com.organlink.repository.HospitalStatsRepository;
+import com.organlink.repository.MatchRepository;
+import com.organlink.repository.PatientRepository;
+import com.organlink.repository.SignatureRecordRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Maintains the hospital_stats read model
+ * Entity changes are turned into counter deltas by HospitalStatsListener, buffered per transaction
+ * and applied as atomic increments once the transaction commits. A nightly reconciliation
+ * recomputes every row from the source tables to correct any drift.
+ */
+@Service
+public class HospitalStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(HospitalStatsService.class);
+
+    /**
+     * Counter positions inside a delta vector
+     */
+    public enum Counter {
+        TOTAL_DONORS, ACTIVE_DONORS, VERIFIED_DONORS,
+        TOTAL_PATIENTS, WAITING_PATIENTS, VERIFIED_PATIENTS,
+        ACTIVE_MATCHES, COMPLETED_MATCHES, CROSS_HOSPITAL_MATCHES,
+        IPFS_RECORDS
+    }
+
+    public static final int COUNTERS = Counter.values().length;
+
+    // Field names used by the hospital dashboard for each counter
+    private static final Map<Counter, String> DASHBOARD_FIELDS = Map.of(
+            Counter.TOTAL_DONORS, "totalDonors",
+            Counter.ACTIVE_DONORS, "activeDonors",
+            Counter.VERIFIED_DONORS, "verifiedDonors",
+            Counter.TOTAL_PATIENTS, "totalPatients",
+            Counter.WAITING_PATIENTS, "waitingPatients",
+            Counter.VERIFIED_PATIENTS, "verifiedPatients",
+            Counter.ACTIVE_MATCHES, "activeMatches",
+            Counter.COMPLETED_MATCHES, "successfulTransplants",
+            Counter.CROSS_HOSPITAL_MATCHES, "crossHospitalMatches",
+            Counter.IPFS_RECORDS, "ipfsRecords");
+
+    @Autowired
+    private HospitalStatsRepository hospitalStatsRepository;
+
+    @Autowired
+    private HospitalRepository hospitalRepository;
+
+    @Autowired
+    private DonorRepository donorRepository;
+
+    @Autowired
+    private PatientRepository patientRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private SignatureRecordRepository signatureRecordRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private DashboardEventService dashboardEventService;
+
+    private TransactionTemplate requiresNew;
+
+    @PostConstruct
+    void init() {
+        requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Get the counters for a hospital, seeding the row from the source tables on first access
+     */
+    public HospitalStats getStats(Long hospitalId) {
+        return hospitalStatsRepository.findById(hospitalId)
+                .orElseGet(() -> requiresNew.execute(status -> reconcile(hospitalId)));
+    }
+
+    /**
+     * Queue a counter delta for a hospital; applied after the current transaction commits
+     */
+    public void recordDelta(Long hospitalId, long[] delta) {
+        if (hospitalId == null || isZero(delta)) {
+            return;
+        }
+        PendingChanges pending = currentPendingChanges();
+        add(pending.hospitalDeltas.computeIfAbsent(hospitalId, id -> new long[COUNTERS]), delta);
+        if (pending.immediate) {
+            apply(pending);
+        }
+    }
+
+    /**
+     * Queue a match counter change; the match is attributed to its patient and donor hospitals on apply
+     */
+    public void recordMatchDelta(Long matchId, long totalDelta, long completedDelta) {
+        if (matchId == null || (totalDelta == 0 && completedDelta == 0)) {
+            return;
+        }
+        PendingChanges pending = currentPendingChanges();
+        long[] change = pending.matchDeltas.computeIfAbsent(matchId, id -> new long[2]);
+        change[0] += totalDelta;
+        change[1] += completedDelta;
+        if (pending.immediate) {
+            apply(pending);
+        }
+    }
+
+    /**
+     * Nightly drift correction: recompute every hospital's counters from the source tables
+     */
+    @Scheduled(cron = "${organlink.hospital-stats.reconcile-cron:0 0 3 * * *}")
+    public void reconcileAll() {
+        List<Long> hospitalIds = hospitalRepository.findAll().stream().map(h -> h.getId()).toList();
+        int corrected = 0;
+        for (Long hospitalId : hospitalIds) {
+            try {
+                Boolean drifted = requiresNew.execute(status -> {
+                    HospitalStats before = hospitalStatsRepository.findById(hospitalId).orElse(null);
+                    long[] previous = before != null ? toVector(before) : null;
+                    HospitalStats after = reconcile(hospitalId);
+                    return previous != null && !Arrays.equals(previous, toVector(after));
+                });
+                if (Boolean.TRUE.equals(drifted)) {
+                    corrected++;
+                }
+            } catch (Exception e) {
+                logger.error("❌ Failed to reconcile stats for hospital {}: {}", hospitalId, e.getMessage());
+            }
+        }
+        logger.info("📊 Hospital stats reconciled for {} hospitals ({} corrected)", hospitalIds.size(), corrected);
+    }
+
+    /**
+     * Recompute one hospital's counters from the source tables (caller provides the transaction)
+     */
+    private HospitalStats reconcile(Long hospitalId) {
+        DonorRepository.HospitalDonorCounts donorCounts = donorRepository.countDashboardStatsByHospitalId(hospitalId);
+        PatientRepository.HospitalPatientCounts patientCounts = patientRepository.countDashboardStatsByHospitalId(hospitalId);
+        MatchRepository.HospitalMatchCounts matchCounts = matchRepository.countDashboardStatsByHospitalId(hospitalId);
+
+        HospitalStats stats = hospitalStatsRepository.findById(hospitalId).orElseGet(() -> new HospitalStats(hospitalId));
+        stats.setTotalDonors(donorCounts.getTotal());
+        stats.setActiveDonors(donorCounts.getActive());
+        stats.setVerifiedDonors(donorCounts.getVerified());
+        stats.setTotalPatients(patientCounts.getTotal());
+        stats.setWaitingPatients(patientCounts.getWaiting());
+        stats.setVerifiedPatients(patientCounts.getVerified());
+        stats.setActiveMatches(matchCounts.getTotal());
+        stats.setCompletedMatches(matchCounts.getCompleted());
+        stats.setCrossHospitalMatches(matchCounts.getCrossHospital());
+        stats.setIpfsRecords(signatureRecordRepository.countByUploadedBy(hospitalRepository.getReferenceById(hospitalId)));
+        LocalDateTime now = LocalDateTime.now();
+        stats.setUpdatedAt(now);
+        stats.setReconciledAt(now);
+        return hospitalStatsRepository.save(stats);
+    }
+
+    private PendingChanges currentPendingChanges() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            PendingChanges pending = new PendingChanges();
+            pending.immediate = true;
+            return pending;
+        }
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(PendingChanges.class);
+        if (pending != null && pending.applied) {
+            // Left bound by a transaction that already committed (we are in its after-commit phase)
+            TransactionSynchronizationManager.unbindResource(PendingChanges.class);
+            pending = null;
+        }
+        if (pending == null) {
+            PendingChanges created = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(PendingChanges.class, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(created);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PendingChanges.class);
+                }
+            });
+            pending = created;
+        }
+        return pending;
+    }
+
+    private void apply(PendingChanges pending) {
+        pending.applied = true;
+        try {
+            requiresNew.executeWithoutResult(status -> {
+                Map<Long, long[]> deltas = pending.hospitalDeltas;
+                if (!pending.matchDeltas.isEmpty()) {
+                    attributeMatchDeltas(pending.matchDeltas, deltas);
+                }
+                List<Long> changedHospitalIds = new ArrayList<>();
+                deltas.forEach((hospitalId, delta) -> {
+                    if (isZero(delta)) {
+                        return;
+                    }
+                    changedHospitalIds.add(hospitalId);
+                    int updated = hospitalStatsRepository.applyDelta(hospitalId,
+                            delta[0], delta[1], delta[2], delta[3], delta[4],
+                            delta[5], delta[6], delta[7], delta[8], delta[9]);
+                    if (updated == 0) {
+                        // No row yet: the committed source tables already include this change
+                        reconcile(hospitalId);
+                    }
+                });
+                evictDashboards(changedHospitalIds);
+                publishDashboardEvents(deltas);
+            });
+        } catch (Exception e) {
+            // Counters stay slightly off until the nightly reconciliation
+            logger.warn("⚠️ Failed to apply hospital stats deltas: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Drop cached dashboards that include the changed counters (deferred until the apply transaction commits)
+     */
+    private void evictDashboards(List<Long> hospitalIds) {
+        if (hospitalIds.isEmpty()) {
+            return;
+        }
+        Cache hospitalDashboards = cacheManager.getCache(CacheConfig.HOSPITAL_DASHBOARD);
+        if (hospitalDashboards != null) {
+            for (Hospital hospital : hospitalRepository.findAllById(hospitalIds)) {
+                hospitalDashboards.evict(hospital.getHospitalId());
+            }
+        }
+        Cache adminStats = cacheManager.getCache(CacheConfig.ADMIN_STATS);
+        if (adminStats != null) {
+            adminStats.clear();
+        }
+    }
+
+    /**
+     * Push the applied counter deltas to live dashboards (sent once the apply transaction commits)
+     */
+    private void publishDashboardEvents(Map<Long, long[]> deltas) {
+        if (dashboardEventService.getSubscriberCount() == 0) {
+            return;
+        }
+        DashboardEvent adminEvent = new DashboardEvent("registry");
+        for (Hospital hospital : hospitalRepository.findAllById(deltas.keySet())) {
+            long[] delta = deltas.get(hospital.getId());
+            if (delta == null || isZero(delta)) {
+                continue;
+            }
+            DashboardEvent event = new DashboardEvent("registry");
+            for (Counter counter : Counter.values()) {
+                event.delta(DASHBOARD_FIELDS.get(counter), delta[counter.ordinal()]);
+            }
+            dashboardEventService.publish(DashboardEventService.hospitalChannel(hospital.getHospitalId()), event);
+
+            adminEvent.delta("totalDonors", delta[Counter.TOTAL_DONORS.ordinal()])
+                    .delta("activeDonors", delta[Counter.ACTIVE_DONORS.ordinal()])
+                    .delta("totalPatients", delta[Counter.TOTAL_PATIENTS.ordinal()])
+                    .delta("waitingPatients", delta[Counter.WAITING_PATIENTS.ordinal()]);
+        }
+        dashboardEventService.publish(DashboardEventService.ADMIN_CHANNEL, adminEvent);
+    }
+
+    private void attributeMatchDeltas(Map<Long, long[]> matchDeltas, Map<Long, long[]> deltas) {
+        for (Object[] row : matchRepository.findHospitalIdsByMatchIds(matchDeltas.keySet())) {
+            long[] change = matchDeltas.get((Long) row[0]);
+            Long patientHospitalId = (Long) row[1];
+            Long donorHospitalId = (Long) row[2];
+            boolean crossHospital = !Objects.equals(patientHospitalId, donorHospitalId);
+
+            for (Long hospitalId : crossHospital ? List.of(patientHospitalId, donorHospitalId) : List.of(patientHospitalId)) {
+                long[] delta = deltas.computeIfAbsent(hospitalId, id -> new long[COUNTERS]);
+                delta[Counter.ACTIVE_MATCHES.ordinal()] += change[0];
+                delta[Counter.COMPLETED_MATCHES.ordinal()] += change[1];
+                if (crossHospital) {
+                    delta[Counter.CROSS_HOSPITAL_MATCHES.ordinal()] += change[0];
+                }
+            }
+        }
+    }
+
+    private static long[] toVector(HospitalStats stats) {
+        return new long[] {
+                stats.getTotalDonors(), stats.getActiveDonors(), stats.getVerifiedDonors(),
+                stats.getTotalPatients(), stats.getWaitingPatients(), stats.getVerifiedPatients(),
+                stats.getActiveMatches(), stats.getCompletedMatches(), stats.getCrossHospitalMatches(),
+                stats.getIpfsRecords()
+        };
+    }
+
+    private static void add(long[] target, long[] delta) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] += delta[i];
+        }
+    }
+
+    private static boolean isZero(long[] delta) {
+        for (long value : delta) {
+            if (value != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Deltas collected during one transaction
+     */
+    private static class PendingChanges {
+        private final Map<Long, long[]> hospitalDeltas = new HashMap<>();
+        private final Map<Long, long[]> matchDeltas = new HashMap<>();
+        private boolean immediate;
+        private boolean applied;
+    }
+}
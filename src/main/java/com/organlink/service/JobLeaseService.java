@@ -0,0 +1,88 @@
+package com.organlink.service;
+
+import com.organlink.entity.JobWatermark;
+import com.organlink.repository.JobWatermarkRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Cross-node lease for scheduled jobs
+ * A job's job_watermarks row carries the lease (locked_by, locked_until). A node takes it by locking the
+ * row in its own short transaction, so every node may fire the same cron but only one runs the job;
+ * a lease left behind by a node that died mid-run expires after lease-minutes.
+ */
+@Service
+public class JobLeaseService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobLeaseService.class);
+
+    @Autowired
+    private JobWatermarkRepository jobWatermarkRepository;
+
+    private final TransactionTemplate requiresNew;
+
+    private final long leaseMinutes;
+
+    private final String nodeId = ManagementFactory.getRuntimeMXBean().getName() + "/" + UUID.randomUUID().toString().substring(0, 8);
+
+    public JobLeaseService(PlatformTransactionManager transactionManager,
+                           @Value("${organlink.jobs.lease-minutes:360}") long leaseMinutes) {
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.leaseMinutes = leaseMinutes;
+    }
+
+    /**
+     * Take the job's lease; returns its watermark row (read from the primary under the lock),
+     * or empty if another node holds the lease. A missing row is created at the initial watermark.
+     */
+    public Optional<JobWatermark> tryAcquire(String jobName, Supplier<LocalDateTime> initialWatermark) {
+        for (int attempt = 0; attempt < 3; attempt++) {
+            try {
+                return requiresNew.execute(status -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    JobWatermark job = jobWatermarkRepository.findForUpdate(jobName).orElse(null);
+                    if (job == null) {
+                        job = new JobWatermark(jobName, initialWatermark.get());
+                    } else if (job.getLockedUntil() != null && job.getLockedUntil().isAfter(now)
+                            && !nodeId.equals(job.getLockedBy())) {
+                        logger.info("Job {} is held by {} until {}, skipping", jobName, job.getLockedBy(), job.getLockedUntil());
+                        return Optional.empty();
+                    }
+                    job.setLockedBy(nodeId);
+                    job.setLockedUntil(now.plusMinutes(leaseMinutes));
+                    return Optional.of(jobWatermarkRepository.saveAndFlush(job));
+                });
+            } catch (DataIntegrityViolationException e) {
+                // Another node created the row concurrently; lock it instead
+                logger.debug("Job row {} created concurrently, retrying", jobName);
+            }
+        }
+        throw new RuntimeException("Unable to acquire the lease for job " + jobName);
+    }
+
+    /**
+     * Give the lease back; a no-op if it has expired and been taken over by another node
+     */
+    public void release(String jobName) {
+        requiresNew.executeWithoutResult(status -> jobWatermarkRepository.findForUpdate(jobName)
+                .filter(job -> nodeId.equals(job.getLockedBy()))
+                .ifPresent(job -> {
+                    job.setLockedBy(null);
+                    job.setLockedUntil(null);
+                }));
+    }
+}
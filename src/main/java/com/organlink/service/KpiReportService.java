@@ -0,0 +1,413 @@
+package com.organlink.service;
+
+import com.organlink.dto.KpiReportRunStatus;
+import com.organlink.entity.JobWatermark;
+import com.organlink.entity.KpiReport;
+import com.organlink.entity.MatchStatus;
+import com.organlink.repository.DonorRepository;
+import com.organlink.repository.HospitalRepository;
+import com.organlink.repository.JobWatermarkRepository;
+import com.organlink.repository.KpiReportRepository;
+import com.organlink.repository.MatchRepository;
+import com.organlink.repository.PatientRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * KPI report engine
+ * A run loads the reporting period once (grouped registration counts plus one match scan),
+ * partitions it by hospital and computes every hospital's report in parallel on a dedicated
+ * fork-join pool. Reports are stored as kpi_reports artifacts and fetchable by report ID.
+ * The month-end run is generated once per month across all nodes.
+ */
+@Service
+public class KpiReportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(KpiReportService.class);
+
+    private static final Set<MatchStatus> DECIDED = EnumSet.of(
+            MatchStatus.ACCEPTED, MatchStatus.COMPLETED, MatchStatus.REJECTED, MatchStatus.EXPIRED);
+
+    private static final Set<MatchStatus> ACCEPTED = EnumSet.of(MatchStatus.ACCEPTED, MatchStatus.COMPLETED);
+
+    private static final int RETAINED_RUNS = 20;
+
+    private static final String MONTHLY_JOB = "kpi-monthly-reports";
+
+    @Autowired
+    private HospitalRepository hospitalRepository;
+
+    @Autowired
+    private DonorRepository donorRepository;
+
+    @Autowired
+    private PatientRepository patientRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private KpiReportRepository kpiReportRepository;
+
+    @Autowired
+    private JobWatermarkRepository jobWatermarkRepository;
+
+    @Autowired
+    private JobLeaseService jobLeaseService;
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ForkJoinPool pool;
+
+    private final int maxRangeDays;
+
+    private final Map<String, ReportRun> runs = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public KpiReportService(PlatformTransactionManager transactionManager,
+                            @Value("${organlink.kpi-reports.parallelism:4}") int parallelism,
+                            @Value("${organlink.kpi-reports.max-range-days:366}") int maxRangeDays) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxRangeDays = maxRangeDays;
+        this.pool = new ForkJoinPool(parallelism, pool -> {
+            var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("kpi-report-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * Queue a report run for all hospitals over [from, to] (inclusive dates)
+     */
+    public KpiReportRunStatus submit(LocalDate from, LocalDate to) {
+        return submit(from, to, null);
+    }
+
+    private KpiReportRunStatus submit(LocalDate from, LocalDate to, JobWatermark monthlyJob) {
+        if (from == null || to == null || to.isBefore(from)) {
+            throw new RuntimeException("Report period end must not be before its start");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxRangeDays) {
+            throw new RuntimeException("Report period is limited to " + maxRangeDays + " days");
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new RuntimeException("A KPI report run is already in progress");
+        }
+
+        ReportRun run = new ReportRun(UUID.randomUUID().toString(), from, to);
+        run.monthlyJob = monthlyJob;
+        runs.put(run.batchId, run);
+        evictOldRuns();
+        pool.execute(() -> execute(run));
+
+        logger.info("📈 KPI report run {} queued for {} - {}", run.batchId, from, to);
+        return run.toStatus();
+    }
+
+    /**
+     * Month-end run for the previous calendar month
+     * Every node fires the cron; the one holding the job's lease runs it, and the watermark (first day of
+     * the last month reported) keeps a node that fires late from generating the month again.
+     */
+    @Scheduled(cron = "${organlink.kpi-reports.cron:0 30 2 1 * *}")
+    public void generateMonthlyReports() {
+        YearMonth month = YearMonth.now().minusMonths(1);
+        LocalDateTime monthStart = month.atDay(1).atStartOfDay();
+        Optional<JobWatermark> job = jobLeaseService.tryAcquire(MONTHLY_JOB, () -> monthStart.minusMonths(1));
+        if (job.isEmpty()) {
+            return;
+        }
+        if (!job.get().getWatermark().isBefore(monthStart)) {
+            jobLeaseService.release(MONTHLY_JOB);
+            logger.info("Monthly KPI reports for {} already generated, skipping", month);
+            return;
+        }
+        try {
+            // The lease is released when the run finishes
+            submit(month.atDay(1), month.atEndOfMonth(), job.get());
+        } catch (Exception e) {
+            jobLeaseService.release(MONTHLY_JOB);
+            logger.warn("⚠️ Monthly KPI report run for {} not started: {}", month, e.getMessage());
+        }
+    }
+
+    public Optional<KpiReportRunStatus> getRun(String batchId) {
+        return Optional.ofNullable(runs.get(batchId)).map(ReportRun::toStatus);
+    }
+
+    /**
+     * Retained runs, newest first
+     */
+    public List<KpiReportRunStatus> getRuns() {
+        return runs.values().stream()
+                .sorted(Comparator.comparing((ReportRun run) -> run.submittedAt).reversed())
+                .map(ReportRun::toStatus)
+                .toList();
+    }
+
+    public Optional<KpiReport> getReport(String reportId) {
+        return kpiReportRepository.findByReportId(reportId);
+    }
+
+    public List<KpiReport> getReportsForBatch(String batchId) {
+        return kpiReportRepository.findByBatchIdOrderByHospitalIdAsc(batchId);
+    }
+
+    public List<KpiReport> getReportsForHospital(String hospitalId, int limit) {
+        return kpiReportRepository.findByHospitalIdOrderByGeneratedAtDesc(hospitalId, PageRequest.of(0, limit));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private void execute(ReportRun run) {
+        run.startedAt = LocalDateTime.now();
+        run.state = KpiReportRunStatus.State.RUNNING;
+        try {
+            PeriodData data = readOnlyTransaction.execute(status -> load(run.periodStart, run.periodEnd));
+            run.hospitals = data.hospitals.size();
+
+            // Runs on a pool worker, so the parallel stream forks into this pool rather than the common pool
+            LocalDateTime generatedAt = LocalDateTime.now();
+            List<KpiReport> reports = data.hospitals.parallelStream()
+                    .map(hospital -> buildReport(run, hospital, data, generatedAt))
+                    .toList();
+
+            transactionTemplate.executeWithoutResult(status -> kpiReportRepository.saveAll(reports));
+            run.reportsWritten = reports.size();
+            run.state = KpiReportRunStatus.State.COMPLETED;
+            logger.info("✅ KPI report run {} completed: {} hospital reports in {} ms", run.batchId, reports.size(),
+                    Duration.between(run.startedAt, LocalDateTime.now()).toMillis());
+        } catch (Exception e) {
+            run.error = e.getMessage();
+            run.state = KpiReportRunStatus.State.FAILED;
+            logger.error("❌ KPI report run {} failed: {}", run.batchId, e.getMessage(), e);
+        } finally {
+            run.completedAt = LocalDateTime.now();
+            running.set(false);
+            if (run.monthlyJob != null) {
+                finishMonthlyJob(run);
+            }
+        }
+    }
+
+    /**
+     * Record a completed month-end run on its watermark and give the lease back
+     */
+    private void finishMonthlyJob(ReportRun run) {
+        try {
+            JobWatermark job = run.monthlyJob;
+            if (run.state == KpiReportRunStatus.State.COMPLETED) {
+                job.setWatermark(run.periodStart.atStartOfDay());
+            }
+            job.setLastRunAt(run.completedAt);
+            job.setLastRunSummary(String.format("batch %s: %s, %d reports", run.batchId, run.state, run.reportsWritten));
+            transactionTemplate.executeWithoutResult(status -> jobWatermarkRepository.save(job));
+        } catch (Exception e) {
+            logger.warn("⚠️ Failed to record KPI report run {} on its job watermark: {}", run.batchId, e.getMessage());
+        } finally {
+            jobLeaseService.release(MONTHLY_JOB);
+        }
+    }
+
+    /**
+     * Single pass over the period: grouped registration counts and one match scan partitioned by hospital
+     */
+    private PeriodData load(LocalDate periodStart, LocalDate periodEnd) {
+        LocalDateTime from = periodStart.atStartOfDay();
+        LocalDateTime to = periodEnd.plusDays(1).atStartOfDay();
+        PeriodData data = new PeriodData();
+
+        for (Object[] row : hospitalRepository.findAllIdsAndNames()) {
+            data.hospitals.add(new HospitalRef((Long) row[0], (String) row[1], (String) row[2]));
+        }
+        for (Object[] row : donorRepository.countRegistrationsByHospital(from, to)) {
+            long[] counts = data.registrations.computeIfAbsent((Long) row[0], id -> new long[3]);
+            counts[0] += ((Number) row[1]).longValue();
+            counts[2] += ((Number) row[2]).longValue();
+        }
+        for (Object[] row : patientRepository.countRegistrationsByHospital(from, to)) {
+            long[] counts = data.registrations.computeIfAbsent((Long) row[0], id -> new long[3]);
+            counts[1] += ((Number) row[1]).longValue();
+            counts[2] += ((Number) row[2]).longValue();
+        }
+        for (Object[] row : matchRepository.findKpiRows(from, to)) {
+            MatchRow match = new MatchRow((Long) row[0], (Long) row[1], (MatchStatus) row[2],
+                    (LocalDateTime) row[3], (LocalDateTime) row[4]);
+            data.matches.computeIfAbsent(match.patientHospitalId, id -> new ArrayList<>()).add(match);
+            if (match.isCrossHospital()) {
+                data.matches.computeIfAbsent(match.donorHospitalId, id -> new ArrayList<>()).add(match);
+            }
+        }
+        return data;
+    }
+
+    private KpiReport buildReport(ReportRun run, HospitalRef hospital, PeriodData data, LocalDateTime generatedAt) {
+        KpiReport report = new KpiReport();
+        report.setReportId("KPI-" + run.batchId.substring(0, 8).toUpperCase() + "-" + hospital.hospitalId);
+        report.setBatchId(run.batchId);
+        report.setHospitalId(hospital.hospitalId);
+        report.setHospitalName(hospital.name);
+        report.setPeriodStart(run.periodStart);
+        report.setPeriodEnd(run.periodEnd);
+        report.setGeneratedAt(generatedAt);
+
+        long[] registrations = data.registrations.getOrDefault(hospital.id, new long[3]);
+        report.setDonorRegistrations(registrations[0]);
+        report.setPatientRegistrations(registrations[1]);
+        report.setVerifiedRegistrations(registrations[2]);
+        report.setVerificationRate(percentage(registrations[2], registrations[0] + registrations[1]));
+
+        List<MatchRow> matches = data.matches.getOrDefault(hospital.id, List.of());
+        long decided = 0;
+        long accepted = 0;
+        long crossHospital = 0;
+        double[] hoursToMatch = new double[matches.size()];
+        int timed = 0;
+        for (MatchRow match : matches) {
+            if (DECIDED.contains(match.status)) {
+                decided++;
+            }
+            if (ACCEPTED.contains(match.status)) {
+                accepted++;
+            }
+            if (match.isCrossHospital()) {
+                crossHospital++;
+            }
+            // Time-to-match belongs to the hospital that registered the patient
+            if (Objects.equals(match.patientHospitalId, hospital.id) && match.patientCreatedAt != null) {
+                hoursToMatch[timed++] = Duration.between(match.patientCreatedAt, match.matchCreatedAt).toMinutes() / 60.0;
+            }
+        }
+        report.setTotalMatches(matches.size());
+        report.setDecidedMatches(decided);
+        report.setAcceptedMatches(accepted);
+        report.setMatchAcceptanceRate(percentage(accepted, decided));
+        report.setCrossHospitalMatches(crossHospital);
+        report.setCrossHospitalShare(percentage(crossHospital, matches.size()));
+        report.setMedianTimeToMatchHours(median(hoursToMatch, timed));
+        return report;
+    }
+
+    private void evictOldRuns() {
+        if (runs.size() <= RETAINED_RUNS) {
+            return;
+        }
+        runs.values().stream()
+                .filter(run -> run.completedAt != null)
+                .sorted(Comparator.comparing((ReportRun run) -> run.submittedAt))
+                .limit(runs.size() - RETAINED_RUNS)
+                .forEach(run -> runs.remove(run.batchId));
+    }
+
+    private static Double percentage(long part, long whole) {
+        return whole > 0 ? round((double) part / whole * 100) : null;
+    }
+
+    private static Double median(double[] values, int count) {
+        if (count == 0) {
+            return null;
+        }
+        Arrays.sort(values, 0, count);
+        double median = count % 2 == 1 ? values[count / 2] : (values[count / 2 - 1] + values[count / 2]) / 2;
+        return round(median);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private record HospitalRef(Long id, String hospitalId, String name) {}
+
+    private record MatchRow(Long patientHospitalId, Long donorHospitalId, MatchStatus status,
+                            LocalDateTime matchCreatedAt, LocalDateTime patientCreatedAt) {
+        private boolean isCrossHospital() {
+            return !Objects.equals(patientHospitalId, donorHospitalId);
+        }
+    }
+
+    /**
+     * Period data loaded once per run and shared read-only by the report workers
+     */
+    private static class PeriodData {
+        private final List<HospitalRef> hospitals = new ArrayList<>();
+        // hospital DB id -> [donor registrations, patient registrations, verified registrations]
+        private final Map<Long, long[]> registrations = new HashMap<>();
+        private final Map<Long, List<MatchRow>> matches = new HashMap<>();
+    }
+
+    /**
+     * Mutable run state shared between the pool and pollers
+     */
+    private static class ReportRun {
+        private final String batchId;
+        private final LocalDate periodStart;
+        private final LocalDate periodEnd;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private volatile KpiReportRunStatus.State state = KpiReportRunStatus.State.QUEUED;
+        private volatile int hospitals;
+        private volatile int reportsWritten;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime completedAt;
+        private volatile String error;
+        // Month-end runs only: the leased job row, released when the run ends
+        private volatile JobWatermark monthlyJob;
+
+        private ReportRun(String batchId, LocalDate periodStart, LocalDate periodEnd) {
+            this.batchId = batchId;
+            this.periodStart = periodStart;
+            this.periodEnd = periodEnd;
+        }
+
+        private KpiReportRunStatus toStatus() {
+            KpiReportRunStatus status = new KpiReportRunStatus();
+            status.setBatchId(batchId);
+            status.setState(state);
+            status.setPeriodStart(periodStart);
+            status.setPeriodEnd(periodEnd);
+            status.setHospitals(hospitals);
+            status.setReportsWritten(reportsWritten);
+            status.setSubmittedAt(submittedAt);
+            status.setStartedAt(startedAt);
+            status.setCompletedAt(completedAt);
+            status.setError(error);
+            return status;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.organlink.entity.Hospital;
 import com.organlink.repository.HospitalRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -16,6 +17,7 @@ import java.util.Map;
  * Provides location hierarchy for frontend forms
  */
 @Service
+@Transactional(readOnly = true)
 public class LocationService {
 
     @Autowired
@@ -0,0 +1,256 @@
+package com.organlink.service;
+
+import com.organlink.dto.MatchSummary;
+import com.organlink.dto.MatchingJobStatus;
+import com.organlink.entity.Patient;
+import com.organlink.entity.PatientStatus;
+import com.organlink.repository.PatientRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Matching job service for asynchronous hospital-wide matching runs
+ * Jobs run on a dedicated pool with a per-hospital concurrency limit; progress is
+ * pollable by job ID and finished jobs are kept for a configurable TTL.
+ */
+@Service
+public class MatchingJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MatchingJobService.class);
+
+    @Autowired
+    private AIMatchingService aiMatchingService;
+
+    @Autowired
+    private PatientRepository patientRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ExecutorService executor;
+
+    private final int maxConcurrentPerHospital;
+
+    private final Duration resultTtl;
+
+    private final Map<String, MatchingJob> jobs = new ConcurrentHashMap<>();
+
+    private final Map<String, AtomicInteger> activeJobsByHospital = new ConcurrentHashMap<>();
+
+    public MatchingJobService(PlatformTransactionManager transactionManager,
+                              @Value("${organlink.matching-jobs.pool-size:4}") int poolSize,
+                              @Value("${organlink.matching-jobs.queue-capacity:100}") int queueCapacity,
+                              @Value("${organlink.matching-jobs.max-concurrent-per-hospital:1}") int maxConcurrentPerHospital,
+                              @Value("${organlink.matching-jobs.result-ttl:3600}") long resultTtlSeconds) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxConcurrentPerHospital = maxConcurrentPerHospital;
+        this.resultTtl = Duration.ofSeconds(resultTtlSeconds);
+
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "matching-job-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Submit a matching run for all waiting patients of a hospital
+     */
+    public MatchingJobStatus submitHospitalMatching(String hospitalId) {
+        AtomicInteger active = activeJobsByHospital.computeIfAbsent(hospitalId, id -> new AtomicInteger());
+        if (active.incrementAndGet() > maxConcurrentPerHospital) {
+            active.decrementAndGet();
+            throw new MatchingJobRejectedException("Hospital " + hospitalId + " already has " + maxConcurrentPerHospital
+                    + " matching job(s) in progress", true);
+        }
+
+        MatchingJob job = new MatchingJob(UUID.randomUUID().toString(), hospitalId);
+        jobs.put(job.jobId, job);
+        try {
+            executor.execute(() -> runJob(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.jobId);
+            active.decrementAndGet();
+            throw new MatchingJobRejectedException("Matching job queue is full, please retry later", false);
+        }
+
+        logger.info("🧮 Matching job {} queued for hospital {}", job.jobId, hospitalId);
+        return job.toStatus();
+    }
+
+    /**
+     * Get job status, scoped to the owning hospital
+     */
+    public Optional<MatchingJobStatus> getJob(String jobId, String hospitalId) {
+        MatchingJob job = jobs.get(jobId);
+        if (job == null || !job.hospitalId.equals(hospitalId)) {
+            return Optional.empty();
+        }
+        return Optional.of(job.toStatus());
+    }
+
+    /**
+     * Get all retained jobs for a hospital, newest first
+     */
+    public List<MatchingJobStatus> getJobsForHospital(String hospitalId) {
+        return jobs.values().stream()
+                .filter(job -> job.hospitalId.equals(hospitalId))
+                .sorted(Comparator.comparing((MatchingJob job) -> job.submittedAt).reversed())
+                .map(MatchingJob::toStatus)
+                .toList();
+    }
+
+    /**
+     * Drop finished jobs whose results have outlived the TTL
+     */
+    @Scheduled(fixedDelayString = "${organlink.matching-jobs.cleanup-interval:60000}")
+    public void evictExpiredJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(resultTtl);
+        jobs.values().removeIf(job -> job.completedAt != null && job.completedAt.isBefore(cutoff));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void runJob(MatchingJob job) {
+        job.startedAt = LocalDateTime.now();
+        job.state = MatchingJobStatus.State.RUNNING;
+        try {
+            List<Long> patientIds = patientRepository
+                    .findByHospitalHospitalIdAndStatus(job.hospitalId, PatientStatus.WAITING).stream()
+                    .map(Patient::getId)
+                    .toList();
+            job.totalPatients = patientIds.size();
+
+            for (Long patientId : patientIds) {
+                try {
+                    // Each patient gets its own transaction so lazy associations resolve off the request thread
+                    List<Long> matchIds = transactionTemplate.execute(status -> {
+                        try {
+                            return aiMatchingService.findBestMatchesForPatient(patientId).stream()
+                                    .map(MatchSummary::getId)
+                                    .toList();
+                        } catch (Exception e) {
+                            throw new RuntimeException(e.getMessage(), e);
+                        }
+                    });
+                    if (matchIds != null) {
+                        job.matchIds.addAll(matchIds);
+                        job.matchesFound.addAndGet(matchIds.size());
+                    }
+                } catch (Exception e) {
+                    job.failedPatients.incrementAndGet();
+                    logger.warn("Matching job {} failed for patient {}: {}", job.jobId, patientId, e.getMessage());
+                }
+                job.patientsProcessed.incrementAndGet();
+            }
+
+            job.state = MatchingJobStatus.State.COMPLETED;
+            logger.info("✅ Matching job {} completed: {} patients, {} matches",
+                    job.jobId, job.totalPatients, job.matchesFound.get());
+        } catch (Exception e) {
+            job.error = e.getMessage();
+            job.state = MatchingJobStatus.State.FAILED;
+            logger.error("❌ Matching job {} failed: {}", job.jobId, e.getMessage(), e);
+        } finally {
+            job.completedAt = LocalDateTime.now();
+            activeJobsByHospital.get(job.hospitalId).decrementAndGet();
+        }
+    }
+
+    /**
+     * Back-pressure rejection: the hospital already has jobs running, or the shared queue is full
+     */
+    public static class MatchingJobRejectedException extends RuntimeException {
+
+        private final boolean alreadyRunning;
+
+        public MatchingJobRejectedException(String message, boolean alreadyRunning) {
+            super(message);
+            this.alreadyRunning = alreadyRunning;
+        }
+
+        public boolean isAlreadyRunning() {
+            return alreadyRunning;
+        }
+    }
+
+    /**
+     * Mutable job state shared between the worker thread and pollers
+     */
+    private static class MatchingJob {
+        private final String jobId;
+        private final String hospitalId;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private final AtomicInteger patientsProcessed = new AtomicInteger();
+        private final AtomicInteger matchesFound = new AtomicInteger();
+        private final AtomicInteger failedPatients = new AtomicInteger();
+        private final List<Long> matchIds = Collections.synchronizedList(new ArrayList<>());
+        private volatile MatchingJobStatus.State state = MatchingJobStatus.State.QUEUED;
+        private volatile int totalPatients;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime completedAt;
+        private volatile String error;
+
+        private MatchingJob(String jobId, String hospitalId) {
+            this.jobId = jobId;
+            this.hospitalId = hospitalId;
+        }
+
+        private MatchingJobStatus toStatus() {
+            MatchingJobStatus status = new MatchingJobStatus();
+            status.setJobId(jobId);
+            status.setHospitalId(hospitalId);
+            status.setState(state);
+            status.setTotalPatients(totalPatients);
+            status.setPatientsProcessed(patientsProcessed.get());
+            status.setMatchesFound(matchesFound.get());
+            status.setFailedPatients(failedPatients.get());
+            status.setSubmittedAt(submittedAt);
+            status.setStartedAt(startedAt);
+            status.setCompletedAt(completedAt);
+            status.setError(error);
+
+            int processed = patientsProcessed.get();
+            if (state == MatchingJobStatus.State.RUNNING && startedAt != null && processed > 0) {
+                long elapsedMillis = Duration.between(startedAt, LocalDateTime.now()).toMillis();
+                long remaining = Math.max(0, totalPatients - processed);
+                status.setEstimatedSecondsRemaining(elapsedMillis * remaining / processed / 1000);
+            }
+            if (state == MatchingJobStatus.State.COMPLETED) {
+                synchronized (matchIds) {
+                    status.setMatchIds(new ArrayList<>(matchIds));
+                }
+            }
+            return status;
+        }
+    }
+}
@@ -7,7 +7,10 @@ import java.util.List;
 
 public interface NotificationService {
     void createNotification(User user, String message, String link);
+    void createNotifications(List<Notification> notifications);
     List<Notification> getNotificationsForUser(Long userId);
     List<Notification> getUnreadNotificationsForUser(Long userId);
+    List<Notification> getRecentUnreadNotificationsForUser(Long userId, int limit);
+    long countUnreadNotificationsForUser(Long userId);
     void markAsRead(Long notificationId);
 }
@@ -1,10 +1,21 @@
 package com.organlink.service;
 
+import com.organlink.config.CacheConfig;
+import com.organlink.dto.CursorPage;
+import com.organlink.dto.DashboardEvent;
+import com.organlink.dto.PolicyDetail;
+import com.organlink.dto.PolicySummary;
+import com.organlink.dto.VoteSummary;
 import com.organlink.entity.*;
 import com.organlink.repository.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,10 +44,29 @@ public class OrganizationService {
     @Autowired
     private BlockchainService blockchainService;
 
+    @Autowired
+    private DashboardEventService dashboardEventService;
+
+    @Autowired
+    private BusinessIdAllocator businessIdAllocator;
+
     /**
      * Get organization dashboard statistics
      */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.ORGANIZATION_DASHBOARD, key = "#organizationId", sync = true)
     public Map<String, Object> getDashboardStats(String organizationId) {
+        return loadDashboardStats(organizationId);
+    }
+
+    /**
+     * Dashboard snapshot for a live stream: uncached and read on the primary, like the deltas that follow it
+     */
+    public Map<String, Object> getDashboardSnapshot(String organizationId) {
+        return loadDashboardStats(organizationId);
+    }
+
+    private Map<String, Object> loadDashboardStats(String organizationId) {
         Optional<Organization> orgOpt = organizationRepository.findByOrganizationId(organizationId);
         if (orgOpt.isEmpty()) {
             throw new RuntimeException("Organization not found: " + organizationId);
@@ -47,16 +77,14 @@ public class OrganizationService {
         
         // Policy statistics
         stats.put("activePolicies", policyRepository.countByStatus(PolicyStatus.IMPLEMENTED));
-        stats.put("myProposals", policyRepository.findByProposedByOrganizationId(organization.getId()).size());
-        stats.put("pendingVotes", getPendingVotesCount(organization.getId()));
-        stats.put("totalVotesCast", voteRepository.findByOrganizationId(organization.getId()).size());
-        
-        // Voting statistics
-        long totalVotesFor = voteRepository.findByOrganizationId(organization.getId()).stream()
-                .filter(vote -> vote.getVoteType() == VoteType.FOR)
-                .count();
-        long totalVotes = voteRepository.findByOrganizationId(organization.getId()).size();
-        double approvalRate = totalVotes > 0 ? (double) totalVotesFor / totalVotes * 100 : 0;
+        stats.put("myProposals", policyRepository.countByProposedByOrganizationId(organization.getId()));
+        stats.put("pendingVotes", policyRepository.countActiveVotingPoliciesNotVotedBy(organization.getId(), LocalDateTime.now()));
+
+        // Voting statistics (one aggregate over this organization's votes)
+        VoteRepository.OrganizationVoteCounts voteCounts = voteRepository.countVotesByOrganizationId(organization.getId());
+        long totalVotes = voteCounts.getTotal();
+        stats.put("totalVotesCast", totalVotes);
+        double approvalRate = totalVotes > 0 ? (double) voteCounts.getVotesFor() / totalVotes * 100 : 0;
         stats.put("approvalRate", Math.round(approvalRate));
         
         return stats;
@@ -65,8 +93,30 @@ public class OrganizationService {
     /**
      * Get policies with pagination
      */
-    public Page<Policy> getPolicies(Pageable pageable) {
-        return policyRepository.findAllOrderByCreatedAtDesc(pageable);
+    @Transactional(readOnly = true)
+    public Page<PolicySummary> getPolicies(Pageable pageable) {
+        return policyRepository.findSummaries(pageable);
+    }
+
+    /**
+     * Get policies as an offset page without the total count
+     */
+    @Transactional(readOnly = true)
+    public Slice<PolicySummary> getPolicySlice(Pageable pageable) {
+        return policyRepository.findSummarySlice(pageable);
+    }
+
+    /**
+     * Get policies, newest first, continuing after the given cursor
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<PolicySummary> getPolicyPage(String cursor, int size) {
+        CursorPage.Cursor position = CursorPage.Cursor.decode(cursor);
+        List<PolicySummary> rows = policyRepository.findSummaryPage(
+                position != null ? position.getCreatedAt() : null,
+                position != null ? position.getId() : null,
+                PageRequest.of(0, size + 1));
+        return CursorPage.of(rows, size, policy -> new CursorPage.Cursor(policy.getCreatedAt(), policy.getId()));
     }
 
     /**
@@ -76,6 +126,14 @@ public class OrganizationService {
         return policyRepository.findById(id);
     }
 
+    /**
+     * Get policy detail view (policy and proposing organization in one query)
+     */
+    @Transactional(readOnly = true)
+    public Optional<PolicyDetail> getPolicyDetail(Long id) {
+        return policyRepository.findDetailById(id).map(PolicyDetail::from);
+    }
+
     /**
      * Get policy by policy ID
      */
@@ -86,6 +144,10 @@ public class OrganizationService {
     /**
      * Create new policy proposal
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.ORGANIZATION_DASHBOARD, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.ADMIN_STATS, allEntries = true)
+    })
     public Policy createPolicy(Policy policy, String organizationId) {
         Optional<Organization> orgOpt = organizationRepository.findByOrganizationId(organizationId);
         if (orgOpt.isEmpty()) {
@@ -95,7 +157,7 @@ public class OrganizationService {
         Organization organization = orgOpt.get();
         
         // Generate unique policy ID
-        policy.setPolicyId(generatePolicyId());
+        policy.setPolicyId(businessIdAllocator.nextPolicyId());
         policy.setProposedByOrganization(organization);
         policy.setStatus(PolicyStatus.PENDING);
         
@@ -123,6 +185,10 @@ public class OrganizationService {
     /**
      * Update policy
      */
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.ORGANIZATION_DASHBOARD, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.ADMIN_STATS, allEntries = true)
+    })
     public Policy updatePolicy(Long id, Policy policyDetails, String organizationId) {
         Optional<Policy> policyOpt = policyRepository.findById(id);
         if (policyOpt.isEmpty()) {
@@ -153,7 +219,11 @@ public class OrganizationService {
     /**
      * Vote on policy
      */
-    public Vote voteOnPolicy(String policyId, VoteType voteType, String comment, String organizationId) {
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.ORGANIZATION_DASHBOARD, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.ADMIN_STATS, allEntries = true)
+    })
+    public VoteSummary voteOnPolicy(String policyId, VoteType voteType, String comment, String organizationId) {
         Optional<Policy> policyOpt = policyRepository.findByPolicyId(policyId);
         if (policyOpt.isEmpty()) {
             throw new RuntimeException("Policy not found: " + policyId);
@@ -205,72 +275,61 @@ public class OrganizationService {
             // Log error but don't fail the operation
             System.err.println("Failed to record vote on blockchain: " + e.getMessage());
         }
+
+        publishVoteEvent(organization, policy);
         
-        return savedVote;
+        return VoteSummary.from(savedVote);
     }
 
     /**
      * Get policy history for organization
      */
-    public List<Policy> getPolicyHistory(String organizationId, int limit) {
-        Optional<Organization> orgOpt = organizationRepository.findByOrganizationId(organizationId);
-        if (orgOpt.isEmpty()) {
+    @Transactional(readOnly = true)
+    public List<PolicySummary> getPolicyHistory(String organizationId, int limit) {
+        if (!organizationRepository.existsByOrganizationId(organizationId)) {
             throw new RuntimeException("Organization not found: " + organizationId);
         }
 
-        Organization organization = orgOpt.get();
-        List<Policy> allPolicies = policyRepository.findByProposedByOrganizationId(organization.getId());
-        
-        // Return limited results
-        return allPolicies.stream()
-                .sorted((p1, p2) -> p2.getCreatedAt().compareTo(p1.getCreatedAt()))
-                .limit(limit)
-                .toList();
+        // Newest first, limited in SQL rather than after loading every policy
+        return policyRepository.findSummariesByOrganization(organizationId, PageRequest.of(0, Math.max(1, limit)));
     }
 
     /**
      * Get votes by organization
      */
-    public List<Vote> getVotesByOrganization(String organizationId) {
+    @Transactional(readOnly = true)
+    public List<VoteSummary> getVotesByOrganization(String organizationId) {
         Optional<Organization> orgOpt = organizationRepository.findByOrganizationId(organizationId);
         if (orgOpt.isEmpty()) {
             throw new RuntimeException("Organization not found: " + organizationId);
         }
 
         Organization organization = orgOpt.get();
-        return voteRepository.findByOrganizationIdOrderByCreatedAtDesc(organization.getId());
+        return voteRepository.findByOrganizationIdOrderByCreatedAtDesc(organization.getId()).stream()
+                .map(VoteSummary::from)
+                .toList();
     }
 
     /**
      * Get active voting policies
      */
-    public List<Policy> getActiveVotingPolicies() {
-        return policyRepository.findActiveVotingPolicies(LocalDateTime.now());
+    @Transactional(readOnly = true)
+    public List<PolicySummary> getActiveVotingPolicies() {
+        return policyRepository.findActiveVotingSummaries(LocalDateTime.now());
     }
 
     /**
      * Search policies
      */
-    public Page<Policy> searchPolicies(String searchTerm, Pageable pageable) {
+    @Transactional(readOnly = true)
+    public Page<PolicySummary> searchPolicies(String searchTerm, Pageable pageable) {
         if (searchTerm == null || searchTerm.trim().isEmpty()) {
-            return policyRepository.findAllOrderByCreatedAtDesc(pageable);
+            return policyRepository.findSummaries(pageable);
         }
-        return policyRepository.findByTitleContaining(searchTerm.trim(), pageable);
+        return policyRepository.searchSummaries(searchTerm.trim(), pageable);
     }
 
     // Helper methods
-    private String generatePolicyId() {
-        long count = policyRepository.count() + 1;
-        return "POL-" + java.time.Year.now().getValue() + "-" + String.format("%03d", count);
-    }
-
-    private long getPendingVotesCount(Long organizationId) {
-        List<Policy> activeVotingPolicies = policyRepository.findActiveVotingPolicies(LocalDateTime.now());
-        return activeVotingPolicies.stream()
-                .filter(policy -> !voteRepository.existsByPolicyIdAndOrganizationId(policy.getId(), organizationId))
-                .count();
-    }
-
     private void updatePolicyStatus(Policy policy) {
         // Check if voting period has ended
         if (policy.getVotingEndDate().isBefore(LocalDateTime.now())) {
@@ -295,4 +354,24 @@ public class OrganizationService {
             policy.setStatus(PolicyStatus.VOTING);
         }
     }
+
+    /**
+     * Push the voter's dashboard changes (and newly implemented policies) to live subscribers
+     */
+    private void publishVoteEvent(Organization organization, Policy policy) {
+        String channel = DashboardEventService.organizationChannel(organization.getOrganizationId());
+        if (dashboardEventService.hasSubscribers(channel)) {
+            VoteRepository.OrganizationVoteCounts voteCounts = voteRepository.countVotesByOrganizationId(organization.getId());
+            long totalVotes = voteCounts.getTotal();
+            double approvalRate = totalVotes > 0 ? (double) voteCounts.getVotesFor() / totalVotes * 100 : 0;
+            dashboardEventService.publish(channel, new DashboardEvent("vote")
+                    .delta("totalVotesCast", 1)
+                    .delta("pendingVotes", -1)
+                    .value("approvalRate", Math.round(approvalRate)));
+        }
+        if (policy.getStatus() == PolicyStatus.IMPLEMENTED) {
+            dashboardEventService.publishToOrganizations(new DashboardEvent("policy").delta("activePolicies", 1));
+            dashboardEventService.publish(DashboardEventService.ADMIN_CHANNEL, new DashboardEvent("policy").delta("activePolicies", 1));
+        }
+    }
 }
@@ -0,0 +1,130 @@
+package com.organlink.service;
+
+import com.organlink.dto.QueryPlanFinding;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * EXPLAIN check for the statements the application actually runs
+ * MySQL's performance_schema keeps one digest per normalized statement together with a sample
+ * that has real parameter values. Each sampled SELECT is re-run through EXPLAIN, and any table
+ * read with a full scan (access type ALL) is reported.
+ */
+@Service
+public class QueryPlanCheckService {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryPlanCheckService.class);
+
+    private static final String DIGEST_SQL =
+            "SELECT DIGEST, DIGEST_TEXT, QUERY_SAMPLE_TEXT, COUNT_STAR " +
+            "FROM performance_schema.events_statements_summary_by_digest " +
+            "WHERE SCHEMA_NAME = DATABASE() AND DIGEST_TEXT LIKE 'SELECT %' " +
+            "AND DIGEST_TEXT NOT LIKE '%performance_schema%' AND DIGEST_TEXT NOT LIKE '%flyway_schema_history%' " +
+            "ORDER BY COUNT_STAR DESC LIMIT ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${organlink.query-plan-check.enabled:false}")
+    private boolean scheduledCheckEnabled;
+
+    @Value("${organlink.query-plan-check.max-statements:200}")
+    private int maxStatements;
+
+    // Tables estimated below this many rows are always scanned by the optimizer; don't report them
+    @Value("${organlink.query-plan-check.min-rows:100}")
+    private long minRows;
+
+    /**
+     * EXPLAIN every sampled statement and return the full-scan findings
+     */
+    public List<QueryPlanFinding> check() {
+        List<QueryPlanFinding> findings = new ArrayList<>();
+        List<Map<String, Object>> digests;
+        try {
+            digests = jdbcTemplate.queryForList(DIGEST_SQL, maxStatements);
+        } catch (Exception e) {
+            throw new RuntimeException("Statement digests unavailable (performance_schema disabled or not readable): " + e.getMessage());
+        }
+
+        for (Map<String, Object> digest : digests) {
+            String sample = (String) digest.get("QUERY_SAMPLE_TEXT");
+            if (!isExplainable(sample)) {
+                continue;
+            }
+            try {
+                for (Map<String, Object> planRow : jdbcTemplate.queryForList("EXPLAIN " + sample)) {
+                    QueryPlanFinding finding = toFinding(digest, planRow);
+                    if (finding != null) {
+                        findings.add(finding);
+                    }
+                }
+            } catch (Exception e) {
+                logger.debug("Skipping EXPLAIN for digest {}: {}", digest.get("DIGEST"), e.getMessage());
+            }
+        }
+        return findings;
+    }
+
+    /**
+     * Periodic check (opt-in); findings are logged so they show up next to the slow-query log
+     */
+    @Scheduled(cron = "${organlink.query-plan-check.cron:0 0 4 * * *}")
+    public void scheduledCheck() {
+        if (!scheduledCheckEnabled) {
+            return;
+        }
+        try {
+            List<QueryPlanFinding> findings = check();
+            for (QueryPlanFinding finding : findings) {
+                logger.warn("⚠️ Full scan of {} (~{} rows, {} executions): {}", finding.getTable(),
+                        finding.getEstimatedRows(), finding.getExecutions(), finding.getStatement());
+            }
+            logger.info("🔍 Query plan check finished: {} full-scan finding(s)", findings.size());
+        } catch (Exception e) {
+            logger.warn("⚠️ Query plan check skipped: {}", e.getMessage());
+        }
+    }
+
+    private QueryPlanFinding toFinding(Map<String, Object> digest, Map<String, Object> planRow) {
+        String accessType = (String) planRow.get("type");
+        String table = (String) planRow.get("table");
+        // Derived tables and unions (<derived2>, <union1,2>) are materialized results, not base tables
+        if (!"ALL".equals(accessType) || table == null || table.startsWith("<")) {
+            return null;
+        }
+        Long estimatedRows = planRow.get("rows") instanceof Number rows ? rows.longValue() : null;
+        if (estimatedRows != null && estimatedRows < minRows) {
+            return null;
+        }
+
+        QueryPlanFinding finding = new QueryPlanFinding();
+        finding.setDigest((String) digest.get("DIGEST"));
+        finding.setStatement((String) digest.get("DIGEST_TEXT"));
+        finding.setTable(table);
+        finding.setAccessType(accessType);
+        finding.setPossibleKeys((String) planRow.get("possible_keys"));
+        finding.setEstimatedRows(estimatedRows);
+        finding.setExecutions(((Number) digest.get("COUNT_STAR")).longValue());
+        return finding;
+    }
+
+    private static boolean isExplainable(String sample) {
+        if (sample == null || sample.isBlank() || sample.contains(";")) {
+            return false;
+        }
+        String normalized = sample.trim().toLowerCase(Locale.ROOT);
+        // Truncated samples (performance_schema_max_sql_text_length) end with "..." and can't be parsed
+        return normalized.startsWith("select") && !normalized.endsWith("...");
+    }
+}
@@ -0,0 +1,248 @@
+package com.organlink.service;
+
+import com.organlink.blockchain.OrganLinkRegistryService;
+import com.organlink.entity.ChainRegistration;
+import com.organlink.entity.TransactionStatus;
+import com.organlink.repository.ChainRegistrationRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Deferred registration side effects (blockchain registration of imported donors/patients)
+ * Bulk imports write one chain_registration_outbox entry per row in the same transaction as the row,
+ * so a registration is never lost to a restart or crash. A small worker pool per node claims due entries
+ * (SKIP LOCKED, so nodes never share one), calls the chain and deletes the entry on success; failures are
+ * retried with exponential backoff and kept as FAILED after the last attempt.
+ */
+@Service
+public class RegistrationSideEffectQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(RegistrationSideEffectQueue.class);
+
+    @Autowired
+    private OrganLinkRegistryService blockchainService;
+
+    @Autowired
+    private ChainRegistrationRepository chainRegistrationRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ExecutorService workers;
+
+    private final int workerCount;
+
+    private final long pollIntervalMillis;
+
+    private final long taskTimeoutSeconds;
+
+    private final int maxAttempts;
+
+    private final long retryBackoffSeconds;
+
+    private final long maxBackoffSeconds;
+
+    private final AtomicLong completed = new AtomicLong();
+
+    private final AtomicLong failed = new AtomicLong();
+
+    private volatile boolean running = true;
+
+    public RegistrationSideEffectQueue(PlatformTransactionManager transactionManager,
+                                       @Value("${organlink.import.side-effects.workers:2}") int workerCount,
+                                       @Value("${organlink.import.side-effects.poll-interval:2000}") long pollIntervalMillis,
+                                       @Value("${organlink.import.side-effects.task-timeout:120}") long taskTimeoutSeconds,
+                                       @Value("${organlink.import.side-effects.max-attempts:10}") int maxAttempts,
+                                       @Value("${organlink.import.side-effects.retry-backoff:30}") long retryBackoffSeconds,
+                                       @Value("${organlink.import.side-effects.max-backoff:3600}") long maxBackoffSeconds) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.workerCount = Math.max(1, workerCount);
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.taskTimeoutSeconds = taskTimeoutSeconds;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffSeconds = retryBackoffSeconds;
+        this.maxBackoffSeconds = maxBackoffSeconds;
+
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(this.workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "registration-side-effects-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::work);
+        }
+        long pending = chainRegistrationRepository.countByStatus(TransactionStatus.PENDING);
+        if (pending > 0) {
+            logger.info("⛓️ Resuming {} pending blockchain registrations", pending);
+        }
+    }
+
+    /**
+     * Outbox entry for blockchain registration of a donor
+     */
+    public ChainRegistration donorRegistration(String donorId, String fullName, String bloodType, String ipfsHash) {
+        return newRegistration("DONOR", donorId, fullName, bloodType, ipfsHash);
+    }
+
+    /**
+     * Outbox entry for blockchain registration of a patient
+     */
+    public ChainRegistration patientRegistration(String patientId, String fullName, String bloodType, String organNeeded,
+                                                 String urgencyLevel, String ipfsHash) {
+        ChainRegistration registration = newRegistration("PATIENT", patientId, fullName, bloodType, ipfsHash);
+        registration.setOrganNeeded(organNeeded);
+        registration.setUrgencyLevel(urgencyLevel);
+        return registration;
+    }
+
+    /**
+     * Store outbox entries; must join the transaction that writes the registered rows
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(List<ChainRegistration> registrations) {
+        chainRegistrationRepository.saveAll(registrations);
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("pending", chainRegistrationRepository.countByStatus(TransactionStatus.PENDING));
+        stats.put("failedPermanently", chainRegistrationRepository.countByStatus(TransactionStatus.FAILED));
+        stats.put("completed", completed.get());
+        stats.put("failedAttempts", failed.get());
+        return stats;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Entries being processed stay claimed until their lease runs out and are then retried
+        running = false;
+        workers.shutdownNow();
+    }
+
+    private void work() {
+        while (running) {
+            try {
+                ChainRegistration registration = transactionTemplate.execute(status -> claim());
+                if (registration == null) {
+                    Thread.sleep(pollIntervalMillis);
+                } else {
+                    process(registration);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+                logger.error("❌ Blockchain registration worker error: {}", e.getMessage());
+                try {
+                    Thread.sleep(pollIntervalMillis);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Lease the next due entry: it is pushed past the call timeout so another worker only picks it up
+     * again if this one dies mid-call
+     */
+    private ChainRegistration claim() {
+        LocalDateTime now = LocalDateTime.now();
+        List<ChainRegistration> due = chainRegistrationRepository.findDueForUpdate(TransactionStatus.PENDING, now,
+                PageRequest.of(0, 1));
+        if (due.isEmpty()) {
+            return null;
+        }
+        ChainRegistration registration = due.get(0);
+        registration.setAttempts(registration.getAttempts() + 1);
+        registration.setNextAttemptAt(now.plusSeconds(taskTimeoutSeconds + 60));
+        return registration;
+    }
+
+    private void process(ChainRegistration registration) throws InterruptedException {
+        try {
+            String transactionHash = register(registration).get(taskTimeoutSeconds, TimeUnit.SECONDS);
+            transactionTemplate.executeWithoutResult(status -> chainRegistrationRepository.deleteById(registration.getId()));
+            completed.incrementAndGet();
+            logger.debug("✅ {} registered on blockchain. Tx Hash: {}", registration.getEntityId(), transactionHash);
+        } catch (InterruptedException e) {
+            throw e;
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            String error = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            transactionTemplate.executeWithoutResult(status -> recordFailure(registration.getId(), error));
+        }
+    }
+
+    private void recordFailure(Long id, String error) {
+        ChainRegistration registration = chainRegistrationRepository.findById(id).orElse(null);
+        if (registration == null) {
+            return;
+        }
+        registration.setLastError(error != null && error.length() > 500 ? error.substring(0, 500) : error);
+        if (registration.getAttempts() >= maxAttempts) {
+            registration.setStatus(TransactionStatus.FAILED);
+            logger.error("❌ Blockchain registration for {} {} failed {} times, giving up: {}",
+                    registration.getEntityType(), registration.getEntityId(), registration.getAttempts(), error);
+            return;
+        }
+        // 30s, 60s, 120s, ... capped at max-backoff
+        long delay = Math.min(maxBackoffSeconds,
+                retryBackoffSeconds << Math.min(registration.getAttempts() - 1, 20));
+        registration.setNextAttemptAt(LocalDateTime.now().plusSeconds(delay));
+        logger.warn("⚠️ Blockchain registration for {} {} failed (attempt {}), retrying in {}s: {}",
+                registration.getEntityType(), registration.getEntityId(), registration.getAttempts(), delay, error);
+    }
+
+    private CompletableFuture<String> register(ChainRegistration registration) {
+        if ("PATIENT".equals(registration.getEntityType())) {
+            return blockchainService.registerPatient(registration.getEntityId(), registration.getFullName(),
+                    registration.getBloodType(), registration.getOrganNeeded(), registration.getUrgencyLevel(),
+                    registration.getSignatureIpfsHash());
+        }
+        return blockchainService.registerDonor(registration.getEntityId(), registration.getFullName(),
+                registration.getBloodType(), registration.getSignatureIpfsHash());
+    }
+
+    private static ChainRegistration newRegistration(String entityType, String entityId, String fullName,
+                                                     String bloodType, String ipfsHash) {
+        ChainRegistration registration = new ChainRegistration();
+        registration.setEntityType(entityType);
+        registration.setEntityId(entityId);
+        registration.setFullName(fullName);
+        registration.setBloodType(bloodType);
+        registration.setSignatureIpfsHash(ipfsHash);
+        return registration;
+    }
+}
@@ -0,0 +1,271 @@
+package com.organlink.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.organlink.entity.Hospital;
+import com.organlink.entity.OrganType;
+import com.organlink.repository.HospitalRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streaming registry export (CSV / NDJSON, optionally gzipped)
+ * Rows are read through a forward-only JDBC cursor and written one at a time,
+ * so memory use stays constant regardless of the export size.
+ */
+@Service
+public class RegistryExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RegistryExportService.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Exportable hospital-scoped datasets; every '?' is bound to the hospital's database id
+     */
+    public enum Dataset {
+        DONORS("SELECT d.donor_id, d.first_name, d.last_name, d.date_of_birth, d.gender, d.blood_type, d.email, d.phone, " +
+               "d.city, d.state, d.country, d.status, d.availability_status, d.signature_verified, d.created_at, " +
+               "d.organ_types_mask AS organ_types " +
+               "FROM donors d WHERE d.hospital_id = ? ORDER BY d.id", true),
+        PATIENTS("SELECT p.patient_id, p.first_name, p.last_name, p.date_of_birth, p.gender, p.blood_type, p.email, p.phone, " +
+                 "p.city, p.state, p.country, p.organ_needed, p.urgency_level, p.status, p.signature_verified, p.created_at " +
+                 "FROM patients p WHERE p.hospital_id = ? ORDER BY p.id", false),
+        MATCHES("SELECT m.id AS match_id, p.patient_id, d.donor_id, p.organ_needed, m.match_score, m.status, " +
+                "ph.hospital_id AS patient_hospital_id, dh.hospital_id AS donor_hospital_id, m.created_at " +
+                "FROM matches m JOIN patients p ON p.id = m.patient_id JOIN donors d ON d.id = m.donor_id " +
+                "JOIN hospitals ph ON ph.id = p.hospital_id JOIN hospitals dh ON dh.id = d.hospital_id " +
+                "WHERE p.hospital_id = ? OR d.hospital_id = ? ORDER BY m.id", false);
+
+        private final String sql;
+        // Last column is an OrganType mask, written as ';'-joined organ labels
+        private final boolean organMaskLastColumn;
+
+        Dataset(String sql, boolean organMaskLastColumn) {
+            this.sql = sql;
+            this.organMaskLastColumn = organMaskLastColumn;
+        }
+
+        public String fileName() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() { return contentType; }
+        public String getExtension() { return extension; }
+
+        public static Format parse(String value) {
+            try {
+                return Format.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (Exception e) {
+                throw new RuntimeException("Unsupported export format: " + value + " (use csv or ndjson)");
+            }
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private HospitalRepository hospitalRepository;
+
+    @Value("${organlink.export.fetch-size:1000}")
+    private int fetchSize;
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    /**
+     * Prepare an export for a hospital; the query runs when the returned body is written
+     */
+    public StreamingResponseBody export(Dataset dataset, String hospitalId, Format format, boolean gzip) {
+        Hospital hospital = hospitalRepository.findByHospitalId(hospitalId)
+                .orElseThrow(() -> new RuntimeException("Hospital not found: " + hospitalId));
+        Long hospitalDbId = hospital.getId();
+
+        return outputStream -> {
+            long started = System.currentTimeMillis();
+            OutputStream target = gzip ? new GZIPOutputStream(outputStream, BUFFER_SIZE) : outputStream;
+            Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), BUFFER_SIZE);
+            RowWriter rowWriter = format == Format.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(jsonFactory.createGenerator(writer));
+
+            long rows;
+            try {
+                rows = jdbcTemplate.query(cursor(dataset, hospitalDbId), rs -> {
+                    try {
+                        return copy(rs, dataset.organMaskLastColumn, rowWriter);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause(); // typically the client went away
+            }
+            rowWriter.finish();
+            writer.flush();
+            if (target instanceof GZIPOutputStream gzipStream) {
+                gzipStream.finish();
+            }
+            logger.info("📤 Exported {} {} rows for hospital {} as {}{} in {} ms", rows, dataset.fileName(), hospitalId,
+                    format.getExtension(), gzip ? ".gz" : "", System.currentTimeMillis() - started);
+        };
+    }
+
+    private PreparedStatementCreator cursor(Dataset dataset, Long hospitalDbId) {
+        return connection -> {
+            PreparedStatement statement = connection.prepareStatement(dataset.sql,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            int parameters = (int) dataset.sql.chars().filter(c -> c == '?').count();
+            for (int i = 1; i <= parameters; i++) {
+                statement.setLong(i, hospitalDbId);
+            }
+            return statement;
+        };
+    }
+
+    private static long copy(ResultSet rs, boolean organMaskLastColumn, RowWriter rowWriter) throws SQLException, IOException {
+        ResultSetMetaData metaData = rs.getMetaData();
+        int columns = metaData.getColumnCount();
+        String[] names = new String[columns];
+        for (int i = 0; i < columns; i++) {
+            names[i] = metaData.getColumnLabel(i + 1).toLowerCase(Locale.ROOT);
+        }
+        rowWriter.header(names);
+
+        long rows = 0;
+        while (rs.next()) {
+            Object[] row = new Object[columns];
+            for (int i = 0; i < columns; i++) {
+                row[i] = normalize(rs.getObject(i + 1));
+            }
+            if (organMaskLastColumn) {
+                List<String> organs = OrganType.labelsOf(rs.getLong(columns));
+                row[columns - 1] = organs.isEmpty() ? null : String.join(";", organs);
+            }
+            rowWriter.row(row);
+            rows++;
+        }
+        return rows;
+    }
+
+    private static Object normalize(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime().toString();
+        }
+        if (value instanceof Date date) {
+            return date.toLocalDate().toString();
+        }
+        if (value instanceof Number || value instanceof Boolean || value == null) {
+            return value;
+        }
+        return value.toString();
+    }
+
+    private interface RowWriter {
+        void header(String[] names) throws IOException;
+        void row(Object[] values) throws IOException;
+        void finish() throws IOException;
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+
+        CsvRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void header(String[] names) throws IOException {
+            row(names);
+        }
+
+        @Override
+        public void row(Object[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                if (values[i] != null) {
+                    writer.write(escape(values[i].toString()));
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void finish() {
+        }
+
+        private static String escape(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+
+    private static final class NdjsonRowWriter implements RowWriter {
+        private final JsonGenerator generator;
+        private String[] names;
+
+        NdjsonRowWriter(JsonGenerator generator) {
+            this.generator = generator;
+            generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void header(String[] names) {
+            this.names = names;
+        }
+
+        @Override
+        public void row(Object[] values) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < values.length; i++) {
+                generator.writeObjectField(names[i], values[i]);
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.flush();
+        }
+    }
+}
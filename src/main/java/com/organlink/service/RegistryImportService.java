@@ -0,0 +1,845 @@
+package com.organlink.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.organlink.dto.ImportResult;
+import com.organlink.entity.AvailabilityStatus;
+import com.organlink.entity.ChainRegistration;
+import com.organlink.entity.Donor;
+import com.organlink.entity.DonorStatus;
+import com.organlink.entity.Gender;
+import com.organlink.entity.Hospital;
+import com.organlink.entity.OrganType;
+import com.organlink.entity.Patient;
+import com.organlink.entity.PatientStatus;
+import com.organlink.entity.SignatureRecord;
+import com.organlink.entity.UrgencyLevel;
+import com.organlink.repository.DonorRepository;
+import com.organlink.repository.HospitalRepository;
+import com.organlink.repository.PatientRepository;
+import com.organlink.repository.SignatureRecordRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Bulk donor/patient import (CSV / NDJSON)
+ * The upload is parsed as a stream in chunks: while one chunk is mapped and validated in parallel on a
+ * dedicated fork-join pool, the next one is read. Valid rows of a chunk are written in a single
+ * transaction (JDBC batches via the pooled ID generators); if the chunk fails it is retried row by row
+ * to isolate the bad rows. Blockchain registration is recorded as an outbox entry in the same transaction
+ * and carried out later by {@link RegistrationSideEffectQueue}. Column names are matched case-insensitively,
+ * ignoring '_' and '-', so files produced by the registry export can be fed back in.
+ */
+@Service
+public class RegistryImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RegistryImportService.class);
+
+    public enum Dataset {
+        DONORS, PATIENTS;
+
+        public String fileName() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    @Autowired
+    private HospitalRepository hospitalRepository;
+
+    @Autowired
+    private DonorRepository donorRepository;
+
+    @Autowired
+    private PatientRepository patientRepository;
+
+    @Autowired
+    private SignatureRecordRepository signatureRecordRepository;
+
+    @Autowired
+    private HospitalService hospitalService;
+
+    @Autowired
+    private BusinessIdAllocator businessIdAllocator;
+
+    @Autowired
+    private RegistrationSideEffectQueue sideEffectQueue;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ForkJoinPool pool;
+
+    private final int chunkSize;
+
+    private final int maxErrors;
+
+    private final Set<String> activeImports = ConcurrentHashMap.newKeySet();
+
+    public RegistryImportService(PlatformTransactionManager transactionManager,
+                                 @Value("${organlink.import.chunk-size:500}") int chunkSize,
+                                 @Value("${organlink.import.parallelism:4}") int parallelism,
+                                 @Value("${organlink.import.max-errors:1000}") int maxErrors) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxErrors = maxErrors;
+        this.pool = new ForkJoinPool(Math.max(1, parallelism), pool -> {
+            var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("registry-import-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * Import all rows of an upload into a hospital's registry; one import per hospital at a time
+     */
+    public ImportResult importRows(Dataset dataset, String hospitalId, RegistryExportService.Format format,
+                                   InputStream input) throws IOException {
+        Hospital hospital = hospitalRepository.findByHospitalId(hospitalId)
+                .orElseThrow(() -> new RuntimeException("Hospital not found: " + hospitalId));
+        if (!activeImports.add(hospitalId)) {
+            throw new RuntimeException("An import is already running for hospital " + hospitalId);
+        }
+
+        long started = System.currentTimeMillis();
+        ImportRun<?> run = dataset == Dataset.DONORS
+                ? new ImportRun<>(new DonorImporter(), hospital, format)
+                : new ImportRun<>(new PatientImporter(), hospital, format);
+        run.result.setDataset(dataset.fileName());
+        try (RowReader reader = format == RegistryExportService.Format.CSV
+                ? new CsvRowReader(input) : new NdjsonRowReader(input)) {
+            run.execute(reader);
+        } finally {
+            activeImports.remove(hospitalId);
+        }
+
+        ImportResult result = run.result;
+        result.setDurationMs(System.currentTimeMillis() - started);
+        logger.info("📥 Imported {}/{} {} rows for hospital {} in {} ms ({} rejected)", result.getImportedRows(),
+                result.getTotalRows(), dataset.fileName(), hospitalId, result.getDurationMs(), result.getFailedRows());
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * State of one import: the reader thread writes chunks, pool workers map and validate them
+     */
+    private class ImportRun<T> {
+        private final Importer<T> importer;
+        private final Hospital hospital;
+        private final ImportResult result;
+        private final Set<String> seenEmails = new HashSet<>();
+        private final Set<String> seenIds = new HashSet<>();
+        private final Set<String> seenHashes = new HashSet<>();
+
+        private ImportRun(Importer<T> importer, Hospital hospital, RegistryExportService.Format format) {
+            this.importer = importer;
+            this.hospital = hospital;
+            this.result = new ImportResult(null, hospital.getHospitalId(), format.getExtension());
+        }
+
+        private void execute(RowReader reader) throws IOException {
+            Future<List<PreparedRow<T>>> pending = null;
+            List<RawRow> chunk = new ArrayList<>(chunkSize);
+            RawRow row;
+            while ((row = reader.next()) != null) {
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    // Validate this chunk in the background while the next one is read
+                    if (pending != null) {
+                        write(await(pending));
+                    }
+                    pending = submit(chunk);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (pending != null) {
+                write(await(pending));
+            }
+            if (!chunk.isEmpty()) {
+                write(await(submit(chunk)));
+            }
+        }
+
+        private Future<List<PreparedRow<T>>> submit(List<RawRow> chunk) {
+            result.setTotalRows(result.getTotalRows() + chunk.size());
+            // Runs on a pool worker, so the parallel stream forks into this pool rather than the common pool
+            return pool.submit(() -> chunk.parallelStream().map(this::prepare).toList());
+        }
+
+        private List<PreparedRow<T>> await(Future<List<PreparedRow<T>>> future) {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Import interrupted");
+            } catch (ExecutionException e) {
+                throw new RuntimeException("Row validation failed: " + e.getCause().getMessage(), e.getCause());
+            }
+        }
+
+        /**
+         * Map and validate a row; no database access, safe to run in parallel
+         */
+        private PreparedRow<T> prepare(RawRow raw) {
+            PreparedRow<T> prepared = new PreparedRow<>(raw);
+            if (raw.error != null) {
+                prepared.error = new ImportResult.RowError(raw.number, null, raw.error);
+                return prepared;
+            }
+            try {
+                T entity = importer.map(raw.values);
+                for (ConstraintViolation<T> violation : validator.validate(entity)) {
+                    String field = violation.getPropertyPath().toString();
+                    if (field.equals(importer.businessIdField()) || field.equals("hospital")) {
+                        continue; // assigned on save (the ID from the hospital's sequence when the row has none)
+                    }
+                    prepared.error = new ImportResult.RowError(raw.number, field, violation.getMessage());
+                    return prepared;
+                }
+                if (isBlank(importer.signatureIpfsHash(entity))) {
+                    prepared.error = new ImportResult.RowError(raw.number, "signatureIpfsHash",
+                            "Signature IPFS hash is required; upload and verify the consent signature first");
+                    return prepared;
+                }
+                prepared.entity = entity;
+            } catch (FieldException e) {
+                prepared.error = new ImportResult.RowError(raw.number, e.field, e.getMessage());
+            } catch (Exception e) {
+                prepared.error = new ImportResult.RowError(raw.number, null, e.getMessage());
+            }
+            return prepared;
+        }
+
+        private void write(List<PreparedRow<T>> rows) {
+            List<PreparedRow<T>> valid = new ArrayList<>(rows.size());
+            for (PreparedRow<T> row : rows) {
+                if (row.error != null) {
+                    reject(row.error);
+                } else {
+                    valid.add(row);
+                }
+            }
+            rejectDuplicates(valid);
+            if (valid.isEmpty()) {
+                return;
+            }
+
+            for (PreparedRow<T> row : valid) {
+                String businessId = importer.businessId(row.entity);
+                row.businessId = isBlank(businessId) ? importer.nextBusinessId(hospital.getHospitalId()) : businessId;
+            }
+
+            int imported;
+            try {
+                imported = transactionTemplate.execute(status -> persist(valid));
+            } catch (Exception e) {
+                logger.warn("Import chunk for hospital {} failed ({}), retrying row by row", hospital.getHospitalId(),
+                        NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+                entityManager.clear();
+                imported = 0;
+                for (PreparedRow<T> row : valid) {
+                    imported += persistSingle(row);
+                }
+            }
+            // One blockchain registration queued per committed row
+            result.setImportedRows(result.getImportedRows() + imported);
+            result.setSideEffectsQueued(result.getSideEffectsQueued() + imported);
+        }
+
+        /**
+         * Drop rows whose email, business ID or signature hash repeats within the file or already exists,
+         * so a chunk normally commits in one go instead of falling back to row-by-row writes
+         */
+        private void rejectDuplicates(List<PreparedRow<T>> rows) {
+            if (rows.isEmpty()) {
+                return;
+            }
+            Set<String> emails = new HashSet<>();
+            Set<String> ids = new HashSet<>();
+            Set<String> hashes = new HashSet<>();
+            for (PreparedRow<T> row : rows) {
+                emails.add(importer.email(row.entity));
+                hashes.add(importer.signatureIpfsHash(row.entity));
+                if (!isBlank(importer.businessId(row.entity))) {
+                    ids.add(importer.businessId(row.entity));
+                }
+            }
+            Set<String> existingEmails = lowerCase(importer.existingEmails(emails));
+            Set<String> existingIds = ids.isEmpty() ? Set.of() : new HashSet<>(importer.existingBusinessIds(ids));
+            Set<String> existingHashes = new HashSet<>(signatureRecordRepository.findExistingIpfsHashes(hashes));
+
+            rows.removeIf(row -> {
+                String email = importer.email(row.entity).toLowerCase(Locale.ROOT);
+                String businessId = importer.businessId(row.entity);
+                String hash = importer.signatureIpfsHash(row.entity);
+                if (existingEmails.contains(email) || seenEmails.contains(email)) {
+                    reject(new ImportResult.RowError(row.raw.number, "email",
+                            "Email " + importer.email(row.entity) + " is already registered"));
+                    return true;
+                }
+                if (!isBlank(businessId) && (existingIds.contains(businessId) || seenIds.contains(businessId))) {
+                    reject(new ImportResult.RowError(row.raw.number, importer.businessIdField(),
+                            "ID " + businessId + " is already registered"));
+                    return true;
+                }
+                if (existingHashes.contains(hash) || seenHashes.contains(hash)) {
+                    reject(new ImportResult.RowError(row.raw.number, "signatureIpfsHash",
+                            "Signature " + hash + " is already linked to another record"));
+                    return true;
+                }
+                seenEmails.add(email);
+                seenHashes.add(hash);
+                if (!isBlank(businessId)) {
+                    seenIds.add(businessId);
+                }
+                return false;
+            });
+        }
+
+        private int persist(List<PreparedRow<T>> rows) {
+            List<T> entities = new ArrayList<>(rows.size());
+            for (PreparedRow<T> row : rows) {
+                importer.prepareForSave(row.entity, row.businessId, hospital);
+                entities.add(row.entity);
+            }
+            importer.saveAll(entities);
+
+            List<SignatureRecord> records = new ArrayList<>(entities.size());
+            List<ChainRegistration> registrations = new ArrayList<>(entities.size());
+            for (T entity : entities) {
+                records.add(importer.signatureRecord(entity, hospital));
+                registrations.add(importer.chainRegistration(entity));
+            }
+            signatureRecordRepository.saveAll(records);
+            // Outbox entries commit or roll back together with the rows they register
+            sideEffectQueue.enqueue(registrations);
+
+            // Keep the (request-scoped) persistence context from growing with every chunk
+            entityManager.flush();
+            entityManager.clear();
+            return entities.size();
+        }
+
+        /**
+         * Fallback for a failed chunk: each row in its own transaction, from a freshly mapped entity
+         */
+        private int persistSingle(PreparedRow<T> row) {
+            try {
+                row.entity = importer.map(row.raw.values);
+                return transactionTemplate.execute(status -> persist(List.of(row)));
+            } catch (Exception e) {
+                entityManager.clear();
+                reject(new ImportResult.RowError(row.raw.number, null,
+                        NestedExceptionUtils.getMostSpecificCause(e).getMessage()));
+                return 0;
+            }
+        }
+
+        private void reject(ImportResult.RowError error) {
+            result.setFailedRows(result.getFailedRows() + 1);
+            if (result.getErrors().size() < maxErrors) {
+                result.getErrors().add(error);
+            } else {
+                result.setErrorsTruncated(true);
+            }
+        }
+    }
+
+    /**
+     * Dataset-specific mapping, persistence and blockchain registration
+     */
+    private interface Importer<T> {
+        T map(Map<String, String> values);
+        String businessIdField();
+        String businessId(T entity);
+        String nextBusinessId(String hospitalId);
+        String email(T entity);
+        String signatureIpfsHash(T entity);
+        List<String> existingEmails(Collection<String> emails);
+        List<String> existingBusinessIds(Collection<String> ids);
+        void prepareForSave(T entity, String businessId, Hospital hospital);
+        void saveAll(List<T> entities);
+        SignatureRecord signatureRecord(T entity, Hospital hospital);
+        ChainRegistration chainRegistration(T entity);
+    }
+
+    private class DonorImporter implements Importer<Donor> {
+
+        @Override
+        public Donor map(Map<String, String> values) {
+            Donor donor = new Donor();
+            donor.setDonorId(text(values, "donorid"));
+            donor.setFirstName(text(values, "firstname"));
+            donor.setLastName(text(values, "lastname"));
+            donor.setDateOfBirth(date(values, "dateofbirth"));
+            donor.setGender(enumValue(values, "gender", Gender.class));
+            donor.setBloodType(text(values, "bloodtype", "bloodgroup"));
+            donor.setEmail(text(values, "email"));
+            donor.setPhone(text(values, "phone"));
+            donor.setAlternatePhone(text(values, "alternatephone"));
+            donor.setAddress(text(values, "address"));
+            donor.setCity(text(values, "city"));
+            donor.setState(text(values, "state"));
+            donor.setCountry(orDefault(text(values, "country"), "India"));
+            donor.setZipCode(text(values, "zipcode"));
+            donor.setEmergencyContactName(text(values, "emergencycontactname"));
+            donor.setEmergencyContactPhone(text(values, "emergencycontactphone"));
+            donor.setEmergencyContactRelationship(text(values, "emergencycontactrelationship"));
+            donor.setOrganTypes(organs(values, "organtypes"));
+            donor.setMedicalHistory(text(values, "medicalhistory"));
+            donor.setCurrentMedications(text(values, "currentmedications"));
+            donor.setAllergies(text(values, "allergies"));
+            donor.setHeight(number(values, "height"));
+            donor.setWeight(number(values, "weight"));
+            donor.setSmokingStatus(text(values, "smokingstatus"));
+            donor.setAlcoholConsumption(text(values, "alcoholconsumption"));
+            donor.setExerciseFrequency(text(values, "exercisefrequency"));
+            donor.setConsentGiven(bool(values, "consentgiven", false));
+            donor.setSignatureIpfsHash(text(values, "signatureipfshash"));
+            donor.setSignatureVerified(bool(values, "signatureverified", false));
+            return donor;
+        }
+
+        @Override public String businessIdField() { return "donorId"; }
+        @Override public String businessId(Donor donor) { return donor.getDonorId(); }
+        @Override public String nextBusinessId(String hospitalId) { return businessIdAllocator.nextDonorId(hospitalId); }
+        @Override public String email(Donor donor) { return donor.getEmail(); }
+        @Override public String signatureIpfsHash(Donor donor) { return donor.getSignatureIpfsHash(); }
+        @Override public List<String> existingEmails(Collection<String> emails) { return donorRepository.findExistingEmails(emails); }
+        @Override public List<String> existingBusinessIds(Collection<String> ids) { return donorRepository.findExistingDonorIds(ids); }
+
+        @Override
+        public void prepareForSave(Donor donor, String businessId, Hospital hospital) {
+            donor.setDonorId(businessId);
+            donor.setHospital(hospital);
+            donor.setStatus(DonorStatus.REGISTERED);
+            donor.setAvailabilityStatus(AvailabilityStatus.AVAILABLE);
+            donor.setBmi(bmi(donor.getHeight(), donor.getWeight()));
+        }
+
+        @Override
+        public void saveAll(List<Donor> donors) {
+            donorRepository.saveAll(donors);
+        }
+
+        @Override
+        public SignatureRecord signatureRecord(Donor donor, Hospital hospital) {
+            return newSignatureRecord(donor.getSignatureIpfsHash(), "DONOR_CONSENT", donor.getId(), "DONOR", hospital);
+        }
+
+        @Override
+        public ChainRegistration chainRegistration(Donor donor) {
+            return sideEffectQueue.donorRegistration(donor.getDonorId(), donor.getFirstName() + " " + donor.getLastName(),
+                    donor.getBloodType(), donor.getSignatureIpfsHash());
+        }
+    }
+
+    private class PatientImporter implements Importer<Patient> {
+
+        @Override
+        public Patient map(Map<String, String> values) {
+            Patient patient = new Patient();
+            patient.setPatientId(text(values, "patientid"));
+            patient.setFirstName(text(values, "firstname"));
+            patient.setLastName(text(values, "lastname"));
+            patient.setDateOfBirth(date(values, "dateofbirth"));
+            patient.setGender(enumValue(values, "gender", Gender.class));
+            patient.setBloodType(text(values, "bloodtype", "bloodgroup"));
+            patient.setOrganNeeded(text(values, "organneeded", "organtypename", "organ"));
+            patient.setEmail(text(values, "email"));
+            patient.setPhone(text(values, "phone"));
+            patient.setAlternatePhone(text(values, "alternatephone"));
+            patient.setAddress(text(values, "address"));
+            patient.setCity(text(values, "city"));
+            patient.setState(text(values, "state"));
+            patient.setCountry(orDefault(text(values, "country"), "India"));
+            patient.setZipCode(text(values, "zipcode"));
+            patient.setEmergencyContactName(text(values, "emergencycontactname"));
+            patient.setEmergencyContactPhone(text(values, "emergencycontactphone"));
+            patient.setEmergencyContactRelationship(text(values, "emergencycontactrelationship"));
+            patient.setMedicalCondition(text(values, "medicalcondition"));
+            patient.setDiagnosisDate(date(values, "diagnosisdate"));
+            patient.setCurrentMedications(text(values, "currentmedications"));
+            patient.setAllergies(text(values, "allergies"));
+            patient.setHeight(number(values, "height"));
+            patient.setWeight(number(values, "weight"));
+            UrgencyLevel urgency = enumValue(values, "urgencylevel", UrgencyLevel.class);
+            patient.setUrgencyLevel(urgency != null ? urgency : UrgencyLevel.MEDIUM);
+            LocalDate waitingListDate = date(values, "waitinglistdate");
+            patient.setWaitingListDate(waitingListDate != null ? waitingListDate : LocalDate.now());
+            Double survival = number(values, "estimatedsurvivaltime");
+            patient.setEstimatedSurvivalTime(survival != null ? survival.intValue() : null);
+            patient.setInsuranceProvider(text(values, "insuranceprovider"));
+            patient.setInsurancePolicyNumber(text(values, "insurancepolicynumber"));
+            patient.setConsentGiven(bool(values, "consentgiven", false));
+            patient.setSignatureIpfsHash(text(values, "signatureipfshash"));
+            patient.setSignatureVerified(bool(values, "signatureverified", false));
+            return patient;
+        }
+
+        @Override public String businessIdField() { return "patientId"; }
+        @Override public String businessId(Patient patient) { return patient.getPatientId(); }
+        @Override public String nextBusinessId(String hospitalId) { return businessIdAllocator.nextPatientId(hospitalId); }
+        @Override public String email(Patient patient) { return patient.getEmail(); }
+        @Override public String signatureIpfsHash(Patient patient) { return patient.getSignatureIpfsHash(); }
+        @Override public List<String> existingEmails(Collection<String> emails) { return patientRepository.findExistingEmails(emails); }
+        @Override public List<String> existingBusinessIds(Collection<String> ids) { return patientRepository.findExistingPatientIds(ids); }
+
+        @Override
+        public void prepareForSave(Patient patient, String businessId, Hospital hospital) {
+            patient.setPatientId(businessId);
+            patient.setHospital(hospital);
+            patient.setStatus(PatientStatus.REGISTERED);
+            patient.setBmi(bmi(patient.getHeight(), patient.getWeight()));
+            patient.setPriorityScore(hospitalService.calculatePriorityScorePublic(patient));
+        }
+
+        @Override
+        public void saveAll(List<Patient> patients) {
+            patientRepository.saveAll(patients);
+        }
+
+        @Override
+        public SignatureRecord signatureRecord(Patient patient, Hospital hospital) {
+            return newSignatureRecord(patient.getSignatureIpfsHash(), "PATIENT_CONSENT", patient.getId(), "PATIENT", hospital);
+        }
+
+        @Override
+        public ChainRegistration chainRegistration(Patient patient) {
+            return sideEffectQueue.patientRegistration(patient.getPatientId(), patient.getFirstName() + " " + patient.getLastName(),
+                    patient.getBloodType(), patient.getOrganNeeded(), patient.getUrgencyLevel().toString(),
+                    patient.getSignatureIpfsHash());
+        }
+    }
+
+    // Row sources
+
+    /**
+     * One data row: normalized column name -> value, or a parse error for the row
+     */
+    record RawRow(long number, Map<String, String> values, String error) {}
+
+    private static class PreparedRow<T> {
+        private final RawRow raw;
+        private T entity;
+        private String businessId;
+        private ImportResult.RowError error;
+
+        private PreparedRow(RawRow raw) {
+            this.raw = raw;
+        }
+    }
+
+    interface RowReader extends AutoCloseable {
+        RawRow next() throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    /**
+     * RFC 4180 CSV: header row, quoted fields may contain separators, quotes ("") and line breaks
+     */
+    static class CsvRowReader implements RowReader {
+        private final Reader reader;
+        private final String[] header;
+        private long rows;
+
+        CsvRowReader(InputStream input) throws IOException {
+            this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), 64 * 1024);
+            List<String> names = readRecord();
+            if (names == null) {
+                throw new RuntimeException("CSV upload is empty");
+            }
+            if (!names.isEmpty() && names.get(0).startsWith("\uFEFF")) {
+                names.set(0, names.get(0).substring(1));
+            }
+            this.header = names.stream().map(RegistryImportService::normalizeKey).toArray(String[]::new);
+        }
+
+        @Override
+        public RawRow next() throws IOException {
+            List<String> record;
+            do {
+                record = readRecord();
+                if (record == null) {
+                    return null;
+                }
+            } while (record.size() == 1 && record.get(0).isEmpty());
+
+            long number = ++rows;
+            if (record.size() != header.length) {
+                return new RawRow(number, Map.of(), "Expected " + header.length + " columns but found " + record.size());
+            }
+            Map<String, String> values = new HashMap<>();
+            for (int i = 0; i < header.length; i++) {
+                values.put(header[i], record.get(i));
+            }
+            return new RawRow(number, values, null);
+        }
+
+        private List<String> readRecord() throws IOException {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            while (c != -1) {
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        int next = reader.read();
+                        if (next == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            reader.reset();
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.length() == 0) {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+                c = reader.read();
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    /**
+     * NDJSON: one JSON object per line; arrays become ';'-joined values and the JSON registration's
+     * signatureData {ipfsHash, ocrResult.verified} block is accepted as well
+     */
+    private class NdjsonRowReader implements RowReader {
+        private final BufferedReader reader;
+        private long rows;
+
+        private NdjsonRowReader(InputStream input) {
+            this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), 64 * 1024);
+        }
+
+        @Override
+        public RawRow next() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+
+            long number = ++rows;
+            try {
+                Map<?, ?> object = objectMapper.readValue(line, Map.class);
+                Map<String, String> values = new HashMap<>();
+                object.forEach((key, value) -> flatten(String.valueOf(key), value, values));
+                return new RawRow(number, values, null);
+            } catch (JsonProcessingException e) {
+                return new RawRow(number, Map.of(), "Malformed JSON: " + e.getOriginalMessage());
+            }
+        }
+
+        private void flatten(String key, Object value, Map<String, String> values) {
+            if (value == null) {
+                return;
+            }
+            if (value instanceof Map<?, ?> map && key.equals("signatureData")) {
+                if (map.get("ipfsHash") != null) {
+                    values.put("signatureipfshash", map.get("ipfsHash").toString());
+                }
+                if (map.get("ocrResult") instanceof Map<?, ?> ocr && ocr.get("verified") != null) {
+                    values.put("signatureverified", ocr.get("verified").toString());
+                }
+            } else if (value instanceof Collection<?> items) {
+                values.put(normalizeKey(key), String.join(";", items.stream().map(String::valueOf).toList()));
+            } else if (!(value instanceof Map<?, ?>)) {
+                values.put(normalizeKey(key), value.toString());
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    // Field conversion
+
+    private static String normalizeKey(String key) {
+        return key.trim().toLowerCase(Locale.ROOT).replace("_", "").replace("-", "").replace(" ", "");
+    }
+
+    private static String text(Map<String, String> values, String... keys) {
+        for (String key : keys) {
+            String value = values.get(key);
+            if (value != null && !value.isBlank()) {
+                return value.trim();
+            }
+        }
+        return null;
+    }
+
+    private static LocalDate date(Map<String, String> values, String key) {
+        String value = text(values, key);
+        try {
+            return value == null ? null : LocalDate.parse(value.length() > 10 ? value.substring(0, 10) : value);
+        } catch (Exception e) {
+            throw new FieldException(key, "Invalid date '" + value + "' (expected yyyy-MM-dd)");
+        }
+    }
+
+    private static Double number(Map<String, String> values, String key) {
+        String value = text(values, key);
+        try {
+            return value == null ? null : Double.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new FieldException(key, "Invalid number '" + value + "'");
+        }
+    }
+
+    private static Boolean bool(Map<String, String> values, String key, boolean defaultValue) {
+        String value = text(values, key);
+        if (value == null) {
+            return defaultValue;
+        }
+        return value.equalsIgnoreCase("true") || value.equals("1") || value.equalsIgnoreCase("yes");
+    }
+
+    private static <E extends Enum<E>> E enumValue(Map<String, String> values, String key, Class<E> type) {
+        String value = text(values, key);
+        try {
+            return value == null ? null : Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new FieldException(key, "Invalid value '" + value + "', expected one of " + Arrays.toString(type.getEnumConstants()));
+        }
+    }
+
+    private static List<String> list(Map<String, String> values, String key) {
+        String value = text(values, key);
+        List<String> items = new ArrayList<>();
+        if (value != null) {
+            for (String item : value.split("[;,|]")) {
+                if (!item.isBlank()) {
+                    items.add(item.trim());
+                }
+            }
+        }
+        return items;
+    }
+
+    private static List<String> organs(Map<String, String> values, String key) {
+        List<String> items = list(values, key);
+        for (String item : items) {
+            if (OrganType.find(item) == null) {
+                throw new FieldException(key, "Invalid value '" + item + "', expected one of " + Arrays.toString(OrganType.values()));
+            }
+        }
+        return items;
+    }
+
+    private static String orDefault(String value, String defaultValue) {
+        return value != null ? value : defaultValue;
+    }
+
+    private static Double bmi(Double height, Double weight) {
+        if (height == null || weight == null || height <= 0) {
+            return null;
+        }
+        double heightInMeters = height / 100.0;
+        return weight / (heightInMeters * heightInMeters);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static Set<String> lowerCase(Collection<String> values) {
+        Set<String> result = new HashSet<>();
+        values.forEach(value -> result.add(value.toLowerCase(Locale.ROOT)));
+        return result;
+    }
+
+    private static SignatureRecord newSignatureRecord(String ipfsHash, String docType, Long entityId, String entityType,
+                                                      Hospital hospital) {
+        SignatureRecord record = new SignatureRecord();
+        record.setIpfsHash(ipfsHash);
+        record.setDocumentType(docType);
+        record.setEntityId(entityId);
+        record.setEntityType(entityType);
+        record.setUploadedBy(hospital);
+        return record;
+    }
+
+    /**
+     * Conversion error attributed to an input column
+     */
+    private static class FieldException extends RuntimeException {
+        private final String field;
+
+        private FieldException(String field, String message) {
+            super(message);
+            this.field = field;
+        }
+    }
+}
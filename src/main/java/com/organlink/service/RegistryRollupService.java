@@ -0,0 +1,241 @@
+package com.organlink.service;
+
+import com.organlink.dto.TrendPoint;
+import com.organlink.entity.JobWatermark;
+import com.organlink.entity.RegistryRollup;
+import com.organlink.entity.RollupGranularity;
+import com.organlink.entity.RollupMetric;
+import com.organlink.repository.DonorRepository;
+import com.organlink.repository.JobWatermarkRepository;
+import com.organlink.repository.MatchRepository;
+import com.organlink.repository.PatientRepository;
+import com.organlink.repository.RegistryRollupRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Registry trend rollups
+ * Appends daily aggregates for every closed day since the watermark and rebuilds the
+ * weekly (ISO, Monday-based) rows from them; trend queries only read the rollup table.
+ * Only the node holding the job's lease rolls up.
+ */
+@Service
+public class RegistryRollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RegistryRollupService.class);
+
+    private static final String JOB_NAME = "registry-rollup";
+    private static final String ALL = "ALL";
+    private static final String UNKNOWN = "UNKNOWN";
+
+    // Time-to-match histogram bins: upper bound in hours (exclusive) -> label
+    private static final long[] BIN_UPPER_HOURS = {24, 24 * 7, 24 * 30, 24 * 90};
+    private static final String[] BIN_LABELS = {"<1d", "1-7d", "7-30d", "30-90d", "90d+"};
+
+    @Autowired
+    private RegistryRollupRepository rollupRepository;
+
+    @Autowired
+    private DonorRepository donorRepository;
+
+    @Autowired
+    private PatientRepository patientRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private JobWatermarkRepository jobWatermarkRepository;
+
+    @Autowired
+    private JobLeaseService jobLeaseService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${organlink.rollups.chunk-days:31}")
+    private int chunkDays;
+
+    @Value("${organlink.rollups.max-range-days:730}")
+    private int maxRangeDays;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Scheduled(cron = "${organlink.rollups.cron:0 15 0 * * *}")
+    public void scheduledRollup() {
+        runRollup();
+    }
+
+    /**
+     * Roll up every closed day since the watermark; returns the number of days processed,
+     * or -1 if already running here or on another node
+     */
+    public int runRollup() {
+        if (!running.compareAndSet(false, true)) {
+            logger.warn("Registry rollup already running, skipping");
+            return -1;
+        }
+        try {
+            LocalDateTime end = LocalDate.now().atStartOfDay(); // only closed days
+            // First run starts at the earliest activity; with no data yet there is nothing before today
+            Optional<JobWatermark> watermark = jobLeaseService.tryAcquire(JOB_NAME,
+                    () -> Optional.ofNullable(earliestActivity()).orElse(end));
+            if (watermark.isEmpty()) {
+                return -1;
+            }
+            try {
+                return doRollup(watermark.get(), end);
+            } finally {
+                jobLeaseService.release(JOB_NAME);
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Read a trend series from the rollup table
+     */
+    public List<TrendPoint> getTrend(RollupMetric metric, RollupGranularity granularity, LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new RuntimeException("'from' must not be after 'to'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) > maxRangeDays) {
+            throw new RuntimeException("Trend range is limited to " + maxRangeDays + " days");
+        }
+        LocalDate start = granularity == RollupGranularity.WEEK ? weekStart(from) : from;
+        return rollupRepository.findSeries(metric, granularity, start, to.plusDays(1)).stream()
+                .map(TrendPoint::from)
+                .toList();
+    }
+
+    private int doRollup(JobWatermark watermark, LocalDateTime end) {
+        LocalDateTime from = watermark.getWatermark();
+        if (!from.isBefore(end)) {
+            return 0;
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int days = 0;
+        while (from.isBefore(end)) {
+            LocalDateTime chunkStart = from;
+            LocalDateTime chunkEnd = min(chunkStart.plusDays(chunkDays), end);
+            JobWatermark current = watermark;
+            transactionTemplate.executeWithoutResult(status -> {
+                rollUpDays(chunkStart, chunkEnd);
+                rebuildWeeks(chunkStart.toLocalDate(), chunkEnd.toLocalDate());
+                current.setWatermark(chunkEnd);
+                current.setLastRunAt(LocalDateTime.now());
+                current.setLastRunSummary("rolled up " + chunkStart.toLocalDate() + " .. " + chunkEnd.toLocalDate().minusDays(1));
+                jobWatermarkRepository.save(current);
+            });
+            days += (int) ChronoUnit.DAYS.between(chunkStart, chunkEnd);
+            from = chunkEnd;
+        }
+
+        logger.info("📈 Registry rollup completed: {} days up to {}", days, end.toLocalDate().minusDays(1));
+        return days;
+    }
+
+    private void rollUpDays(LocalDateTime from, LocalDateTime to) {
+        // Re-running a window replaces its rows, so a failed chunk can simply be retried
+        rollupRepository.deleteByGranularityAndPeriod(RollupGranularity.DAY, from.toLocalDate(), to.toLocalDate());
+
+        Map<String, RegistryRollup> rows = new HashMap<>();
+        for (Object[] row : donorRepository.countRegistrationsByDay(from, to)) {
+            bucket(rows, RollupGranularity.DAY, (LocalDate) row[0], RollupMetric.DONOR_REGISTRATIONS, ALL)
+                    .setValueCount((Long) row[1]);
+        }
+        for (Object[] row : patientRepository.countRegistrationsByDayAndOrgan(from, to)) {
+            bucket(rows, RollupGranularity.DAY, (LocalDate) row[0], RollupMetric.PATIENT_REGISTRATIONS, dimension((String) row[1]))
+                    .setValueCount((Long) row[2]);
+        }
+        for (Object[] row : matchRepository.countMatchesByDayAndOrgan(from, to)) {
+            bucket(rows, RollupGranularity.DAY, (LocalDate) row[0], RollupMetric.MATCHES_CREATED, dimension((String) row[1]))
+                    .setValueCount((Long) row[2]);
+        }
+        for (Object[] row : matchRepository.findMatchAndRegistrationTimes(from, to)) {
+            LocalDateTime matchedAt = (LocalDateTime) row[0];
+            LocalDateTime registeredAt = (LocalDateTime) row[1];
+            if (matchedAt == null || registeredAt == null) {
+                continue;
+            }
+            long hours = Math.max(0, Duration.between(registeredAt, matchedAt).toHours());
+            RegistryRollup rollup = bucket(rows, RollupGranularity.DAY, matchedAt.toLocalDate(), RollupMetric.TIME_TO_MATCH, binFor(hours));
+            rollup.setValueCount(rollup.getValueCount() + 1);
+            rollup.setValueSum(rollup.getValueSum() + hours);
+        }
+        rollupRepository.saveAll(rows.values());
+    }
+
+    private void rebuildWeeks(LocalDate from, LocalDate to) {
+        LocalDate firstWeek = weekStart(from);
+        LocalDate endWeek = weekStart(to.minusDays(1)).plusWeeks(1);
+        rollupRepository.deleteByGranularityAndPeriod(RollupGranularity.WEEK, firstWeek, endWeek);
+
+        Map<String, RegistryRollup> rows = new HashMap<>();
+        for (RegistryRollup day : rollupRepository.findByGranularityAndPeriod(RollupGranularity.DAY, firstWeek, endWeek)) {
+            RegistryRollup week = bucket(rows, RollupGranularity.WEEK, weekStart(day.getPeriodStart()), day.getMetric(), day.getDimension());
+            week.setValueCount(week.getValueCount() + day.getValueCount());
+            week.setValueSum(week.getValueSum() + day.getValueSum());
+        }
+        rollupRepository.saveAll(rows.values());
+    }
+
+    private LocalDateTime earliestActivity() {
+        return Stream.of(donorRepository.findEarliestCreatedAt(),
+                        patientRepository.findEarliestCreatedAt(),
+                        matchRepository.findEarliestCreatedAt())
+                .filter(Objects::nonNull)
+                .min(LocalDateTime::compareTo)
+                .map(earliest -> earliest.toLocalDate().atStartOfDay())
+                .orElse(null);
+    }
+
+    private static RegistryRollup bucket(Map<String, RegistryRollup> rows, RollupGranularity granularity,
+                                         LocalDate periodStart, RollupMetric metric, String dimension) {
+        String key = periodStart + "|" + metric + "|" + dimension;
+        return rows.computeIfAbsent(key, k -> new RegistryRollup(granularity, periodStart, metric, dimension));
+    }
+
+    private static String binFor(long hours) {
+        for (int i = 0; i < BIN_UPPER_HOURS.length; i++) {
+            if (hours < BIN_UPPER_HOURS[i]) {
+                return BIN_LABELS[i];
+            }
+        }
+        return BIN_LABELS[BIN_LABELS.length - 1];
+    }
+
+    private static String dimension(String value) {
+        return value == null || value.isBlank() ? UNKNOWN : value;
+    }
+
+    private static LocalDate weekStart(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
@@ -0,0 +1,214 @@
+package com.organlink.service;
+
+import com.organlink.entity.AvailabilityStatus;
+import com.organlink.entity.JobWatermark;
+import com.organlink.entity.OrganType;
+import com.organlink.entity.PatientStatus;
+import com.organlink.entity.PolicyStatus;
+import com.organlink.repository.DonorRepository;
+import com.organlink.repository.JobWatermarkRepository;
+import com.organlink.repository.PatientRepository;
+import com.organlink.repository.PolicyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Nightly change-driven re-match sweep
+ * Re-scores only the patient/donor pairs touched since the last watermark:
+ * new or updated donors, updated waiting patients, and newly IMPLEMENTED policies.
+ * Only the node holding the job's lease sweeps; patients that fail are swept again next time.
+ */
+@Service
+public class RematchSweepService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RematchSweepService.class);
+
+    private static final String JOB_NAME = "rematch-sweep";
+
+    @Autowired
+    private AIMatchingService aiMatchingService;
+
+    @Autowired
+    private DonorRepository donorRepository;
+
+    @Autowired
+    private PatientRepository patientRepository;
+
+    @Autowired
+    private PolicyRepository policyRepository;
+
+    @Autowired
+    private JobWatermarkRepository jobWatermarkRepository;
+
+    @Autowired
+    private JobLeaseService jobLeaseService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${organlink.rematch.initial-lookback-hours:24}")
+    private long initialLookbackHours;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Scheduled(cron = "${organlink.rematch.cron:0 30 2 * * *}")
+    public void scheduledSweep() {
+        runSweep();
+    }
+
+    /**
+     * Run one sweep; returns the number of new matches created, or -1 if a sweep is already running here or on another node
+     */
+    public int runSweep() {
+        if (!running.compareAndSet(false, true)) {
+            logger.warn("Re-match sweep already running, skipping");
+            return -1;
+        }
+        try {
+            // Capture the new watermark before reading so changes made during the sweep are picked up next time
+            LocalDateTime sweepStart = LocalDateTime.now();
+            Optional<JobWatermark> watermark = jobLeaseService.tryAcquire(JOB_NAME,
+                    () -> sweepStart.minusHours(initialLookbackHours));
+            if (watermark.isEmpty()) {
+                return -1;
+            }
+            try {
+                return doSweep(watermark.get(), sweepStart);
+            } finally {
+                jobLeaseService.release(JOB_NAME);
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private int doSweep(JobWatermark watermark, LocalDateTime sweepStart) {
+        LocalDateTime since = watermark.getWatermark();
+
+        // patient id -> donors to re-score and the earliest change that put the patient in this sweep
+        Map<Long, PatientWork> work = new HashMap<>();
+
+        // 1. Waiting patients whose record (urgency, organ, ...) changed: full re-score
+        for (Object[] row : patientRepository.findIdsByStatusAndUpdatedAfter(PatientStatus.WAITING, since)) {
+            work.computeIfAbsent((Long) row[0], id -> new PatientWork()).rescoreAll((LocalDateTime) row[1]);
+        }
+
+        // 2. Organs with newly IMPLEMENTED policies: every waiting patient for that organ
+        Map<String, LocalDateTime> policyOrgans = new HashMap<>();
+        for (Object[] row : policyRepository.findOrganTypesByStatusChangedSince(PolicyStatus.IMPLEMENTED, since)) {
+            policyOrgans.put((String) row[0], (LocalDateTime) row[1]);
+        }
+        if (!policyOrgans.isEmpty()) {
+            for (Object[] row : patientRepository.findIdsAndOrganByStatusAndOrganNeededIn(PatientStatus.WAITING, policyOrgans.keySet())) {
+                // The IN match is collation-dependent, so fall back to the earliest policy change of any organ
+                LocalDateTime changedAt = policyOrgans.getOrDefault((String) row[1],
+                        policyOrgans.values().stream().min(LocalDateTime::compareTo).orElse(since));
+                work.computeIfAbsent((Long) row[0], id -> new PatientWork()).rescoreAll(changedAt);
+            }
+        }
+
+        // 3. New or updated donors: only those donors against waiting patients needing one of their organs
+        Map<String, Map<Long, LocalDateTime>> changedDonorsByOrgan = new HashMap<>();
+        for (Object[] row : donorRepository.findChangedDonorOrganMasks(since, AvailabilityStatus.AVAILABLE)) {
+            for (String organ : OrganType.labelsOf((Long) row[1])) {
+                changedDonorsByOrgan.computeIfAbsent(organ, key -> new HashMap<>()).put((Long) row[0], (LocalDateTime) row[2]);
+            }
+        }
+        if (!changedDonorsByOrgan.isEmpty()) {
+            for (Object[] row : patientRepository.findIdsAndOrganByStatusAndOrganNeededIn(
+                    PatientStatus.WAITING, changedDonorsByOrgan.keySet())) {
+                // The IN match is collation-dependent ("kidney" = "Kidney"), so map back through the canonical label
+                OrganType organ = OrganType.find((String) row[1]);
+                Map<Long, LocalDateTime> donors = organ != null ? changedDonorsByOrgan.get(organ.getLabel()) : null;
+                if (donors == null) {
+                    continue;
+                }
+                PatientWork patientWork = work.computeIfAbsent((Long) row[0], id -> new PatientWork());
+                donors.forEach(patientWork::rescoreDonor);
+            }
+        }
+
+        logger.info("🔁 Re-match sweep since {}: {} patients affected ({} changed donors, {} policy organs)",
+                since, work.size(), changedDonorsByOrgan.values().stream().mapToInt(Map::size).sum(), policyOrgans.size());
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int newMatches = 0;
+        int failures = 0;
+        // Failed patients must come up again: the watermark stays before the earliest change they were swept for
+        LocalDateTime nextWatermark = sweepStart;
+        for (Map.Entry<Long, PatientWork> entry : work.entrySet()) {
+            PatientWork patientWork = entry.getValue();
+            try {
+                Integer created = transactionTemplate.execute(status -> {
+                    try {
+                        return aiMatchingService.rescoreMatchesForPatient(entry.getKey(), patientWork.donorIds);
+                    } catch (Exception e) {
+                        throw new RuntimeException(e.getMessage(), e);
+                    }
+                });
+                newMatches += created != null ? created : 0;
+            } catch (Exception e) {
+                failures++;
+                LocalDateTime retryFrom = patientWork.firstChange != null
+                        ? patientWork.firstChange.minus(1, ChronoUnit.MICROS) : since;
+                if (retryFrom.isBefore(nextWatermark)) {
+                    nextWatermark = retryFrom;
+                }
+                logger.warn("Re-match failed for patient {}: {}", entry.getKey(), e.getMessage());
+            }
+        }
+
+        // At worst a failure keeps the watermark where it was
+        if (nextWatermark.isAfter(since)) {
+            watermark.setWatermark(nextWatermark);
+        }
+        watermark.setLastRunAt(LocalDateTime.now());
+        watermark.setLastRunSummary(String.format("%d patients, %d new matches, %d failures",
+                work.size(), newMatches, failures));
+        jobWatermarkRepository.save(watermark);
+
+        logger.info("✅ Re-match sweep completed: {} (watermark {})", watermark.getLastRunSummary(), watermark.getWatermark());
+        return newMatches;
+    }
+
+    /**
+     * Donors to re-score for one patient (null means all candidates) and the earliest change behind them
+     */
+    private static class PatientWork {
+        private Set<Long> donorIds = new HashSet<>();
+        private LocalDateTime firstChange;
+
+        private void rescoreAll(LocalDateTime changedAt) {
+            donorIds = null;
+            changed(changedAt);
+        }
+
+        private void rescoreDonor(Long donorId, LocalDateTime changedAt) {
+            if (donorIds != null) {
+                donorIds.add(donorId);
+            }
+            changed(changedAt);
+        }
+
+        private void changed(LocalDateTime changedAt) {
+            if (changedAt != null && (firstChange == null || changedAt.isBefore(firstChange))) {
+                firstChange = changedAt;
+            }
+        }
+    }
+}
@@ -2,6 +2,9 @@ package com.organlink.service.impl;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.organlink.dto.CursorPage;
+import com.organlink.dto.MatchCandidate;
+import com.organlink.dto.MatchSummary;
 import com.organlink.entity.*;
 import com.organlink.repository.*;
 import com.organlink.service.AIMatchingService;
@@ -10,7 +13,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import weka.classifiers.Classifier;
 import weka.classifiers.trees.RandomForest;
 import weka.core.*;
@@ -20,6 +27,7 @@ import weka.core.converters.ConverterUtils.DataSource;
 import java.io.File;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -28,6 +36,8 @@ import java.util.stream.Collectors;
 @Service
 public class AiMatchingServiceImpl implements AIMatchingService {
 
+    private static final Logger logger = LoggerFactory.getLogger(AiMatchingServiceImpl.class);
+
     @Value("${ai.datasets.path}")
     private String datasetsPath;
 
@@ -49,13 +59,21 @@ public class AiMatchingServiceImpl implements AIMatchingService {
     @Autowired
     private MatchRepository matchRepository;
 
+    @Autowired
+    private HospitalRepository hospitalRepository;
+
     @Autowired
     private NotificationService notificationService;
 
     @Autowired
     private UserRepository userRepository;
 
-    private Classifier classifier;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private volatile Classifier classifier;
+
+    private volatile boolean modelReady = false;
 
     @Override
     public void trainModels() throws Exception {
@@ -82,20 +100,82 @@ public class AiMatchingServiceImpl implements AIMatchingService {
     }
 
     @Override
-    public List<Match> findBestMatchesForPatient(Long patientId) throws Exception {
-        if (this.classifier == null) {
-            try {
-                this.classifier = (Classifier) SerializationHelper.read(modelPath + "organlink_matching.model");
-            } catch (Exception e) {
-                System.out.println("Could not load pre-trained model. Training a new one...");
-                trainModels();
+    public void warmUp(int iterations) throws Exception {
+        long start = System.currentTimeMillis();
+        Classifier model = loadClassifier();
+
+        ArrayList<Attribute> attributes = createWekaAttributes();
+        Instances dataUnlabeled = new Instances("WarmupInstances", attributes, 0);
+        dataUnlabeled.setClassIndex(dataUnlabeled.numAttributes() - 1);
+
+        // Synthetic feature vectors spanning the ranges seen in real requests so the
+        // scoring and instance-building paths get JIT compiled before traffic arrives
+        Random random = new Random(42);
+        int urgencyLevels = UrgencyLevel.values().length;
+        double checksum = 0.0;
+        for (int i = 0; i < iterations; i++) {
+            DenseInstance instance = new DenseInstance(dataUnlabeled.numAttributes());
+            instance.setDataset(dataUnlabeled);
+            instance.setValue(0, 1 + random.nextInt(80));
+            instance.setValue(1, 18 + random.nextInt(60));
+            instance.setValue(2, random.nextBoolean() ? 1 : 0);
+            instance.setValue(3, random.nextInt(urgencyLevels));
+            instance.setValue(4, random.nextInt(2000));
+            instance.setValue(5, random.nextInt(4) * 5);
+            checksum += model.distributionForInstance(instance)[1];
+        }
+
+        modelReady = true;
+        logger.info("🔥 AI model warm-up completed: {} synthetic scores in {} ms (checksum {})",
+                iterations, System.currentTimeMillis() - start, String.format("%.2f", checksum));
+    }
+
+    @Override
+    public boolean isModelReady() {
+        return modelReady;
+    }
+
+    private Classifier loadModel() throws Exception {
+        Classifier model = loadClassifier();
+        // Covers a model loaded or trained lazily after a failed or disabled warm-up
+        modelReady = true;
+        return model;
+    }
+
+    private Classifier loadClassifier() throws Exception {
+        Classifier model = this.classifier;
+        if (model != null) {
+            return model;
+        }
+        synchronized (this) {
+            if (this.classifier == null) {
+                try {
+                    this.classifier = (Classifier) SerializationHelper.read(modelPath + "organlink_matching.model");
+                } catch (Exception e) {
+                    System.out.println("Could not load pre-trained model. Training a new one...");
+                    trainModels();
+                }
+            }
+            if (this.classifier == null) {
+                throw new Exception("AI model is not available: no saved model and no training dataset");
             }
+            return this.classifier;
         }
+    }
+
+    /**
+     * Scores, saves and notifies in one read-write transaction, so the patient and candidate reads run
+     * on the primary together with the writes and the summaries are built before the session closes
+     */
+    @Override
+    @Transactional
+    public List<MatchSummary> findBestMatchesForPatient(Long patientId) throws Exception {
+        Classifier model = loadModel();
 
         Patient patient = patientRepository.findById(patientId)
                 .orElseThrow(() -> new Exception("Patient not found with ID: " + patientId));
-        List<Donor> potentialDonors = donorRepository.findAllByOrganTypesContainingAndAvailabilityStatus(
-                patient.getOrganNeeded(), AvailabilityStatus.AVAILABLE);
+        List<MatchCandidate> candidates = donorRepository.findMatchCandidates(
+                OrganType.bitOf(patient.getOrganNeeded()), AvailabilityStatus.AVAILABLE);
 
         List<Policy> activePolicies = policyRepository.findActivePoliciesForOrgan(patient.getOrganNeeded(), PolicyStatus.IMPLEMENTED);
 
@@ -103,16 +183,33 @@ public class AiMatchingServiceImpl implements AIMatchingService {
         Instances dataUnlabeled = new Instances("TestInstances", attributes, 0);
         dataUnlabeled.setClassIndex(dataUnlabeled.numAttributes() - 1);
 
+        // A pair is matched at most once (uk_matches_patient_donor): pending pairs are re-scored in place
+        Map<Long, Match> existingByDonor = new HashMap<>();
+        for (Match existing : matchRepository.findByPatientIdOrderedByScore(patientId)) {
+            existingByDonor.putIfAbsent(existing.getDonor().getId(), existing);
+        }
+
         List<Match> potentialMatches = new ArrayList<>();
 
-        for (Donor donor : potentialDonors) {
-            DenseInstance instance = createInstanceForMatch(patient, donor, activePolicies, dataUnlabeled);
-            double matchProbability = this.classifier.distributionForInstance(instance)[1];
+        for (MatchCandidate candidate : candidates) {
+            Match existing = existingByDonor.get(candidate.getDonorId());
+            if (existing != null && existing.getStatus() != MatchStatus.PENDING) {
+                continue; // already accepted, rejected or closed
+            }
+
+            DenseInstance instance = createInstanceForMatch(patient, candidate, activePolicies, dataUnlabeled);
+            double matchProbability = model.distributionForInstance(instance)[1];
 
-            if (matchProbability >= matchingThreshold) {
+            if (existing != null) {
+                existing.setMatchScore(matchProbability);
+                if (matchProbability >= matchingThreshold) {
+                    potentialMatches.add(existing);
+                }
+            } else if (matchProbability >= matchingThreshold) {
                 Match match = new Match();
                 match.setPatient(patient);
-                match.setDonor(donor);
+                // Reference only; the donor row is loaded lazily for the few matches that are kept
+                match.setDonor(donorRepository.getReferenceById(candidate.getDonorId()));
                 match.setMatchScore(matchProbability);
                 match.setStatus(MatchStatus.PENDING);
                 match.setHospital(patient.getHospital());
@@ -122,40 +219,134 @@ public class AiMatchingServiceImpl implements AIMatchingService {
 
         potentialMatches.sort(Comparator.comparingDouble(Match::getMatchScore).reversed());
         List<Match> bestMatches = potentialMatches.stream().limit(10).collect(Collectors.toList());
+        // Hospitals already heard about the pairs that existed before
+        List<Match> newMatches = bestMatches.stream().filter(match -> match.getId() == null).collect(Collectors.toList());
 
         List<Match> savedMatches = matchRepository.saveAll(bestMatches);
 
-        // --- Create Cross-Hospital Notifications ---
+        notifyHospitals(newMatches, candidates);
+
+        return savedMatches.stream().map(MatchSummary::from).collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public int rescoreMatchesForPatient(Long patientId, Collection<Long> donorIds) throws Exception {
+        Classifier model = loadModel();
+
+        Patient patient = patientRepository.findById(patientId)
+                .orElseThrow(() -> new Exception("Patient not found with ID: " + patientId));
+        List<MatchCandidate> candidates = donorIds == null
+                ? donorRepository.findMatchCandidates(OrganType.bitOf(patient.getOrganNeeded()), AvailabilityStatus.AVAILABLE)
+                : donorRepository.findMatchCandidatesByIds(donorIds, AvailabilityStatus.AVAILABLE);
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+
+        List<Policy> activePolicies = policyRepository.findActivePoliciesForOrgan(patient.getOrganNeeded(), PolicyStatus.IMPLEMENTED);
+
+        ArrayList<Attribute> attributes = createWekaAttributes();
+        Instances dataUnlabeled = new Instances("RescoreInstances", attributes, 0);
+        dataUnlabeled.setClassIndex(dataUnlabeled.numAttributes() - 1);
+
+        // Existing pairs are updated in place instead of producing duplicate matches
+        Map<Long, Match> existingByDonor = new HashMap<>();
+        for (Match existing : matchRepository.findByPatientIdOrderedByScore(patientId)) {
+            existingByDonor.putIfAbsent(existing.getDonor().getId(), existing);
+        }
+
+        List<Match> updatedMatches = new ArrayList<>();
+        List<Match> newMatches = new ArrayList<>();
+        for (MatchCandidate candidate : candidates) {
+            Match existing = existingByDonor.get(candidate.getDonorId());
+            if (existing != null && existing.getStatus() != MatchStatus.PENDING) {
+                continue; // already accepted, rejected or closed
+            }
+
+            DenseInstance instance = createInstanceForMatch(patient, candidate, activePolicies, dataUnlabeled);
+            double matchProbability = model.distributionForInstance(instance)[1];
+
+            if (existing != null) {
+                existing.setMatchScore(matchProbability);
+                if (matchProbability < matchingThreshold) {
+                    existing.setStatus(MatchStatus.EXPIRED);
+                }
+                updatedMatches.add(existing);
+            } else if (matchProbability >= matchingThreshold) {
+                Match match = new Match();
+                match.setPatient(patient);
+                match.setDonor(donorRepository.getReferenceById(candidate.getDonorId()));
+                match.setMatchScore(matchProbability);
+                match.setStatus(MatchStatus.PENDING);
+                match.setHospital(patient.getHospital());
+                newMatches.add(match);
+            }
+        }
+
+        newMatches.sort(Comparator.comparingDouble(Match::getMatchScore).reversed());
+        List<Match> bestNewMatches = newMatches.stream().limit(10).collect(Collectors.toList());
+
+        matchRepository.saveAll(updatedMatches);
+        List<Match> savedMatches = matchRepository.saveAll(bestNewMatches);
+        notifyHospitals(savedMatches, candidates);
+
+        return savedMatches.size();
+    }
+
+    /**
+     * Notify the patient's hospital and, for cross-hospital matches, the donor's hospital
+     */
+    private void notifyHospitals(List<Match> savedMatches, List<MatchCandidate> candidates) {
+        if (savedMatches.isEmpty()) {
+            return;
+        }
+        // Donor names and hospitals come from the candidate projection; new matches only hold donor references
+        Map<Long, MatchCandidate> candidatesByDonor = candidates.stream()
+                .collect(Collectors.toMap(MatchCandidate::getDonorId, Function.identity(), (first, second) -> first));
+        // Hospitals are second-level cached, and each hospital user is looked up once per run
+        Map<Long, Hospital> hospitals = new HashMap<>();
+        Map<String, Optional<User>> hospitalUsers = new HashMap<>();
+
+        List<Notification> notifications = new ArrayList<>();
         for (Match match : savedMatches) {
+            MatchCandidate donor = candidatesByDonor.get(match.getDonor().getId());
+            Hospital donorHospital = hospitals.computeIfAbsent(donor.getHospitalId(), hospitalRepository::getReferenceById);
             // Notify the requesting hospital (where patient is)
-            User patientHospitalUser = userRepository.findByTenantId(match.getPatient().getHospital().getHospitalId())
-                .orElse(null);
+            User patientHospitalUser = hospitalUsers.computeIfAbsent(match.getPatient().getHospital().getHospitalId(),
+                    userRepository::findByTenantId).orElse(null);
             if (patientHospitalUser != null) {
                 String patientHospitalMessage = String.format("🎯 Match found for patient %s! Donor %s from %s hospital (Score: %.2f).",
                     match.getPatient().getFullName(), 
-                    match.getDonor().getFullName(), 
-                    match.getDonor().getHospital().getHospitalName(),
+                    donor.getFullName(), 
+                    donorHospital.getHospitalName(),
                     match.getMatchScore());
-                notificationService.createNotification(patientHospitalUser, patientHospitalMessage, "/hospital/ai-matching");
+                notifications.add(newNotification(patientHospitalUser, patientHospitalMessage));
             }
             
             // Notify the donor hospital (cross-hospital notification)
-            if (!match.getPatient().getHospital().getId().equals(match.getDonor().getHospital().getId())) {
-                User donorHospitalUser = userRepository.findByTenantId(match.getDonor().getHospital().getHospitalId())
-                    .orElse(null);
+            if (!match.getPatient().getHospital().getId().equals(donor.getHospitalId())) {
+                User donorHospitalUser = hospitalUsers.computeIfAbsent(donorHospital.getHospitalId(),
+                        userRepository::findByTenantId).orElse(null);
                 if (donorHospitalUser != null) {
                     String donorHospitalMessage = String.format("🏥 Your donor %s has a potential match! Patient %s from %s needs %s (Score: %.2f).",
-                        match.getDonor().getFullName(),
+                        donor.getFullName(),
                         match.getPatient().getFullName(),
                         match.getPatient().getHospital().getHospitalName(),
                         match.getPatient().getOrganNeeded(),
                         match.getMatchScore());
-                    notificationService.createNotification(donorHospitalUser, donorHospitalMessage, "/hospital/ai-matching");
+                    notifications.add(newNotification(donorHospitalUser, donorHospitalMessage));
                 }
             }
         }
+        notificationService.createNotifications(notifications);
+    }
 
-        return savedMatches;
+    private Notification newNotification(User user, String message) {
+        Notification notification = new Notification();
+        notification.setUser(user);
+        notification.setMessage(message);
+        notification.setLink("/hospital/ai-matching");
+        return notification;
     }
 
     private ArrayList<Attribute> createWekaAttributes() {
@@ -173,7 +364,7 @@ public class AiMatchingServiceImpl implements AIMatchingService {
         return attributes;
     }
 
-    private DenseInstance createInstanceForMatch(Patient patient, Donor donor, List<Policy> policies, Instances dataset) {
+    private DenseInstance createInstanceForMatch(Patient patient, MatchCandidate donor, List<Policy> policies, Instances dataset) {
         DenseInstance instance = new DenseInstance(dataset.numAttributes());
         instance.setDataset(dataset);
 
@@ -203,24 +394,22 @@ public class AiMatchingServiceImpl implements AIMatchingService {
     }
 
     @Override
-    public List<Match> findMatchesForPatient(Long patientId) throws Exception {
+    @Transactional
+    public List<MatchSummary> findMatchesForPatient(Long patientId) throws Exception {
         // This can be an alias for findBestMatchesForPatient
         return findBestMatchesForPatient(patientId);
     }
 
     @Override
-    public Optional<Match> getMatchById(String matchId) throws Exception {
-        try {
-            Long id = Long.parseLong(matchId);
-            return matchRepository.findById(id);
-        } catch (NumberFormatException e) {
-            throw new Exception("Invalid match ID format: " + matchId);
-        }
+    @Transactional(readOnly = true)
+    public Optional<MatchSummary> getMatchById(String matchId) throws Exception {
+        return findMatch(matchId).map(MatchSummary::from);
     }
 
     @Override
-    public Match acceptMatch(String matchId) throws Exception {
-        Optional<Match> matchOpt = getMatchById(matchId);
+    @Transactional
+    public MatchSummary acceptMatch(String matchId) throws Exception {
+        Optional<Match> matchOpt = findMatch(matchId);
         if (matchOpt.isEmpty()) {
             throw new Exception("Match not found: " + matchId);
         }
@@ -238,12 +427,13 @@ public class AiMatchingServiceImpl implements AIMatchingService {
         patient.setStatus(PatientStatus.MATCHED);
         patientRepository.save(patient);
         
-        return matchRepository.save(match);
+        return MatchSummary.from(matchRepository.save(match));
     }
 
     @Override
-    public Match rejectMatch(String matchId, String reason) throws Exception {
-        Optional<Match> matchOpt = getMatchById(matchId);
+    @Transactional
+    public MatchSummary rejectMatch(String matchId, String reason) throws Exception {
+        Optional<Match> matchOpt = findMatch(matchId);
         if (matchOpt.isEmpty()) {
             throw new Exception("Match not found: " + matchId);
         }
@@ -252,7 +442,16 @@ public class AiMatchingServiceImpl implements AIMatchingService {
         match.setStatus(MatchStatus.REJECTED);
         // Note: Rejection reason would need to be stored in a separate entity or field
         
-        return matchRepository.save(match);
+        return MatchSummary.from(matchRepository.save(match));
+    }
+
+    private Optional<Match> findMatch(String matchId) throws Exception {
+        try {
+            Long id = Long.parseLong(matchId);
+            return matchRepository.findWithPartiesById(id);
+        } catch (NumberFormatException e) {
+            throw new Exception("Invalid match ID format: " + matchId);
+        }
     }
     
     @Override
@@ -260,6 +459,19 @@ public class AiMatchingServiceImpl implements AIMatchingService {
         // Get matches where either patient or donor belongs to this hospital
         return matchRepository.findMatchesForHospital(hospitalId);
     }
+
+    @Override
+    public CursorPage<MatchSummary> getMatchPageForHospital(String hospitalId, MatchStatus status, String organType,
+                                                            Double minScore, String cursor, int size) throws Exception {
+        CursorPage.Cursor position = CursorPage.Cursor.decode(cursor);
+        // Fetch one extra row to know whether another page exists without counting
+        List<Match> rows = matchRepository.findMatchPageForHospital(hospitalId, status, organType, minScore,
+                position != null ? position.getCreatedAt() : null,
+                position != null ? position.getId() : null,
+                PageRequest.of(0, size + 1));
+        return CursorPage.of(rows, size, match -> new CursorPage.Cursor(match.getCreatedAt(), match.getId()))
+                .map(MatchSummary::from);
+    }
     
     @Override
     public int triggerMatchingForHospital(String hospitalId) throws Exception {
@@ -267,10 +479,18 @@ public class AiMatchingServiceImpl implements AIMatchingService {
         List<Patient> waitingPatients = patientRepository.findByHospitalHospitalIdAndStatus(hospitalId, PatientStatus.WAITING);
         
         int totalMatches = 0;
+        // One transaction per patient: a failure only rolls back that patient's matches
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
         
         for (Patient patient : waitingPatients) {
             try {
-                List<Match> matches = findBestMatchesForPatient(patient.getId());
+                List<MatchSummary> matches = transactionTemplate.execute(status -> {
+                    try {
+                        return findBestMatchesForPatient(patient.getId());
+                    } catch (Exception e) {
+                        throw new RuntimeException(e.getMessage(), e);
+                    }
+                });
                 totalMatches += matches.size();
             } catch (Exception e) {
                 System.err.println("Failed to find matches for patient " + patient.getId() + ": " + e.getMessage());
@@ -1,13 +1,23 @@
 package com.organlink.service.impl;
 
+import com.organlink.config.CacheConfig;
+import com.organlink.dto.DashboardEvent;
 import com.organlink.entity.Notification;
 import com.organlink.entity.User;
 import com.organlink.repository.NotificationRepository;
+import com.organlink.service.DashboardEventService;
 import com.organlink.service.NotificationService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class NotificationServiceImpl implements NotificationService {
@@ -15,13 +25,53 @@ public class NotificationServiceImpl implements NotificationService {
     @Autowired
     private NotificationRepository notificationRepository;
 
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private DashboardEventService dashboardEventService;
+
     @Override
+    @CacheEvict(cacheNames = CacheConfig.HOSPITAL_DASHBOARD, key = "#user.tenantId", condition = "#user?.tenantId != null")
     public void createNotification(User user, String message, String link) {
         Notification notification = new Notification();
         notification.setUser(user);
         notification.setMessage(message);
         notification.setLink(link);
         notificationRepository.save(notification);
+
+        if (user != null && user.getTenantId() != null) {
+            dashboardEventService.publish(DashboardEventService.hospitalChannel(user.getTenantId()),
+                    new DashboardEvent("notification").delta("unreadNotifications", 1));
+        }
+    }
+
+    /**
+     * Fan-out: saves all notifications in one transaction so the inserts go out as a JDBC batch
+     */
+    @Override
+    @Transactional
+    public void createNotifications(List<Notification> notifications) {
+        if (notifications == null || notifications.isEmpty()) {
+            return;
+        }
+        notificationRepository.saveAll(notifications);
+
+        Map<String, Integer> unreadByTenant = new HashMap<>();
+        for (Notification notification : notifications) {
+            User user = notification.getUser();
+            if (user != null && user.getTenantId() != null) {
+                unreadByTenant.merge(user.getTenantId(), 1, Integer::sum);
+            }
+        }
+        Cache dashboards = cacheManager.getCache(CacheConfig.HOSPITAL_DASHBOARD);
+        unreadByTenant.forEach((tenantId, count) -> {
+            if (dashboards != null) {
+                dashboards.evict(tenantId);
+            }
+            dashboardEventService.publish(DashboardEventService.hospitalChannel(tenantId),
+                    new DashboardEvent("notification").delta("unreadNotifications", count));
+        });
     }
 
     @Override
@@ -35,10 +85,33 @@ public class NotificationServiceImpl implements NotificationService {
     }
 
     @Override
+    public List<Notification> getRecentUnreadNotificationsForUser(Long userId, int limit) {
+        return notificationRepository.findByUserIdAndIsReadFalseOrderByCreatedAtDesc(userId, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public long countUnreadNotificationsForUser(Long userId) {
+        return notificationRepository.countByUserIdAndIsReadFalse(userId);
+    }
+
+    @Override
+    @Transactional
     public void markAsRead(Long notificationId) {
         Notification notification = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new RuntimeException("Notification not found"));
+        boolean wasUnread = !notification.isRead();
         notification.setRead(true);
         notificationRepository.save(notification);
+
+        // Unread count is part of the cached hospital dashboard
+        String tenantId = notification.getUser() != null ? notification.getUser().getTenantId() : null;
+        Cache dashboards = cacheManager.getCache(CacheConfig.HOSPITAL_DASHBOARD);
+        if (tenantId != null && dashboards != null) {
+            dashboards.evict(tenantId);
+        }
+        if (tenantId != null && wasUnread) {
+            dashboardEventService.publish(DashboardEventService.hospitalChannel(tenantId),
+                    new DashboardEvent("notification").delta("unreadNotifications", -1));
+        }
     }
 }
@@ -0,0 +1,67 @@
+-- Read-model and job tables added after the ddl-auto baseline: hospital dashboard counters, job watermarks,
+-- KPI reports and trend rollups. Databases baselined at V1 run this script; those that had ddl-auto=update
+-- create some of these tables already, so every statement is idempotent and indexes are declared inline.
+
+create table if not exists hospital_stats (
+    active_donors bigint not null,
+    active_matches bigint not null,
+    completed_matches bigint not null,
+    cross_hospital_matches bigint not null,
+    hospital_id bigint not null,
+    ipfs_records bigint not null,
+    reconciled_at datetime(6),
+    total_donors bigint not null,
+    total_patients bigint not null,
+    updated_at datetime(6),
+    verified_donors bigint not null,
+    verified_patients bigint not null,
+    waiting_patients bigint not null,
+    primary key (hospital_id)
+) engine=InnoDB;
+
+create table if not exists job_watermarks (
+    last_run_at datetime(6),
+    watermark datetime(6) not null,
+    job_name varchar(100) not null,
+    last_run_summary varchar(255),
+    primary key (job_name)
+) engine=InnoDB;
+
+create table if not exists kpi_reports (
+    cross_hospital_share float(53),
+    match_acceptance_rate float(53),
+    median_time_to_match_hours float(53),
+    period_end date not null,
+    period_start date not null,
+    verification_rate float(53),
+    accepted_matches bigint not null,
+    cross_hospital_matches bigint not null,
+    decided_matches bigint not null,
+    donor_registrations bigint not null,
+    generated_at datetime(6) not null,
+    id bigint not null auto_increment,
+    patient_registrations bigint not null,
+    total_matches bigint not null,
+    verified_registrations bigint not null,
+    batch_id varchar(36) not null,
+    hospital_id varchar(50) not null,
+    report_id varchar(80) not null,
+    hospital_name varchar(255),
+    primary key (id),
+    constraint UK_q1g4p7cxsrp9wgdh10my2amyx unique (report_id),
+    index idx_kpi_reports_batch (batch_id),
+    index idx_kpi_reports_hospital (hospital_id, generated_at)
+) engine=InnoDB;
+
+create table if not exists registry_rollups (
+    period_start date not null,
+    value_sum float(53) not null,
+    id bigint not null auto_increment,
+    value_count bigint not null,
+    granularity enum ('DAY','WEEK') not null,
+    metric enum ('DONOR_REGISTRATIONS','MATCHES_CREATED','PATIENT_REGISTRATIONS','TIME_TO_MATCH') not null,
+    dimension varchar(50) not null,
+    primary key (id),
+    constraint UKr6b7hur85ugbskq4ukpvdr7fi unique (granularity, period_start, metric, dimension),
+    index idx_rollups_metric_period (metric, granularity, period_start)
+) engine=InnoDB;
@@ -0,0 +1,388 @@
+-- Baseline schema: the tables created by hibernate.ddl-auto=update before the schema moved to Flyway.
+-- Databases that already have these tables are baselined at version 1 (spring.flyway.baseline-on-migrate),
+-- so this script only runs against empty schemas. Tables added since then belong in later migrations.
+
+create table blockchain_transactions (
+    block_number decimal(38,0),
+    confirmations integer,
+    gas_price decimal(38,0),
+    gas_used decimal(38,0),
+    transaction_fee decimal(38,0),
+    confirmed_at datetime(6),
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    block_hash varchar(255),
+    contract_address varchar(255),
+    entity_id varchar(255),
+    entity_type varchar(255),
+    error_message varchar(255),
+    event_data JSON,
+    event_type enum ('DONOR_REGISTERED','HOSPITAL_REGISTERED','MATCH_CREATED','ORGANIZATION_REGISTERED','PATIENT_REGISTERED','POLICY_CREATED','POLICY_VOTED','SIGNATURE_VERIFIED','TRANSPLANT_RECORDED') not null,
+    from_address varchar(255) not null,
+    initiator_id varchar(255),
+    initiator_type varchar(255),
+    status enum ('CONFIRMED','DROPPED','FAILED','PENDING','REPLACED') not null,
+    to_address varchar(255),
+    transaction_hash varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table donor_organ_types (
+    donor_id bigint not null,
+    organ_type varchar(255)
+) engine=InnoDB;
+
+create table donors (
+    bmi float(53),
+    consent_given bit not null,
+    date_of_birth date not null,
+    height float(53),
+    last_medical_checkup date,
+    next_checkup_due date,
+    signature_verified bit,
+    weight float(53),
+    created_at datetime(6) not null,
+    hospital_id bigint not null,
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    address varchar(255) not null,
+    alcohol_consumption varchar(255),
+    allergies varchar(255),
+    alternate_phone varchar(255),
+    availability_status enum ('AVAILABLE','MATCHED','NOT_AVAILABLE','TEMPORARILY_UNAVAILABLE'),
+    blockchain_tx_hash varchar(255),
+    blood_type varchar(255) not null,
+    city varchar(255) not null,
+    country varchar(255) not null,
+    current_medications TEXT,
+    donor_id varchar(255) not null,
+    email varchar(255) not null,
+    emergency_contact_name varchar(255),
+    emergency_contact_phone varchar(255),
+    emergency_contact_relationship varchar(255),
+    exercise_frequency varchar(255),
+    first_name varchar(255) not null,
+    gender enum ('FEMALE','MALE','OTHER','PREFER_NOT_TO_SAY') not null,
+    last_name varchar(255) not null,
+    medical_history TEXT,
+    phone varchar(255) not null,
+    signature_file_path varchar(255),
+    signature_ipfs_hash varchar(255),
+    smoking_status varchar(255),
+    state varchar(255) not null,
+    status enum ('ACTIVE','DECEASED','DONATED','INACTIVE','MATCHED','REGISTERED','SUSPENDED') not null,
+    zip_code varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table hospital_specializations (
+    hospital_id bigint not null,
+    specialization varchar(255)
+) engine=InnoDB;
+
+create table hospitals (
+    capacity integer,
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    last_activity datetime(6),
+    updated_at datetime(6),
+    hospital_name varchar(100) not null,
+    accreditation varchar(255),
+    address varchar(255) not null,
+    alternate_phone varchar(255),
+    authorization_tx_hash varchar(255),
+    blockchain_address varchar(255),
+    city varchar(255) not null,
+    contact_person varchar(255) not null,
+    country varchar(255) not null,
+    email varchar(255) not null,
+    hospital_id varchar(255) not null,
+    license_number varchar(255) not null,
+    phone varchar(255) not null,
+    state varchar(255) not null,
+    status enum ('ACTIVE','INACTIVE','SUSPENDED','UNDER_REVIEW') not null,
+    verification_status enum ('EXPIRED','PENDING','REJECTED','VERIFIED'),
+    zip_code varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table matches (
+    match_score float(53),
+    created_at datetime(6) not null,
+    donor_id bigint not null,
+    hospital_id bigint not null,
+    id bigint not null auto_increment,
+    patient_id bigint not null,
+    status enum ('ACCEPTED','CANCELLED','COMPLETED','EXPIRED','PENDING','REJECTED'),
+    primary key (id)
+) engine=InnoDB;
+
+create table notifications (
+    is_read bit not null,
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    user_id bigint not null,
+    link varchar(255),
+    message varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table organization_focus_areas (
+    organization_id bigint not null,
+    focus_area varchar(255)
+) engine=InnoDB;
+
+create table organizations (
+    voting_power integer,
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    last_activity datetime(6),
+    updated_at datetime(6),
+    organization_name varchar(100) not null,
+    address varchar(255),
+    alternate_phone varchar(255),
+    city varchar(255),
+    contact_person varchar(255) not null,
+    country varchar(255) not null,
+    description TEXT,
+    email varchar(255) not null,
+    organization_id varchar(255) not null,
+    organization_type varchar(255) not null,
+    phone varchar(255) not null,
+    registration_number varchar(255),
+    state varchar(255),
+    status enum ('ACTIVE','INACTIVE','SUSPENDED','UNDER_REVIEW') not null,
+    tax_id varchar(255),
+    verification_status enum ('EXPIRED','PENDING','REJECTED','VERIFIED'),
+    website varchar(255),
+    zip_code varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table patients (
+    bmi float(53),
+    consent_given bit not null,
+    date_of_birth date not null,
+    diagnosis_date date,
+    estimated_survival_time integer,
+    height float(53),
+    last_medical_checkup date,
+    next_checkup_due date,
+    priority_score float(53),
+    signature_verified bit,
+    waiting_list_date date,
+    weight float(53),
+    created_at datetime(6) not null,
+    hospital_id bigint not null,
+    id bigint not null auto_increment,
+    updated_at datetime(6),
+    address varchar(255) not null,
+    allergies varchar(255),
+    alternate_phone varchar(255),
+    blockchain_tx_hash varchar(255),
+    blood_type varchar(255) not null,
+    city varchar(255) not null,
+    country varchar(255) not null,
+    current_medications TEXT,
+    email varchar(255) not null,
+    emergency_contact_name varchar(255),
+    emergency_contact_phone varchar(255),
+    emergency_contact_relationship varchar(255),
+    financial_status varchar(255),
+    first_name varchar(255) not null,
+    gender enum ('FEMALE','MALE','OTHER','PREFER_NOT_TO_SAY') not null,
+    insurance_policy_number varchar(255),
+    insurance_provider varchar(255),
+    last_name varchar(255) not null,
+    medical_condition TEXT,
+    organ_needed varchar(255) not null,
+    patient_id varchar(255) not null,
+    phone varchar(255) not null,
+    signature_file_path varchar(255),
+    signature_ipfs_hash varchar(255),
+    state varchar(255) not null,
+    status enum ('ACTIVE','DECEASED','MATCHED','REGISTERED','REMOVED','SUSPENDED','TRANSPLANTED','WAITING') not null,
+    urgency_level enum ('CRITICAL','EMERGENCY','HIGH','LOW','MEDIUM') not null,
+    zip_code varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table policies (
+    approval_threshold float(53),
+    required_votes integer,
+    total_votes integer,
+    votes_against integer,
+    votes_for integer,
+    created_at datetime(6) not null,
+    expiry_date datetime(6),
+    id bigint not null auto_increment,
+    implementation_date datetime(6),
+    proposed_by_organization_id bigint not null,
+    updated_at datetime(6),
+    voting_end_date datetime(6),
+    voting_start_date datetime(6),
+    blockchain_tx_hash varchar(255),
+    description TEXT,
+    ipfs_hash varchar(255),
+    organ_type varchar(255) not null,
+    policy_data JSON,
+    policy_id varchar(255) not null,
+    smart_contract_address varchar(255),
+    status enum ('APPROVED','CANCELLED','DRAFT','EXPIRED','IMPLEMENTED','PENDING','REJECTED','VOTING') not null,
+    title varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table signature_records (
+    created_at datetime(6) not null,
+    entity_id bigint not null,
+    hospital_id bigint not null,
+    id bigint not null auto_increment,
+    blockchain_tx_hash varchar(255),
+    document_type varchar(255) not null,
+    entity_type varchar(255) not null,
+    ipfs_hash varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table users (
+    failed_login_attempts integer,
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    last_login datetime(6),
+    locked_until datetime(6),
+    updated_at datetime(6),
+    username varchar(50) not null,
+    email varchar(255) not null,
+    password varchar(255) not null,
+    role enum ('ADMIN','HOSPITAL','ORGANIZATION') not null,
+    status enum ('ACTIVE','DELETED','INACTIVE','SUSPENDED') not null,
+    tenant_id varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table votes (
+    voting_power integer,
+    created_at datetime(6) not null,
+    id bigint not null auto_increment,
+    organization_id bigint not null,
+    policy_id bigint not null,
+    blockchain_tx_hash varchar(255),
+    comment TEXT,
+    signature_hash varchar(255),
+    vote_type enum ('ABSTAIN','AGAINST','FOR') not null,
+    primary key (id)
+) engine=InnoDB;
+
+alter table blockchain_transactions 
+   add constraint UK_p634ahad8pjht0rqxixrykeu4 unique (transaction_hash);
+
+alter table donors 
+   add constraint UK_3g1t488hden3rt6jk5xlqwe0s unique (donor_id);
+
+alter table donors 
+   add constraint UK_nd8hep05at6gvti74686j88t3 unique (email);
+
+alter table hospitals 
+   add constraint UK_mu4lhu5fqa3pbbjiegpfmfgq0 unique (email);
+
+alter table hospitals 
+   add constraint UK_m2n2pmjok7iu1u9bpf6abhhws unique (hospital_id);
+
+alter table hospitals 
+   add constraint UK_1cm2jc0ygcwg1k67lk00t9yes unique (license_number);
+
+alter table organizations 
+   add constraint UK_pe8sgvd49hsasoq2kqav6nhkv unique (email);
+
+alter table organizations 
+   add constraint UK_773n3h2qlfni9xh5hkb6ekttp unique (organization_id);
+
+alter table organizations 
+   add constraint UK_mhqldi9y7l1xi86o2knpwu0yv unique (registration_number);
+
+alter table patients 
+   add constraint UK_a370hmxgv0l5c9panryr1ji7d unique (email);
+
+alter table patients 
+   add constraint UK_427e3ubwhw8n7a4id3mmrmjgj unique (patient_id);
+
+alter table policies 
+   add constraint UK_c1kt7jwu5mnheibrn3q8pcn4c unique (policy_id);
+
+alter table signature_records 
+   add constraint UK_23pkvahfs75dw5unyssscbvc9 unique (ipfs_hash);
+
+alter table users 
+   add constraint UK_r43af9ap4edm43mmtq01oddj6 unique (username);
+
+alter table users 
+   add constraint UK_6dotkott2kjsp8vw4d0m25fb7 unique (email);
+
+alter table votes 
+   add constraint UK5wje766rvjhqvk1c861so18q4 unique (policy_id, organization_id);
+
+alter table donor_organ_types 
+   add constraint FKsgknxkvb52h7s4mo9mrcrx7nm 
+   foreign key (donor_id) 
+   references donors (id);
+
+alter table donors 
+   add constraint FK4mjdwq7aan3lrl7vpr9f4wiry 
+   foreign key (hospital_id) 
+   references hospitals (id);
+
+alter table hospital_specializations 
+   add constraint FKmg1u46o71la23ridhcc7uq3gl 
+   foreign key (hospital_id) 
+   references hospitals (id);
+
+alter table matches 
+   add constraint FKdg0vo3bb7aemca65rbfgesp6c 
+   foreign key (donor_id) 
+   references donors (id);
+
+alter table matches 
+   add constraint FKsukbn3ci5t0kinh1bjp0knrkq 
+   foreign key (hospital_id) 
+   references hospitals (id);
+
+alter table matches 
+   add constraint FKu8xsabnitcmyxxixcitp4c6b 
+   foreign key (patient_id) 
+   references patients (id);
+
+alter table notifications 
+   add constraint FK9y21adhxn0ayjhfocscqox7bh 
+   foreign key (user_id) 
+   references users (id);
+
+alter table organization_focus_areas 
+   add constraint FK2gye0ocqhcl9ioeflyh4wyx36 
+   foreign key (organization_id) 
+   references organizations (id);
+
+alter table patients 
+   add constraint FKavr69byb4acg3j289g1oq08pk 
+   foreign key (hospital_id) 
+   references hospitals (id);
+
+alter table policies 
+   add constraint FKir7dfr8a2orbdnt4nwagc9xe4 
+   foreign key (proposed_by_organization_id) 
+   references organizations (id);
+
+alter table signature_records 
+   add constraint FKiakjgtohqejdx6mopgu0lnq3w 
+   foreign key (hospital_id) 
+   references hospitals (id);
+
+alter table votes 
+   add constraint FKolv9no5c48keylidna7dv9oov 
+   foreign key (organization_id) 
+   references organizations (id);
+
+alter table votes 
+   add constraint FKg1kr77i5m5qpmvb4wnt7tsmvi 
+   foreign key (policy_id) 
+   references policies (id);
@@ -0,0 +1,78 @@
+-- Composite indexes for the filters and sort orders used by com.organlink.repository.
+-- Foreign-key columns already have an index (InnoDB creates one per FK); composites that start with an
+-- FK column also serve the FK, so MySQL drops the implicit one.
+
+-- patients
+-- waiting list by urgency, critical patients, counts by status
+create index idx_patients_status_urgency on patients (status, urgency_level, waiting_list_date);
+-- re-match sweep: waiting patients changed since the last run
+create index idx_patients_status_updated on patients (status, updated_at);
+-- re-match sweep: waiting patients for a set of organs
+create index idx_patients_status_organ on patients (status, organ_needed);
+-- compatible waiting patients for an organ and blood type; lookups by organ
+create index idx_patients_organ_blood_status on patients (organ_needed, blood_type, status);
+create index idx_patients_blood_type on patients (blood_type);
+create index idx_patients_urgency on patients (urgency_level);
+-- hospital dashboard, recent registrations and hospital listings
+create index idx_patients_hospital_created on patients (hospital_id, created_at);
+create index idx_patients_hospital_status on patients (hospital_id, status);
+-- trend rollups and KPI reports over registration time
+create index idx_patients_created on patients (created_at);
+create index idx_patients_city_state on patients (city, state);
+
+-- donors
+-- matching candidates and the re-match sweep filter on availability (and change time)
+create index idx_donors_availability_updated on donors (availability_status, updated_at);
+create index idx_donors_hospital_created on donors (hospital_id, created_at);
+create index idx_donors_status on donors (status);
+create index idx_donors_created on donors (created_at);
+-- MEMBER OF d.organTypes: find donors by organ without scanning the collection table
+create index idx_donor_organ_types_organ on donor_organ_types (organ_type, donor_id);
+
+-- matches
+-- pending matches by score, counts by status
+create index idx_matches_status_score on matches (status, match_score);
+-- matches for a patient or donor ordered by score (also used by the hospital OR-filters via index merge)
+create index idx_matches_patient_score on matches (patient_id, match_score);
+create index idx_matches_donor_score on matches (donor_id, match_score);
+-- keyset paging, rollups and KPI reports
+create index idx_matches_created on matches (created_at, id);
+
+-- notifications: unread count and recent unread/all notifications for a user
+create index idx_notifications_user_read_created on notifications (user_id, is_read, created_at);
+
+-- blockchain_transactions
+-- stale pending transactions and status counts
+create index idx_blockchain_tx_status_created on blockchain_transactions (status, created_at);
+create index idx_blockchain_tx_event_type on blockchain_transactions (event_type);
+create index idx_blockchain_tx_entity on blockchain_transactions (entity_type, entity_id);
+create index idx_blockchain_tx_initiator on blockchain_transactions (initiator_type, initiator_id);
+create index idx_blockchain_tx_created on blockchain_transactions (created_at);
+
+-- hospitals
+create index idx_hospitals_status on hospitals (status);
+-- location pickers: countries -> states -> cities
+create index idx_hospitals_location on hospitals (country, state, city);
+create index idx_hospitals_state_city on hospitals (state, city);
+
+-- organizations
+create index idx_organizations_status on organizations (status);
+create index idx_organizations_country on organizations (country);
+create index idx_organizations_type on organizations (organization_type);
+
+-- policies
+-- active voting policies (and the pending-votes anti-join)
+create index idx_policies_status_voting_end on policies (status, voting_end_date);
+-- matching policy refresh: organ types whose policies changed
+create index idx_policies_status_updated on policies (status, updated_at);
+create index idx_policies_organ_status on policies (organ_type, status);
+create index idx_policies_created on policies (created_at);
+
+-- votes (policy lookups use the (policy_id, organization_id) unique key)
+create index idx_votes_organization_created on votes (organization_id, created_at);
+create index idx_votes_policy_type on votes (policy_id, vote_type);
+create index idx_votes_vote_type on votes (vote_type);
+
+-- users
+create index idx_users_tenant on users (tenant_id);
+create index idx_users_role on users (role);
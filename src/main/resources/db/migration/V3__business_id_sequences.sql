@@ -0,0 +1,9 @@
+-- Block-allocated business ID sequences (donor/patient IDs per hospital, hospital, organization, policy IDs).
+-- Rows are created on first use, seeded past the highest ID already issued for the prefix.
+
+create table business_id_sequences (
+    next_value bigint not null,
+    updated_at datetime(6),
+    sequence_name varchar(100) not null,
+    primary key (sequence_name)
+) engine=InnoDB;
@@ -0,0 +1,23 @@
+-- Pooled table generator for high-volume entities (matches, notifications, blockchain transactions,
+-- signature records, votes). Hibernate reserves 50 IDs per round trip, which lets it batch inserts.
+-- With the pooled optimizer the stored value is the upper bound of the next block, so each row is
+-- seeded one block past the current maximum ID.
+
+create table id_generators (
+    next_val bigint,
+    sequence_name varchar(255) not null,
+    primary key (sequence_name)
+) engine=InnoDB;
+
+insert into id_generators (sequence_name, next_val) select 'matches', coalesce(max(id), 0) + 50 from matches;
+insert into id_generators (sequence_name, next_val) select 'notifications', coalesce(max(id), 0) + 50 from notifications;
+insert into id_generators (sequence_name, next_val) select 'blockchain_transactions', coalesce(max(id), 0) + 50 from blockchain_transactions;
+insert into id_generators (sequence_name, next_val) select 'signature_records', coalesce(max(id), 0) + 50 from signature_records;
+insert into id_generators (sequence_name, next_val) select 'votes', coalesce(max(id), 0) + 50 from votes;
+
+-- IDs now come from the generator; AUTO_INCREMENT would hand out values inside reserved blocks
+alter table matches modify id bigint not null;
+alter table notifications modify id bigint not null;
+alter table blockchain_transactions modify id bigint not null;
+alter table signature_records modify id bigint not null;
+alter table votes modify id bigint not null;
@@ -0,0 +1,11 @@
+-- Donors and patients move to the pooled table generator (see V4) so bulk imports can batch their inserts.
+-- Each row is seeded one block past the current maximum ID.
+
+insert into id_generators (sequence_name, next_val) select 'donors', coalesce(max(id), 0) + 50 from donors;
+insert into id_generators (sequence_name, next_val) select 'patients', coalesce(max(id), 0) + 50 from patients;
+
+-- Both ids are referenced by foreign keys (matches, donor_organ_types); the type itself does not change
+set foreign_key_checks = 0;
+alter table donors modify id bigint not null;
+alter table patients modify id bigint not null;
+set foreign_key_checks = 1;
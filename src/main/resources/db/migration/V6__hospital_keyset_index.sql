@@ -0,0 +1,3 @@
+-- Keyset pagination of the admin hospital listing: ORDER BY created_at DESC, id DESC
+-- (donors, patients and policies are covered by the created_at indexes from V2; InnoDB appends the id)
+create index idx_hospitals_created on hospitals (created_at, id);
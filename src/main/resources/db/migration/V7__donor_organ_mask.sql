@@ -0,0 +1,41 @@
+-- Donor organ types move from the donor_organ_types element collection to a bitmask on donors
+-- (bit values from com.organlink.entity.OrganType). Candidate searches become a single-table predicate
+-- "availability_status = ? and (organ_types_mask & ?) <> 0".
+
+alter table donors add column organ_types_mask bigint not null default 0;
+
+-- Same normalisation as OrganType.find: case, spaces, hyphens and a plural 's' are ignored
+update donors
+set organ_types_mask = coalesce((
+    select bit_or(case upper(replace(replace(trim(organ_type), ' ', '_'), '-', '_'))
+                  when 'KIDNEY' then 1 when 'KIDNEYS' then 1
+                  when 'LIVER' then 2 when 'LIVERS' then 2
+                  when 'HEART' then 4 when 'HEARTS' then 4
+                  when 'LUNG' then 8 when 'LUNGS' then 8
+                  when 'PANCREAS' then 16
+                  when 'INTESTINE' then 32 when 'INTESTINES' then 32
+                  when 'CORNEA' then 64 when 'CORNEAS' then 64
+                  when 'SKIN' then 128
+                  when 'BONE' then 256 when 'BONES' then 256
+                  when 'BONE_MARROW' then 512
+                  when 'HEART_VALVE' then 1024 when 'HEART_VALVES' then 1024
+              end)
+    from donor_organ_types o
+    where o.donor_id = donors.id
+), 0);
+
+-- Matching candidates: equality on availability, the mask test is evaluated on index entries
+-- (index condition pushdown) rather than on full rows
+create index idx_donors_availability_organs on donors (availability_status, organ_types_mask);
+
+-- The collection table is no longer mapped. Rows that converted are removed; anything OrganType does not
+-- recognise is kept, detached from donors, for manual review before a later migration drops the table.
+drop index idx_donor_organ_types_organ on donor_organ_types;
+alter table donor_organ_types drop foreign key FKsgknxkvb52h7s4mo9mrcrx7nm;
+delete from donor_organ_types
+where upper(replace(replace(trim(organ_type), ' ', '_'), '-', '_')) in
+      ('KIDNEY', 'KIDNEYS', 'LIVER', 'LIVERS', 'HEART', 'HEARTS', 'LUNG', 'LUNGS', 'PANCREAS',
+       'INTESTINE', 'INTESTINES', 'CORNEA', 'CORNEAS', 'SKIN', 'BONE', 'BONES', 'BONE_MARROW',
+       'HEART_VALVE', 'HEART_VALVES')
+   or organ_type is null;
+alter table donor_organ_types rename to legacy_donor_organ_types;
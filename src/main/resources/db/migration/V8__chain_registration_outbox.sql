@@ -0,0 +1,24 @@
+-- Durable outbox for deferred blockchain registrations of imported donors/patients. Entries are written in
+-- the import's chunk transaction and deleted once registered; FAILED entries are kept for review.
+
+create table chain_registration_outbox (
+    attempts integer not null,
+    created_at datetime(6) not null,
+    id bigint not null,
+    next_attempt_at datetime(6) not null,
+    entity_type varchar(20) not null,
+    entity_id varchar(100) not null,
+    last_error varchar(500),
+    blood_type varchar(255),
+    full_name varchar(255),
+    organ_needed varchar(255),
+    signature_ipfs_hash varchar(255),
+    urgency_level varchar(255),
+    status enum ('CONFIRMED','DROPPED','FAILED','PENDING','REPLACED') not null,
+    primary key (id)
+) engine=InnoDB;
+
+-- Workers claim due PENDING entries in next_attempt_at order
+create index idx_chain_outbox_due on chain_registration_outbox (status, next_attempt_at);
+
+insert into id_generators (sequence_name, next_val) values ('chain_registration_outbox', 50);
@@ -0,0 +1,20 @@
+-- Cross-node lease for scheduled jobs: the node holding a job's row runs it until locked_until.
+alter table job_watermarks
+    add column locked_by varchar(100),
+    add column locked_until datetime(6);
+
+-- One match per patient/donor pair. Overlapping sweeps used to insert the same pair twice; keep the
+-- most advanced row of each pair (decided before pending, then the oldest) and drop the rest.
+delete m from matches m
+join (
+    select id from (
+        select id, row_number() over (
+                   partition by patient_id, donor_id
+                   order by case status when 'COMPLETED' then 0 when 'ACCEPTED' then 1 when 'REJECTED' then 2
+                                        when 'PENDING' then 3 else 4 end, id) as pair_rank
+        from matches
+    ) ranked
+    where pair_rank > 1
+) duplicates on duplicates.id = m.id;
+
+alter table matches add constraint uk_matches_patient_donor unique (patient_id, donor_id);
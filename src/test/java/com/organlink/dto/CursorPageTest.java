@@ -0,0 +1,90 @@
+package com.organlink.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CursorPageTest {
+
+    @Test
+    void cursorRoundTripsThroughEncodeAndDecode() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 9, 14, 5, 7, 123_456_000);
+        CursorPage.Cursor decoded = CursorPage.Cursor.decode(new CursorPage.Cursor(createdAt, 42L).encode());
+
+        assertEquals(createdAt, decoded.getCreatedAt());
+        assertEquals(42L, decoded.getId());
+    }
+
+    @Test
+    void cursorWithoutFractionalSecondsRoundTrips() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+        CursorPage.Cursor decoded = CursorPage.Cursor.decode(new CursorPage.Cursor(createdAt, Long.MAX_VALUE).encode());
+
+        assertEquals(createdAt, decoded.getCreatedAt());
+        assertEquals(Long.MAX_VALUE, decoded.getId());
+    }
+
+    @Test
+    void encodedCursorIsUrlSafe() {
+        String encoded = new CursorPage.Cursor(LocalDateTime.of(2024, 12, 31, 23, 59, 59, 999_999_000), 1L).encode();
+
+        assertTrue(encoded.matches("[A-Za-z0-9_-]+"), encoded);
+    }
+
+    @Test
+    void missingCursorDecodesToNull() {
+        assertNull(CursorPage.Cursor.decode(null));
+        assertNull(CursorPage.Cursor.decode(""));
+        assertNull(CursorPage.Cursor.decode("  "));
+    }
+
+    @Test
+    void malformedCursorsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> CursorPage.Cursor.decode("not base64!"));
+        assertThrows(IllegalArgumentException.class, () -> CursorPage.Cursor.decode(encodeRaw("no-separator")));
+        assertThrows(IllegalArgumentException.class, () -> CursorPage.Cursor.decode(encodeRaw("yesterday|5")));
+        assertThrows(IllegalArgumentException.class, () -> CursorPage.Cursor.decode(encodeRaw("2024-01-01T00:00|abc")));
+    }
+
+    @Test
+    void extraRowSignalsAnotherPage() {
+        CursorPage<Long> page = CursorPage.of(List.of(5L, 4L, 3L), 2, id -> new CursorPage.Cursor(LocalDateTime.of(2024, 1, 1, 0, 0), id));
+
+        assertEquals(List.of(5L, 4L), page.getItems());
+        assertTrue(page.isHasMore());
+        assertEquals(2, page.getSize());
+        assertEquals(4L, CursorPage.Cursor.decode(page.getNextCursor()).getId());
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        CursorPage<Long> page = CursorPage.of(List.of(2L, 1L), 2, id -> new CursorPage.Cursor(LocalDateTime.of(2024, 1, 1, 0, 0), id));
+
+        assertEquals(List.of(2L, 1L), page.getItems());
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void mapKeepsThePosition() {
+        CursorPage<Long> page = CursorPage.of(List.of(3L, 2L), 1, id -> new CursorPage.Cursor(LocalDateTime.of(2024, 1, 1, 0, 0), id));
+        CursorPage<String> mapped = page.map(id -> "#" + id);
+
+        assertEquals(List.of("#3"), mapped.getItems());
+        assertEquals(page.getNextCursor(), mapped.getNextCursor());
+        assertTrue(mapped.isHasMore());
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
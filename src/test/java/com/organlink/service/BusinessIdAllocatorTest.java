@@ -0,0 +1,164 @@
+package com.organlink.service;
+
+import com.organlink.entity.BusinessIdSequence;
+import com.organlink.repository.BusinessIdSequenceRepository;
+import com.organlink.repository.DonorRepository;
+import com.organlink.repository.HospitalRepository;
+import com.organlink.repository.PolicyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Year;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BusinessIdAllocatorTest {
+
+    private static final int BLOCK_SIZE = 3;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private BusinessIdSequenceRepository sequenceRepository;
+
+    @Mock
+    private DonorRepository donorRepository;
+
+    @Mock
+    private HospitalRepository hospitalRepository;
+
+    @Mock
+    private PolicyRepository policyRepository;
+
+    private BusinessIdAllocator allocator;
+
+    @BeforeEach
+    void setUp() {
+        allocator = new BusinessIdAllocator(transactionManager, BLOCK_SIZE);
+        ReflectionTestUtils.setField(allocator, "sequenceRepository", sequenceRepository);
+        ReflectionTestUtils.setField(allocator, "donorRepository", donorRepository);
+        ReflectionTestUtils.setField(allocator, "hospitalRepository", hospitalRepository);
+        ReflectionTestUtils.setField(allocator, "policyRepository", policyRepository);
+    }
+
+    @Test
+    void firstUseSeedsAfterTheHighestNumericSuffix() {
+        when(sequenceRepository.findForUpdate("DONOR:HOSP001")).thenReturn(Optional.empty());
+        when(donorRepository.findDonorIdsStartingWith("HOSP001-DON-"))
+                .thenReturn(List.of("HOSP001-DON-0007", "HOSP001-DON-0012", "HOSP001-DON-LEGACY", "HOSP001-DON-"));
+
+        assertEquals("HOSP001-DON-0013", allocator.nextDonorId("HOSP001"));
+
+        ArgumentCaptor<BusinessIdSequence> saved = ArgumentCaptor.forClass(BusinessIdSequence.class);
+        verify(sequenceRepository).saveAndFlush(saved.capture());
+        assertEquals("DONOR:HOSP001", saved.getValue().getSequenceName());
+        assertEquals(13 + BLOCK_SIZE, saved.getValue().getNextValue());
+    }
+
+    @Test
+    void emptyPrefixStartsAtOne() {
+        when(sequenceRepository.findForUpdate("HOSPITAL")).thenReturn(Optional.empty());
+        when(hospitalRepository.findHospitalIdsStartingWith("HOSP")).thenReturn(List.of());
+
+        assertEquals("HOSP001", allocator.nextHospitalId());
+    }
+
+    @Test
+    void valuesOfABlockAreServedFromMemoryThenTheRowIsAdvanced() {
+        BusinessIdSequence sequence = new BusinessIdSequence("LICENSE", 40);
+        when(sequenceRepository.findForUpdate("LICENSE")).thenReturn(Optional.of(sequence));
+
+        assertEquals("LIC000040", allocator.nextLicenseNumber());
+        assertEquals("LIC000041", allocator.nextLicenseNumber());
+        assertEquals("LIC000042", allocator.nextLicenseNumber());
+        verify(sequenceRepository, times(1)).findForUpdate("LICENSE");
+        assertEquals(43, sequence.getNextValue());
+
+        // Block used up: reserve the next one from the row
+        assertEquals("LIC000043", allocator.nextLicenseNumber());
+        verify(sequenceRepository, times(2)).findForUpdate("LICENSE");
+        assertEquals(46, sequence.getNextValue());
+        verify(hospitalRepository, never()).findLicenseNumbersStartingWith(any());
+    }
+
+    @Test
+    void sequencesAreIndependentPerHospital() {
+        when(sequenceRepository.findForUpdate("DONOR:HOSP001")).thenReturn(Optional.of(new BusinessIdSequence("DONOR:HOSP001", 5)));
+        when(sequenceRepository.findForUpdate("DONOR:HOSP002")).thenReturn(Optional.of(new BusinessIdSequence("DONOR:HOSP002", 90)));
+
+        assertEquals("HOSP001-DON-0005", allocator.nextDonorId("HOSP001"));
+        assertEquals("HOSP002-DON-0090", allocator.nextDonorId("HOSP002"));
+        assertEquals("HOSP001-DON-0006", allocator.nextDonorId("HOSP001"));
+    }
+
+    @Test
+    void policyIdsAreScopedToTheCurrentYear() {
+        String year = String.valueOf(Year.now().getValue());
+        when(sequenceRepository.findForUpdate("POLICY:" + year)).thenReturn(Optional.empty());
+        when(policyRepository.findPolicyIdsStartingWith("POL-" + year + "-")).thenReturn(List.of("POL-" + year + "-004"));
+
+        assertEquals("POL-" + year + "-005", allocator.nextPolicyId());
+    }
+
+    @Test
+    void concurrentSeedingRetriesAgainstTheExistingRow() {
+        when(sequenceRepository.findForUpdate("HOSPITAL"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(new BusinessIdSequence("HOSPITAL", 8)));
+        when(hospitalRepository.findHospitalIdsStartingWith("HOSP")).thenReturn(List.of("HOSP004"));
+        when(sequenceRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        assertEquals("HOSP008", allocator.nextHospitalId());
+    }
+
+    @Test
+    void givesUpAfterRepeatedConflicts() {
+        when(sequenceRepository.findForUpdate("HOSPITAL")).thenReturn(Optional.empty());
+        when(hospitalRepository.findHospitalIdsStartingWith("HOSP")).thenReturn(List.of());
+        when(sequenceRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        assertThrows(RuntimeException.class, () -> allocator.nextHospitalId());
+        verify(sequenceRepository, times(3)).saveAndFlush(any());
+    }
+
+    @Test
+    void concurrentCallersNeverReceiveTheSameId() throws Exception {
+        BusinessIdSequence sequence = new BusinessIdSequence("DONOR:HOSP001", 1);
+        when(sequenceRepository.findForUpdate("DONOR:HOSP001")).thenReturn(Optional.of(sequence));
+
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 200; i++) {
+            pool.submit(() -> ids.add(allocator.nextDonorId("HOSP001")));
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(200, ids.size());
+        assertTrue(ids.contains("HOSP001-DON-0001"));
+        assertTrue(ids.contains("HOSP001-DON-0200"));
+    }
+}
@@ -0,0 +1,143 @@
+package com.organlink.service;
+
+import com.organlink.dto.AnalyticsQuery;
+import com.organlink.dto.AnalyticsResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ColumnarTableTest {
+
+    private static ColumnarTable patients() {
+        return ColumnarTable.builder("patients", List.of("organ", "bloodType", "urgency"), List.of("waitingDays"))
+                .addRow(new String[] {"kidney", "O+", "HIGH"}, new double[] {10})
+                .addRow(new String[] {"kidney", "A+", "HIGH"}, new double[] {20})
+                .addRow(new String[] {"liver", "O+", "LOW"}, new double[] {30})
+                .addRow(new String[] {"kidney", "O+", "HIGH"}, new double[] {Double.NaN})
+                .addRow(new String[] {null, "AB-", " "}, new double[] {5})
+                .build();
+    }
+
+    private static AnalyticsQuery query(List<String> groupBy, String measure) {
+        AnalyticsQuery query = new AnalyticsQuery();
+        query.setGroupBy(groupBy);
+        query.setMeasure(measure);
+        return query;
+    }
+
+    private static Map<Map<String, String>, AnalyticsResult.Group> byKey(AnalyticsResult result) {
+        return result.getGroups().stream().collect(Collectors.toMap(AnalyticsResult.Group::getKey, group -> group));
+    }
+
+    @Test
+    void dictionaryEncodesDimensionsAndMapsBlanksToUnknown() {
+        Map<String, Object> schema = patients().describe();
+
+        assertEquals(5, schema.get("rows"));
+        assertEquals(Map.of("organ", 3, "bloodType", 3, "urgency", 3), schema.get("dimensions"));
+        assertEquals(List.of("waitingDays"), schema.get("measures"));
+    }
+
+    @Test
+    void groupsOnSeveralDimensionsDecodeBackToTheirValues() {
+        AnalyticsResult result = patients().aggregate(query(List.of("organ", "bloodType", "urgency"), "waitingDays"));
+        Map<Map<String, String>, AnalyticsResult.Group> groups = byKey(result);
+
+        assertEquals(5, result.getRowsMatched());
+        assertEquals(4, groups.size());
+
+        AnalyticsResult.Group kidneyO = groups.get(Map.of("organ", "kidney", "bloodType", "O+", "urgency", "HIGH"));
+        assertEquals(2, kidneyO.getCount());
+        // The NaN row is counted but does not contribute to the measure
+        assertEquals(10.0, kidneyO.getSum());
+        assertEquals(10.0, kidneyO.getAvg());
+
+        assertEquals(1, groups.get(Map.of("organ", "kidney", "bloodType", "A+", "urgency", "HIGH")).getCount());
+        assertEquals(1, groups.get(Map.of("organ", "liver", "bloodType", "O+", "urgency", "LOW")).getCount());
+        assertEquals(1, groups.get(Map.of("organ", ColumnarTable.UNKNOWN, "bloodType", "AB-",
+                "urgency", ColumnarTable.UNKNOWN)).getCount());
+    }
+
+    @Test
+    void groupsAreOrderedByCountAndLimited() {
+        AnalyticsQuery query = query(List.of("organ"), "waitingDays");
+        query.setLimit(1);
+
+        AnalyticsResult result = patients().aggregate(query);
+
+        assertEquals(1, result.getGroups().size());
+        AnalyticsResult.Group kidney = result.getGroups().get(0);
+        assertEquals(Map.of("organ", "kidney"), kidney.getKey());
+        assertEquals(3, kidney.getCount());
+        assertEquals(10.0, kidney.getMin());
+        assertEquals(20.0, kidney.getMax());
+        assertEquals(15.0, kidney.getAvg());
+    }
+
+    @Test
+    void filtersAndRangesRestrictTheScannedRows() {
+        AnalyticsQuery query = query(List.of("bloodType"), "waitingDays");
+        query.getFilters().put("organ", List.of("kidney", "liver"));
+        AnalyticsQuery.Range range = new AnalyticsQuery.Range();
+        range.setMin(15.0);
+        query.getRanges().put("waitingDays", range);
+
+        AnalyticsResult result = patients().aggregate(query);
+        Map<Map<String, String>, AnalyticsResult.Group> groups = byKey(result);
+
+        // NaN never satisfies a range
+        assertEquals(2, result.getRowsMatched());
+        assertEquals(1, groups.get(Map.of("bloodType", "A+")).getCount());
+        assertEquals(1, groups.get(Map.of("bloodType", "O+")).getCount());
+    }
+
+    @Test
+    void filterOnUnseenValueMatchesNothing() {
+        AnalyticsQuery query = query(List.of(), null);
+        query.getFilters().put("organ", List.of("heart"));
+
+        AnalyticsResult result = patients().aggregate(query);
+
+        assertEquals(0, result.getRowsMatched());
+        assertEquals(0, result.getGroups().size());
+    }
+
+    @Test
+    void withoutGroupByEverythingFallsIntoOneGroup() {
+        AnalyticsResult result = patients().aggregate(query(List.of(), null));
+
+        assertEquals(1, result.getGroups().size());
+        assertEquals(5, result.getGroups().get(0).getCount());
+        assertEquals(Map.of(), result.getGroups().get(0).getKey());
+        assertNull(result.getGroups().get(0).getSum());
+    }
+
+    @Test
+    void builderGrowsPastItsInitialCapacity() {
+        ColumnarTable.Builder builder = ColumnarTable.builder("big", List.of("parity"), List.of("value"));
+        for (int i = 0; i < 5000; i++) {
+            builder.addRow(new String[] {i % 2 == 0 ? "even" : "odd"}, new double[] {i});
+        }
+
+        Map<Map<String, String>, AnalyticsResult.Group> groups = byKey(builder.build().aggregate(query(List.of("parity"), "value")));
+
+        assertEquals(2500, groups.get(Map.of("parity", "even")).getCount());
+        assertEquals(4999.0, groups.get(Map.of("parity", "odd")).getMax());
+    }
+
+    @Test
+    void rejectsUnknownColumnsAndTooManyGroupByDimensions() {
+        ColumnarTable table = patients();
+
+        assertThrows(RuntimeException.class, () -> table.aggregate(query(List.of("city"), null)));
+        assertThrows(RuntimeException.class, () -> table.aggregate(query(List.of(), "age")));
+        assertThrows(RuntimeException.class, () -> table.aggregate(
+                query(List.of("organ", "bloodType", "urgency", "organ", "bloodType"), null)));
+    }
+}
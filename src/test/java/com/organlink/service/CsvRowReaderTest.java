@@ -0,0 +1,95 @@
+package com.organlink.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CsvRowReaderTest {
+
+    @Test
+    void headerNamesAreNormalized() throws IOException {
+        List<RegistryImportService.RawRow> rows = read("Donor_ID,First Name,date-of-birth\nD1,Ann,1980-01-01\n");
+
+        assertEquals(1, rows.size());
+        assertEquals(Map.of("donorid", "D1", "firstname", "Ann", "dateofbirth", "1980-01-01"), rows.get(0).values());
+    }
+
+    @Test
+    void byteOrderMarkIsStrippedFromTheFirstColumn() throws IOException {
+        List<RegistryImportService.RawRow> rows = read("\uFEFFdonor_id,city\nD1,Pune\n");
+
+        assertEquals("D1", rows.get(0).values().get("donorid"));
+    }
+
+    @Test
+    void quotedFieldsKeepSeparatorsEscapedQuotesAndLineBreaks() throws IOException {
+        List<RegistryImportService.RawRow> rows = read("name,address,note\n\"Last, \"\"Q\"\"\",\"1 Main\r\nSt\",\"\"\n");
+
+        assertEquals(1, rows.size());
+        Map<String, String> values = rows.get(0).values();
+        assertEquals("Last, \"Q\"", values.get("name"));
+        assertEquals("1 Main\r\nSt", values.get("address"));
+        assertEquals("", values.get("note"));
+    }
+
+    @Test
+    void crlfLineEndingsAndBlankLinesAreIgnored() throws IOException {
+        List<RegistryImportService.RawRow> rows = read("a,b\r\n1,2\r\n\r\n\n3,4\r\n\n");
+
+        assertEquals(2, rows.size());
+        assertEquals(Map.of("a", "1", "b", "2"), rows.get(0).values());
+        assertEquals(Map.of("a", "3", "b", "4"), rows.get(1).values());
+        assertEquals(2, rows.get(1).number());
+    }
+
+    @Test
+    void lastRowWithoutTrailingNewlineIsRead() throws IOException {
+        List<RegistryImportService.RawRow> rows = read("a,b\n1,2");
+
+        assertEquals(Map.of("a", "1", "b", "2"), rows.get(0).values());
+    }
+
+    @Test
+    void wrongColumnCountIsReportedForThatRowOnly() throws IOException {
+        List<RegistryImportService.RawRow> rows = read("a,b\nonly\n1,2,3\n4,5\n");
+
+        assertEquals(3, rows.size());
+        assertTrue(rows.get(0).values().isEmpty());
+        assertEquals("Expected 2 columns but found 1", rows.get(0).error());
+        assertEquals("Expected 2 columns but found 3", rows.get(1).error());
+        assertNull(rows.get(2).error());
+        assertEquals(3, rows.get(2).number());
+    }
+
+    @Test
+    void emptyUploadIsRejected() {
+        assertThrows(RuntimeException.class, () -> read(""));
+    }
+
+    @Test
+    void headerOnlyUploadHasNoRows() throws IOException {
+        assertTrue(read("a,b\n").isEmpty());
+    }
+
+    private static List<RegistryImportService.RawRow> read(String csv) throws IOException {
+        List<RegistryImportService.RawRow> rows = new ArrayList<>();
+        try (RegistryImportService.CsvRowReader reader =
+                     new RegistryImportService.CsvRowReader(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)))) {
+            RegistryImportService.RawRow row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+}